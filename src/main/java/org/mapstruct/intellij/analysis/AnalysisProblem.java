@@ -0,0 +1,50 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.analysis;
+
+import java.util.Comparator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A problem found by the {@link MapStructAnalyzer}.
+ *
+ * @param ruleId the short name of the inspection that reported the problem
+ * @param ruleName the display name of the inspection that reported the problem
+ * @param level the level of the problem
+ * @param message the description of the problem, without HTML
+ * @param path the path of the file, relative to the project directory if the file is inside of it
+ * @param line the 1-based line of the problem
+ * @param column the 1-based column of the problem
+ */
+public record AnalysisProblem(@NotNull String ruleId, @NotNull String ruleName, @NotNull Level level,
+                              @NotNull String message, @NotNull String path, int line, int column) {
+
+    static final Comparator<AnalysisProblem> ORDER = Comparator.comparing( AnalysisProblem::path )
+        .thenComparingInt( AnalysisProblem::line )
+        .thenComparingInt( AnalysisProblem::column )
+        .thenComparing( AnalysisProblem::ruleId );
+
+    /**
+     * The level of a problem, named like the levels of SARIF.
+     */
+    public enum Level {
+        ERROR( "error" ),
+        WARNING( "warning" ),
+        NOTE( "note" );
+
+        private final String sarifLevel;
+
+        Level(String sarifLevel) {
+            this.sarifLevel = sarifLevel;
+        }
+
+        @NotNull
+        public String getSarifLevel() {
+            return sarifLevel;
+        }
+    }
+}
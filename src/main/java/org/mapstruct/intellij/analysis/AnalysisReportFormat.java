@@ -0,0 +1,181 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.analysis;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The formats in which the problems found by the {@link MapStructAnalyzer} can be written.
+ */
+public enum AnalysisReportFormat {
+
+    /**
+     * A flat JSON list of the problems.
+     */
+    JSON {
+        @NotNull
+        @Override
+        JsonObject toJson(@NotNull AnalysisResult result) {
+            JsonArray problemsJson = new JsonArray();
+            for ( AnalysisProblem problem : result.problems() ) {
+                JsonObject problemJson = new JsonObject();
+                problemJson.addProperty( "inspection", problem.ruleId() );
+                problemJson.addProperty( "level", problem.level().getSarifLevel() );
+                problemJson.addProperty( "message", problem.message() );
+                problemJson.addProperty( "file", problem.path() );
+                problemJson.addProperty( "line", problem.line() );
+                problemJson.addProperty( "column", problem.column() );
+                problemsJson.add( problemJson );
+            }
+
+            JsonObject root = new JsonObject();
+            root.addProperty( "tool", TOOL_NAME );
+            root.add( "problems", problemsJson );
+            return root;
+        }
+    },
+
+    /**
+     * A SARIF 2.1.0 log, understood by most code scanning services.
+     */
+    SARIF {
+        @NotNull
+        @Override
+        JsonObject toJson(@NotNull AnalysisResult analysisResult) {
+            Map<String, String> rules = new LinkedHashMap<>();
+            JsonArray results = new JsonArray();
+            for ( AnalysisProblem problem : analysisResult.problems() ) {
+                rules.putIfAbsent( problem.ruleId(), problem.ruleName() );
+
+                JsonObject region = new JsonObject();
+                region.addProperty( "startLine", problem.line() );
+                region.addProperty( "startColumn", problem.column() );
+                JsonObject artifactLocation = artifactLocation( problem.path() );
+                JsonObject physicalLocation = new JsonObject();
+                physicalLocation.add( "artifactLocation", artifactLocation );
+                physicalLocation.add( "region", region );
+                JsonObject location = new JsonObject();
+                location.add( "physicalLocation", physicalLocation );
+                JsonArray locations = new JsonArray();
+                locations.add( location );
+
+                JsonObject result = new JsonObject();
+                result.addProperty( "ruleId", problem.ruleId() );
+                result.addProperty( "level", problem.level().getSarifLevel() );
+                result.add( "message", text( problem.message() ) );
+                result.add( "locations", locations );
+                results.add( result );
+            }
+
+            JsonArray rulesJson = new JsonArray();
+            rules.forEach( (id, name) -> {
+                JsonObject rule = new JsonObject();
+                rule.addProperty( "id", id );
+                rule.add( "shortDescription", text( name ) );
+                rulesJson.add( rule );
+            } );
+            JsonObject driver = new JsonObject();
+            driver.addProperty( "name", TOOL_NAME );
+            driver.addProperty( "informationUri", "https://mapstruct.org" );
+            driver.add( "rules", rulesJson );
+            JsonObject tool = new JsonObject();
+            tool.add( "driver", driver );
+            JsonObject run = new JsonObject();
+            run.add( "tool", tool );
+            if ( analysisResult.projectDirectoryUri() != null ) {
+                JsonObject sourceRoot = new JsonObject();
+                sourceRoot.addProperty( "uri", analysisResult.projectDirectoryUri() );
+                JsonObject originalUriBaseIds = new JsonObject();
+                originalUriBaseIds.add( SOURCE_ROOT, sourceRoot );
+                run.add( "originalUriBaseIds", originalUriBaseIds );
+            }
+            run.add( "results", results );
+            JsonArray runs = new JsonArray();
+            runs.add( run );
+
+            JsonObject root = new JsonObject();
+            root.addProperty( "$schema", "https://json.schemastore.org/sarif-2.1.0.json" );
+            root.addProperty( "version", "2.1.0" );
+            root.add( "runs", runs );
+            return root;
+        }
+
+        /**
+         * The paths inside of the project directory are relative to {@code %SRCROOT%}, the other paths are absolute
+         * and written as {@code file} URIs.
+         */
+        private JsonObject artifactLocation(String path) {
+            JsonObject artifactLocation = new JsonObject();
+            if ( path.startsWith( "/" ) || Paths.get( path ).isAbsolute() ) {
+                artifactLocation.addProperty( "uri", Paths.get( path ).toUri().toString() );
+            }
+            else {
+                artifactLocation.addProperty( "uri", relativeUri( path ) );
+                artifactLocation.addProperty( "uriBaseId", SOURCE_ROOT );
+            }
+            return artifactLocation;
+        }
+
+        private String relativeUri(String path) {
+            try {
+                return new URI( null, null, path, null ).toASCIIString();
+            }
+            catch ( URISyntaxException e ) {
+                return path;
+            }
+        }
+
+        private JsonObject text(String text) {
+            JsonObject message = new JsonObject();
+            message.addProperty( "text", text );
+            return message;
+        }
+    };
+
+    private static final String TOOL_NAME = "MapStruct Support";
+    private static final String SOURCE_ROOT = "%SRCROOT%";
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    /**
+     * @param result the result with the problems to write
+     *
+     * @return the problems in this format
+     */
+    @NotNull
+    public String write(@NotNull AnalysisResult result) {
+        return GSON.toJson( toJson( result ) );
+    }
+
+    @NotNull
+    abstract JsonObject toJson(@NotNull AnalysisResult result);
+
+    /**
+     * @param name the name of the format, case insensitive
+     *
+     * @return the format with the name, {@code null} if there is no such format
+     */
+    @Nullable
+    public static AnalysisReportFormat find(@NotNull String name) {
+        for ( AnalysisReportFormat format : values() ) {
+            if ( format.name().equals( name.toUpperCase( Locale.ROOT ) ) ) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
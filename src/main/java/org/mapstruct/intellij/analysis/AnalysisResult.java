@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.analysis;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The result of the {@link MapStructAnalyzer}.
+ *
+ * @param analyzedFiles the number of files that were analyzed, files of modules without MapStruct are not counted
+ * @param projectDirectoryUri the URI of the project directory that the relative problem paths are resolved against,
+ * {@code null} if the project has no directory
+ * @param problems the found problems, ordered by file and position
+ */
+public record AnalysisResult(int analyzedFiles, @Nullable String projectDirectoryUri,
+                             @NotNull List<AnalysisProblem> problems) {
+
+    /**
+     * @return whether one of the problems is an error
+     */
+    public boolean hasErrors() {
+        return problems.stream().anyMatch( problem -> problem.level() == AnalysisProblem.Level.ERROR );
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.progress.CoroutinesKt;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.platform.backend.observation.Observation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Analyzes the mappers of a project from the command line, e.g. on a CI server:
+ * <pre>
+ * idea mapstruct-analyze &lt;project directory&gt; [--threads=&lt;n&gt;] [--format=json|sarif] [--output=&lt;file&gt;]
+ * </pre>
+ * The project is opened headless and analyzed by the {@link MapStructAnalyzer} once it is imported and indexed. The
+ * report is written to the output file, or to the standard output if there is none. The exit code is
+ * <ul>
+ *     <li>{@code 0} if no error was found</li>
+ *     <li>{@code 1} if an error was found</li>
+ *     <li>{@code 2} if the arguments are invalid, the project could not be opened or the report could not be
+ *     written</li>
+ *     <li>{@code 3} if MapStruct is not on the classpath of the project or no mapper was found, most likely because the
+ *     project was not imported correctly</li>
+ * </ul>
+ */
+public class MapStructAnalyzeStarter implements ApplicationStarter {
+
+    private static final int NO_ERRORS = 0;
+    private static final int ERRORS_FOUND = 1;
+    private static final int INVALID_USAGE = 2;
+    private static final int NOTHING_ANALYZED = 3;
+
+    private static final String USAGE = "Usage: mapstruct-analyze <project directory> [--threads=<n>] " +
+        "[--format=json|sarif] [--output=<file>]";
+
+    @Override
+    public int getRequiredModality() {
+        // opening the project and waiting for the indexes must not block the event dispatch thread
+        return NOT_IN_EDT;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        System.exit( run( args ) );
+    }
+
+    private static int run(@NotNull List<String> args) {
+        Options options = Options.parse( args );
+        if ( options == null ) {
+            System.err.println( USAGE );
+            return INVALID_USAGE;
+        }
+
+        Project project = ProjectUtil.openOrImport( options.projectDirectory(), null, false );
+        if ( project == null ) {
+            System.err.println( "Could not open the project in " + options.projectDirectory() );
+            return INVALID_USAGE;
+        }
+
+        try {
+            // the build system import runs in the background after the project is opened, without it the modules have
+            // no dependencies and all mappers would be skipped
+            CoroutinesKt.<Boolean>runBlockingMaybeCancellable(
+                (scope, continuation) -> Observation.INSTANCE.awaitConfiguration( project, null, continuation )
+            );
+            DumbService.getInstance( project ).waitForSmartMode();
+
+            if ( !MapStructAnalyzer.isMapStructOnClasspath( project ) ) {
+                System.err.println( "MapStruct is not on the classpath of any module of " +
+                    options.projectDirectory() );
+                return NOTHING_ANALYZED;
+            }
+            AnalysisResult result =
+                MapStructAnalyzer.analyze( project, options.threads(), new EmptyProgressIndicator() );
+            if ( result.analyzedFiles() == 0 ) {
+                System.err.println( "No mapper was found in " + options.projectDirectory() );
+                return NOTHING_ANALYZED;
+            }
+
+            String report = options.format().write( result );
+            if ( options.output() == null ) {
+                System.out.println( report );
+            }
+            else {
+                Files.writeString( options.output(), report, StandardCharsets.UTF_8 );
+            }
+
+            return result.hasErrors() ? ERRORS_FOUND : NO_ERRORS;
+        }
+        catch ( IOException e ) {
+            System.err.println( "Could not write the report to " + options.output() + ": " + e.getMessage() );
+            return INVALID_USAGE;
+        }
+        finally {
+            ApplicationManager.getApplication()
+                .invokeAndWait( () -> ProjectManager.getInstance().closeAndDispose( project ) );
+        }
+    }
+
+    /**
+     * The parsed command line arguments.
+     */
+    record Options(@NotNull Path projectDirectory, int threads, @NotNull AnalysisReportFormat format,
+                   @Nullable Path output) {
+
+        /**
+         * @param args the arguments, the first one is the name of the command
+         *
+         * @return the options, {@code null} if the arguments are invalid
+         */
+        @Nullable
+        static Options parse(@NotNull List<String> args) {
+            Path projectDirectory = null;
+            int threads = Runtime.getRuntime().availableProcessors();
+            AnalysisReportFormat format = AnalysisReportFormat.SARIF;
+            Path output = null;
+
+            for ( String arg : args.subList( Math.min( 1, args.size() ), args.size() ) ) {
+                if ( arg.startsWith( "--threads=" ) ) {
+                    try {
+                        threads = Integer.parseInt( arg.substring( "--threads=".length() ) );
+                    }
+                    catch ( NumberFormatException e ) {
+                        return null;
+                    }
+                    if ( threads < 1 ) {
+                        return null;
+                    }
+                }
+                else if ( arg.startsWith( "--format=" ) ) {
+                    format = AnalysisReportFormat.find( arg.substring( "--format=".length() ) );
+                    if ( format == null ) {
+                        return null;
+                    }
+                }
+                else if ( arg.startsWith( "--output=" ) ) {
+                    output = Paths.get( arg.substring( "--output=".length() ) ).toAbsolutePath();
+                }
+                else if ( projectDirectory == null && !arg.startsWith( "--" ) ) {
+                    projectDirectory = Paths.get( arg ).toAbsolutePath().normalize();
+                }
+                else {
+                    return null;
+                }
+            }
+
+            return projectDirectory == null ? null : new Options( projectDirectory, threads, format, output );
+        }
+    }
+}
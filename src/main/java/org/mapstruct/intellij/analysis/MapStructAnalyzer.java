@@ -0,0 +1,311 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.intellij.codeHighlighting.HighlightDisplayLevel;
+import com.intellij.codeInsight.daemon.HighlightDisplayKey;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptorBase;
+import com.intellij.codeInspection.ProblemDescriptorUtil;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ex.GlobalInspectionToolWrapper;
+import com.intellij.codeInspection.ex.InspectionProfileImpl;
+import com.intellij.codeInspection.ex.InspectionToolWrapper;
+import com.intellij.codeInspection.ex.LocalInspectionToolWrapper;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectUtil;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.profile.codeInspection.InspectionProjectProfileManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.util.MapStructModuleProfile;
+
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPERS_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+
+/**
+ * Runs the MapStruct inspections on all mappers of a project, without the editor and without compiling the project.
+ * <p>
+ * The analyzed files are the files that declare a mapper, taken from the {@link MapperIndex}, and the files that call
+ * {@code Mappers#getMapper}. They are analyzed concurrently by a pool with a fixed number of threads, each file in its
+ * own read action. The inspections, their levels and whether they are enabled are taken from the current inspection
+ * profile of the project, so that the same problems are reported as in the editor.
+ */
+public final class MapStructAnalyzer {
+
+    /**
+     * The short names of the inspections that are run, the inspections that suggest refactorings are left out.
+     */
+    static final List<String> INSPECTIONS = List.of(
+        "UnmappedTargetProperties",
+        "TargetPropertyMappedMoreThanOnceInspection",
+        "MapstructReferenceInspection",
+        "WrongUsageOfMappersFactory",
+        "MapperOrMapperConfigMissing",
+        "MoreThanOneSourceDefined",
+        "MoreThanOneDefaultSourceDefined",
+        "NoSourcePropertyDefined",
+        "NotNullCheckableSourcePropertyUsedWithDefaultValue",
+        "TargetThisMappingNoSourcePropertyInspection",
+        "ThisUsedAsSourcePropertyInspection",
+        "FromMapMappingInspection",
+        "JavaExpressionUnnecessaryWhitespaces"
+    );
+
+    private MapStructAnalyzer() {
+    }
+
+    /**
+     * @param project the project to check
+     *
+     * @return whether MapStruct is on the classpath of at least one module of the project
+     */
+    public static boolean isMapStructOnClasspath(@NotNull Project project) {
+        return ReadAction.compute( () -> {
+            for ( Module module : ModuleManager.getInstance( project ).getModules() ) {
+                if ( MapStructModuleProfile.getInstance( module ).mapStructPresent() ) {
+                    return true;
+                }
+            }
+            return false;
+        } );
+    }
+
+    /**
+     * Analyze all mappers of the project. The project has to be in smart mode.
+     *
+     * @param project the project to analyze
+     * @param threads the number of threads that analyze the files
+     * @param indicator the indicator used to cancel the analysis
+     *
+     * @return the number of analyzed files and the found problems
+     */
+    @NotNull
+    public static AnalysisResult analyze(@NotNull Project project, int threads, @NotNull ProgressIndicator indicator) {
+        List<VirtualFile> files = ReadAction.compute( () -> findFiles( project ) );
+        InspectionProfileImpl profile = InspectionProjectProfileManager.getInstance( project ).getCurrentProfile();
+        List<LocalInspectionToolWrapper> tools = ReadAction.compute( () -> findTools( project, profile ) );
+
+        Queue<AnalysisProblem> problems = new ConcurrentLinkedQueue<>();
+        AtomicInteger analyzedFiles = new AtomicInteger();
+        ExecutorService executor =
+            AppExecutorUtil.createBoundedApplicationPoolExecutor( "MapStruct Analyzer", Math.max( 1, threads ) );
+        try {
+            List<Future<?>> futures = new ArrayList<>( files.size() );
+            for ( VirtualFile file : files ) {
+                futures.add( executor.submit( () -> ProgressManager.getInstance().executeProcessUnderProgress(
+                    () -> {
+                        if ( ReadAction.compute( () -> analyzeFile( project, file, profile, tools, problems ) ) ) {
+                            analyzedFiles.incrementAndGet();
+                        }
+                    },
+                    indicator
+                ) ) );
+            }
+            for ( Future<?> future : futures ) {
+                future.get();
+            }
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "The MapStruct analysis was interrupted", e );
+        }
+        catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException runtimeException ) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException( "The MapStruct analysis failed", e.getCause() );
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        List<AnalysisProblem> result = new ArrayList<>( problems );
+        result.sort( AnalysisProblem.ORDER );
+        return new AnalysisResult( analyzedFiles.get(), projectDirectoryUri( project ), result );
+    }
+
+    @NotNull
+    private static List<VirtualFile> findFiles(@NotNull Project project) {
+        GlobalSearchScope projectScope = GlobalSearchScope.projectScope( project );
+        Set<VirtualFile> files = new LinkedHashSet<>();
+        for ( String mapperName : MapperIndex.getAllMapperNames( project ) ) {
+            ProgressManager.checkCanceled();
+            files.addAll( MapperIndex.getContainingFiles( mapperName, projectScope ) );
+        }
+
+        PsiClass mappers = JavaPsiFacade.getInstance( project )
+            .findClass( MAPPERS_FQN, GlobalSearchScope.allScope( project ) );
+        if ( mappers != null ) {
+            for ( PsiMethod getMapper : mappers.findMethodsByName( "getMapper", false ) ) {
+                MethodReferencesSearch.search( getMapper, projectScope, true ).forEach( reference -> {
+                    PsiFile file = reference.getElement().getContainingFile();
+                    if ( file != null && file.getVirtualFile() != null ) {
+                        files.add( file.getVirtualFile() );
+                    }
+                } );
+            }
+        }
+        return new ArrayList<>( files );
+    }
+
+    @NotNull
+    private static List<LocalInspectionToolWrapper> findTools(@NotNull Project project,
+                                                              @NotNull InspectionProfileImpl profile) {
+        List<LocalInspectionToolWrapper> tools = new ArrayList<>( INSPECTIONS.size() );
+        for ( String shortName : INSPECTIONS ) {
+            InspectionToolWrapper<?, ?> wrapper = profile.getInspectionTool( shortName, project );
+            if ( wrapper instanceof GlobalInspectionToolWrapper globalWrapper ) {
+                // the unmapped target properties are reported by the shared local inspection of the batch variant
+                wrapper = globalWrapper.getSharedLocalInspectionToolWrapper();
+            }
+            if ( wrapper instanceof LocalInspectionToolWrapper localWrapper ) {
+                tools.add( localWrapper );
+            }
+        }
+        return tools;
+    }
+
+    /**
+     * @return whether the file was analyzed, i.e. it is a Java file of a module with MapStruct
+     */
+    private static boolean analyzeFile(@NotNull Project project, @NotNull VirtualFile file,
+                                       @NotNull InspectionProfileImpl profile,
+                                       @NotNull List<LocalInspectionToolWrapper> tools,
+                                       @NotNull Collection<AnalysisProblem> problems) {
+        if ( !file.isValid() ) {
+            return false;
+        }
+        PsiFile psiFile = PsiManager.getInstance( project ).findFile( file );
+        if ( !( psiFile instanceof PsiJavaFile ) || !isMapStructPresent( psiFile ) ) {
+            return false;
+        }
+        Document document = psiFile.getViewProvider().getDocument();
+        if ( document == null ) {
+            return false;
+        }
+
+        InspectionManager manager = InspectionManager.getInstance( project );
+        String path = relativePath( project, file );
+        for ( LocalInspectionToolWrapper wrapper : tools ) {
+            ProgressManager.checkCanceled();
+            HighlightDisplayKey key = HighlightDisplayKey.find( wrapper.getShortName() );
+            if ( key == null || !profile.isToolEnabled( key, psiFile ) ) {
+                continue;
+            }
+
+            LocalInspectionTool tool = wrapper.getTool();
+            HighlightDisplayLevel profileLevel = profile.getErrorLevel( key, psiFile );
+            for ( ProblemDescriptor descriptor : tool.processFile( psiFile, manager ) ) {
+                PsiElement element = descriptor.getPsiElement();
+                AnalysisProblem.Level level = toLevel( descriptor.getHighlightType(), profileLevel );
+                if ( element == null || level == null || tool.isSuppressedFor( element ) ) {
+                    continue;
+                }
+
+                TextRange range = descriptor instanceof ProblemDescriptorBase base && base.getTextRange() != null ?
+                    base.getTextRange() :
+                    element.getTextRange();
+                int offset = Math.min( range.getStartOffset(), document.getTextLength() );
+                int line = document.getLineNumber( offset );
+                problems.add( new AnalysisProblem(
+                    wrapper.getShortName(),
+                    wrapper.getDisplayName(),
+                    level,
+                    StringUtil.removeHtmlTags( ProblemDescriptorUtil.renderDescriptionMessage( descriptor, element ) ),
+                    path,
+                    line + 1,
+                    offset - document.getLineStartOffset( line ) + 1
+                ) );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the level of the problem, {@code null} if the problem is only an information
+     */
+    @Nullable
+    private static AnalysisProblem.Level toLevel(@NotNull ProblemHighlightType highlightType,
+                                                 @NotNull HighlightDisplayLevel profileLevel) {
+        return switch ( highlightType ) {
+            case ERROR, GENERIC_ERROR -> AnalysisProblem.Level.ERROR;
+            case WARNING -> AnalysisProblem.Level.WARNING;
+            case WEAK_WARNING -> AnalysisProblem.Level.NOTE;
+            case INFORMATION -> null;
+            default -> {
+                HighlightSeverity severity = profileLevel.getSeverity();
+                if ( severity.compareTo( HighlightSeverity.ERROR ) >= 0 ) {
+                    yield AnalysisProblem.Level.ERROR;
+                }
+                yield severity.compareTo( HighlightSeverity.WARNING ) >= 0 ?
+                    AnalysisProblem.Level.WARNING :
+                    AnalysisProblem.Level.NOTE;
+            }
+        };
+    }
+
+    /**
+     * @return the URI of the directory that the paths of the problems are relative to, ending with a {@code /}, or
+     * {@code null} if the project has no directory
+     */
+    @Nullable
+    private static String projectDirectoryUri(@NotNull Project project) {
+        VirtualFile projectDirectory = ProjectUtil.guessProjectDir( project );
+        if ( projectDirectory == null ) {
+            return null;
+        }
+        String uri = projectDirectory.isInLocalFileSystem() ?
+            projectDirectory.toNioPath().toUri().toString() :
+            projectDirectory.getUrl();
+        return uri.endsWith( "/" ) ? uri : uri + "/";
+    }
+
+    /**
+     * @return the path of the file relative to the project directory, the absolute path if the file is outside of it
+     */
+    @NotNull
+    private static String relativePath(@NotNull Project project, @NotNull VirtualFile file) {
+        VirtualFile projectDirectory = ProjectUtil.guessProjectDir( project );
+        String relativePath = projectDirectory == null ? null : VfsUtilCore.getRelativePath( file, projectDirectory );
+        return relativePath == null ? file.getPath() : relativePath;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.codeinsight.references;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the {@link org.mapstruct.Mapping#source()} and {@link org.mapstruct.Mapping#target()} paths of a mapping
+ * directly with the MapStruct references, without going through all the registered reference providers.
+ * <p>
+ * The resolved paths are cached on the annotation value until the PSI changes.
+ */
+public final class MappingPathResolver {
+
+    private MappingPathResolver() {
+    }
+
+    /**
+     * @param sourceValue the value of a {@link org.mapstruct.Mapping#source()}
+     *
+     * @return the resolved elements of every part of the path, with {@code null} for the parts that cannot be
+     * resolved, or an empty list if the value is not a path
+     */
+    @NotNull
+    public static List<PsiElement> resolveSourcePath(@NotNull PsiElement sourceValue) {
+        return CachedValuesManager.getManager( sourceValue.getProject() ).getCachedValue( sourceValue, () ->
+            CachedValueProvider.Result.create(
+                resolvePath( sourceValue, MapstructSourceReference::create ),
+                PsiModificationTracker.getInstance( sourceValue.getProject() )
+            ) );
+    }
+
+    /**
+     * @param targetValue the value of a {@link org.mapstruct.Mapping#target()}
+     *
+     * @return the resolved elements of every part of the path, with {@code null} for the parts that cannot be
+     * resolved, or an empty list if the value is not a path
+     */
+    @NotNull
+    public static List<PsiElement> resolveTargetPath(@NotNull PsiElement targetValue) {
+        return CachedValuesManager.getManager( targetValue.getProject() ).getCachedValue( targetValue, () ->
+            CachedValueProvider.Result.create(
+                resolvePath( targetValue, MapstructTargetReference::create ),
+                PsiModificationTracker.getInstance( targetValue.getProject() )
+            ) );
+    }
+
+    /**
+     * @param sourceValue the value of a {@link org.mapstruct.Mapping#source()}
+     *
+     * @return the element that the last part of the path resolves to, or {@code null} if it cannot be resolved
+     */
+    @Nullable
+    public static PsiElement resolveSource(@NotNull PsiElement sourceValue) {
+        List<PsiElement> path = resolveSourcePath( sourceValue );
+        return path.isEmpty() ? null : path.get( path.size() - 1 );
+    }
+
+    @NotNull
+    private static List<PsiElement> resolvePath(@NotNull PsiElement value,
+                                                @NotNull Function<PsiElement, PsiReference[]> referencesCreator) {
+        if ( !( value instanceof PsiLiteralExpression ) && !( value instanceof PsiReferenceExpression ) ) {
+            return Collections.emptyList();
+        }
+
+        PsiReference[] references = referencesCreator.apply( value );
+        PsiElement[] resolved = new PsiElement[references.length];
+        for ( int i = 0; i < references.length; i++ ) {
+            resolved[i] = references[i].resolve();
+        }
+
+        return Collections.unmodifiableList( Arrays.asList( resolved ) );
+    }
+}
@@ -17,10 +17,12 @@
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.impl.source.resolve.ResolveCache;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.IncorrectOperationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.diagnostics.MapStructMetrics;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
@@ -32,6 +34,12 @@
  */
 abstract class MapstructBaseReference extends BaseReference {
 
+    private static final ResolveCache.AbstractResolver<MapstructBaseReference, PsiElement> RESOLVER =
+        (reference, incompleteCode) -> {
+            MapStructMetrics.cacheMiss( MapStructMetrics.REFERENCE_RESOLVE, reference.getElement() );
+            return reference.resolveWithoutCaching();
+        };
+
     private final MapstructBaseReference previous;
     private final String value;
     protected final MapstructUtil mapstructUtil;
@@ -60,17 +68,35 @@ public String getValue() {
         return super.getValue();
     }
 
+    /**
+     * Resolving a nested reference requires the type of the previous reference. Caching the resolved elements makes
+     * sure that every part of a nested path is resolved only once per modification, instead of once for every
+     * following part.
+     */
     @Nullable
     @Override
     public final PsiElement resolve() {
+        long start = MapStructMetrics.start();
+        try {
+            MapStructMetrics.cacheLookup( MapStructMetrics.REFERENCE_RESOLVE, getElement() );
+            return ResolveCache.getInstance( getElement().getProject() )
+                .resolveWithCaching( this, RESOLVER, false, false );
+        }
+        finally {
+            MapStructMetrics.stop( MapStructMetrics.REFERENCE_RESOLVE, getElement(), start );
+        }
+    }
+
+    @Nullable
+    private PsiElement resolveWithoutCaching() {
         String value = getValue();
         if ( value.isEmpty() ) {
             return null;
         }
 
         if ( previous != null ) {
-            PsiType psiType = canDescendIntoType( previous.resolvedType() ) ? previous.resolvedType() : null;
-            return psiType == null ? null : resolveInternal( value, psiType );
+            PsiType psiType = previous.resolvedType();
+            return canDescendIntoType( psiType ) ? resolveInternal( value, psiType ) : null;
         }
 
         PsiMethod mappingMethod = getMappingMethod();
@@ -5,6 +5,7 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -28,6 +29,7 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.Mapping;
+import org.mapstruct.intellij.util.BuilderDescriptor;
 import org.mapstruct.intellij.util.MapStructVersion;
 import org.mapstruct.intellij.util.MapstructUtil;
 import org.mapstruct.intellij.util.TargetType;
@@ -38,6 +40,7 @@
 import static org.mapstruct.intellij.util.MapstructUtil.findRecordComponent;
 import static org.mapstruct.intellij.util.MapstructUtil.isPublicModifiable;
 import static org.mapstruct.intellij.util.MapstructUtil.isPublicNonStatic;
+import static org.mapstruct.intellij.util.TargetUtils.findBuilderDescriptor;
 import static org.mapstruct.intellij.util.TargetUtils.getRelevantType;
 import static org.mapstruct.intellij.util.TargetUtils.isBuilderEnabled;
 import static org.mapstruct.intellij.util.TargetUtils.publicWriteAccessors;
@@ -111,7 +114,14 @@ builderSupportPresent && isBuilderEnabled( getMappingMethod() )
             return methods[0];
         }
 
-        if ( builderSupportPresent ) {
+        BuilderDescriptor builderDescriptor = targetType.builder() ? findBuilderDescriptor( psiType ) : null;
+        if ( builderDescriptor != null ) {
+            PsiMethod fluentSetter = builderDescriptor.getFluentSetters( mapstructUtil ).get( value );
+            if ( fluentSetter != null ) {
+                return fluentSetter;
+            }
+        }
+        else if ( builderSupportPresent ) {
             for ( Pair<PsiMethod, PsiSubstitutor> builderPair : psiClass.findMethodsAndTheirSubstitutorsByName(
                 value,
                 true
@@ -160,12 +170,12 @@ Object[] getVariantsInternal(@NotNull PsiType psiType) {
 
         PsiMethod mappingMethod = getMappingMethod();
 
-        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors = publicWriteAccessors(
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> accessors = new LinkedHashMap<>( publicWriteAccessors(
             psiType,
             mapStructVersion,
             mapstructUtil,
             mappingMethod
-        );
+        ) );
 
         if (mappingMethod != null) {
             Stream<String> allDefinedMappingTargets = findAllDefinedMappingTargets( mappingMethod );
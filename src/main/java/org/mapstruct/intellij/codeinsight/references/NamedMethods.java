@@ -0,0 +1,182 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.codeinsight.references;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiTypes;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static com.intellij.codeInsight.AnnotationUtil.getStringAttributeValue;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findReferencedMapperClasses;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.NAMED_ANNOTATION_FQN;
+
+/**
+ * The {@link org.mapstruct.Named} methods that can be used as qualifiers, indexed by their qualifier name.
+ * <p>
+ * The named methods that a mapper declares itself are cached per mapper class, so that a shared mapper that is
+ * used by many other mappers is only inspected once. The named methods that are visible from a mapper (its own
+ * and inherited methods, and the methods of the mappers in its {@code uses} closure) are cached per mapper as well.
+ */
+class NamedMethods {
+
+    private static final NamedMethods EMPTY = new NamedMethods( Collections.emptyList() );
+
+    private final List<PsiMethod> methods;
+    private final Map<String, PsiMethod> methodsByName;
+
+    private NamedMethods(@NotNull List<PsiMethod> methods) {
+        this.methods = Collections.unmodifiableList( methods );
+        Map<String, PsiMethod> byName = new LinkedHashMap<>();
+        for ( PsiMethod method : methods ) {
+            String namedValue = getNamedValue( method );
+            if ( namedValue != null ) {
+                byName.putIfAbsent( namedValue, method );
+            }
+        }
+        this.methodsByName = Collections.unmodifiableMap( byName );
+    }
+
+    /**
+     * @return all the named methods, in declaration order
+     */
+    @NotNull
+    List<PsiMethod> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param name the qualifier name
+     *
+     * @return the first named method with the given qualifier name, or {@code null} if there is none
+     */
+    @Nullable
+    PsiMethod findMethod(@NotNull String name) {
+        return methodsByName.get( name );
+    }
+
+    /**
+     * Find all named methods with a return type that can be used from the given mapper class.
+     *
+     * @param containingClass the mapper or mapper config class
+     *
+     * @return the named methods visible from the class
+     */
+    @NotNull
+    static NamedMethods visibleFrom(@Nullable PsiClass containingClass) {
+        if ( containingClass == null ) {
+            return EMPTY;
+        }
+
+        return CachedValuesManager.getManager( containingClass.getProject() ).getCachedValue( containingClass, () ->
+            CachedValueProvider.Result.create(
+                computeVisibleFrom( containingClass ),
+                PsiModificationTracker.getInstance( containingClass.getProject() )
+            ) );
+    }
+
+    @NotNull
+    private static NamedMethods declaredIn(@NotNull PsiClass mapperClass) {
+        return CachedValuesManager.getManager( mapperClass.getProject() ).getCachedValue( mapperClass, () ->
+            CachedValueProvider.Result.create(
+                computeDeclaredIn( mapperClass ),
+                PsiModificationTracker.getInstance( mapperClass.getProject() )
+            ) );
+    }
+
+    private static NamedMethods computeDeclaredIn(@NotNull PsiClass mapperClass) {
+        List<PsiMethod> namedMethods = new ArrayList<>();
+        for ( PsiMethod method : mapperClass.getMethods() ) {
+            if ( MapstructUtil.isNamedMethod( method ) ) {
+                namedMethods.add( method );
+            }
+        }
+        return new NamedMethods( namedMethods );
+    }
+
+    private static NamedMethods computeVisibleFrom(@NotNull PsiClass containingClass) {
+        List<PsiMethod> namedMethods = new ArrayList<>();
+        for ( PsiMethod method : containingClass.getAllMethods() ) {
+            if ( MapstructUtil.isNamedMethod( method ) && !method.hasModifierProperty( PsiModifier.PRIVATE ) &&
+                hasReturnType( method ) ) {
+                namedMethods.add( method );
+            }
+        }
+
+        PsiAnnotation mapperOrMapperConfigAnnotation =
+            Optional.ofNullable( findAnnotation( containingClass, MAPPER_ANNOTATION_FQN ) )
+                .orElseGet( () -> findAnnotation( containingClass, MAPPER_CONFIG_ANNOTATION_FQN ) );
+
+        if ( mapperOrMapperConfigAnnotation != null ) {
+            findReferencedMapperClasses( mapperOrMapperConfigAnnotation )
+                .flatMap( usedMapper -> declaredIn( usedMapper ).getMethods().stream() )
+                .filter( method -> isAccessibleFrom( method, containingClass ) )
+                .filter( NamedMethods::hasReturnType )
+                .forEach( namedMethods::add );
+        }
+
+        return new NamedMethods( namedMethods );
+    }
+
+    @Nullable
+    static String getNamedValue(@NotNull PsiMethod method) {
+
+        PsiAnnotation namedAnnotation = findAnnotation( method, true, NAMED_ANNOTATION_FQN );
+
+        if ( namedAnnotation == null ) {
+            return null;
+        }
+
+        return getStringAttributeValue( namedAnnotation, "value" );
+    }
+
+    private static boolean hasReturnType(@NotNull PsiMethod psiMethod) {
+        return !PsiTypes.voidType().equals( psiMethod.getReturnType() );
+    }
+
+    private static boolean isAccessibleFrom(@NotNull PsiMethod method, @NotNull PsiClass containingClass) {
+        PsiClass methodClass = method.getContainingClass();
+        if ( methodClass == null ) {
+            return false;
+        }
+
+        if ( method.hasModifierProperty( PsiModifier.PRIVATE ) ) {
+            return false;
+        }
+
+        if ( method.hasModifierProperty( PsiModifier.PUBLIC ) ) {
+            return true;
+        }
+
+        return haveSamePackage( containingClass, methodClass );
+    }
+
+    private static boolean haveSamePackage(@NotNull PsiClass firstClass, @NotNull PsiClass secondClass) {
+        return Objects.equals(
+            StringUtil.getPackageName( Objects.requireNonNull( firstClass.getQualifiedName() ) ),
+            StringUtil.getPackageName( Objects.requireNonNull( secondClass.getQualifiedName() ) )
+        );
+    }
+}
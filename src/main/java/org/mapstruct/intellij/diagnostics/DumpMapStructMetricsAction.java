@@ -0,0 +1,53 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.diagnostics;
+
+import com.intellij.ide.scratch.ScratchFileService;
+import com.intellij.ide.scratch.ScratchRootType;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.fileTypes.PlainTextLanguage;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Internal action that writes the collected {@link MapStructMetrics} to the log and opens them in a scratch file.
+ */
+public class DumpMapStructMetricsAction extends DumbAwareAction {
+
+    private static final Logger LOG = Logger.getInstance( DumpMapStructMetricsAction.class );
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        String dump = MapStructMetrics.dump();
+        LOG.info( dump );
+
+        Project project = e.getProject();
+        if ( project == null ) {
+            return;
+        }
+        VirtualFile scratchFile = ScratchRootType.getInstance().createScratchFile(
+            project,
+            "mapstruct-metrics.txt",
+            PlainTextLanguage.INSTANCE,
+            dump,
+            ScratchFileService.Option.create_new_always
+        );
+        if ( scratchFile != null ) {
+            FileEditorManager.getInstance( project ).openFile( scratchFile, true );
+        }
+    }
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
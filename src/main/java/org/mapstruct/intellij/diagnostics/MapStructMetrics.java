@@ -0,0 +1,243 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Timers and cache counters for the expensive operations of the plugin, aggregated per operation and per mapper.
+ * <p>
+ * The metrics are disabled by default. While they are disabled every method returns after reading a single volatile
+ * field, so the instrumented code paths do not allocate and do not compute the mapper of an element.
+ * <p>
+ * Usage:
+ * <pre>
+ * long start = MapStructMetrics.start();
+ * try {
+ *     ...
+ * }
+ * finally {
+ *     MapStructMetrics.stop( MapStructMetrics.WRITE_ACCESSORS, mappingMethod, start );
+ * }
+ * </pre>
+ */
+public final class MapStructMetrics {
+
+    public static final String INSPECTION_PREFIX = "inspection.";
+    public static final String WRITE_ACCESSORS = "accessors.write";
+    public static final String READ_ACCESSORS = "accessors.read";
+    public static final String INHERITANCE = "inheritance";
+    public static final String UNMAPPED_TARGET_PROPERTIES = "unmappedTargetProperties";
+    public static final String REFERENCE_RESOLVE = "reference.resolve";
+    public static final String JAVA_EXPRESSION_INJECTION = "injection.javaExpression";
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    private static final String UNKNOWN_MAPPER = "<unknown>";
+
+    private static final ThreadLocal<String> CURRENT_MAPPER = new ThreadLocal<>();
+    private static final Map<String, Map<String, Counter>> COUNTERS_BY_MAPPER = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private MapStructMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        MapStructMetrics.enabled = enabled;
+    }
+
+    public static void reset() {
+        COUNTERS_BY_MAPPER.clear();
+    }
+
+    /**
+     * @return the start time of a measured operation, to be passed to {@link #stop(String, PsiElement, long)}
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Record the duration of an operation.
+     *
+     * @param operation the name of the operation
+     * @param context the element for which the operation was executed, used to determine the mapper. If it is
+     * {@code null} the operation is attributed to the mapper that is currently inspected on this thread.
+     * @param start the value returned by {@link #start()} before the operation
+     */
+    public static void stop(@NotNull String operation, @Nullable PsiElement context, long start) {
+        if ( start == NOT_STARTED || !enabled ) {
+            return;
+        }
+        Counter counter = counter( operation, context );
+        counter.calls.increment();
+        counter.nanos.add( System.nanoTime() - start );
+    }
+
+    /**
+     * Record a lookup in a cache, every lookup that is not followed by a {@link #cacheMiss(String, PsiElement)} is a
+     * hit.
+     *
+     * @param cache the name of the cache, usually the name of the operation that is cached
+     * @param context the element for which the cache was looked up
+     */
+    public static void cacheLookup(@NotNull String cache, @Nullable PsiElement context) {
+        if ( enabled ) {
+            counter( cache, context ).cacheLookups.increment();
+        }
+    }
+
+    /**
+     * Record that a value was not found in a cache and had to be computed.
+     *
+     * @param cache the name of the cache, usually the name of the operation that is cached
+     * @param context the element for which the value was computed
+     */
+    public static void cacheMiss(@NotNull String cache, @Nullable PsiElement context) {
+        if ( enabled ) {
+            counter( cache, context ).cacheMisses.increment();
+        }
+    }
+
+    /**
+     * Attribute the operations without a context that are executed on this thread to the mapper of the given
+     * element, until {@link #exitMapper(String)} is called.
+     *
+     * @param context an element of the mapper
+     *
+     * @return the previous mapper of this thread, to be restored with {@link #exitMapper(String)}
+     */
+    @Nullable
+    public static String enterMapper(@NotNull PsiElement context) {
+        String previous = CURRENT_MAPPER.get();
+        CURRENT_MAPPER.set( mapperName( context ) );
+        return previous;
+    }
+
+    public static void exitMapper(@Nullable String previous) {
+        if ( previous == null ) {
+            CURRENT_MAPPER.remove();
+        }
+        else {
+            CURRENT_MAPPER.set( previous );
+        }
+    }
+
+    /**
+     * @return a human-readable report with the totals per operation and per mapper
+     */
+    @NotNull
+    public static String dump() {
+        Map<String, Counter> totals = new TreeMap<>();
+        List<Map.Entry<String, Counter>> mapperTotals = new ArrayList<>();
+        COUNTERS_BY_MAPPER.forEach( (mapper, counters) -> {
+            Counter mapperTotal = new Counter();
+            counters.forEach( (operation, counter) -> {
+                totals.computeIfAbsent( operation, o -> new Counter() ).add( counter );
+                // Nested operations are already part of the inspection time, only inspections are summed up
+                if ( operation.startsWith( INSPECTION_PREFIX ) ) {
+                    mapperTotal.add( counter );
+                }
+            } );
+            mapperTotals.add( Map.entry( mapper, mapperTotal ) );
+        } );
+        mapperTotals.sort( Comparator.comparingLong( (Map.Entry<String, Counter> e) -> e.getValue().nanos.sum() )
+            .reversed() );
+
+        StringBuilder sb = new StringBuilder();
+        sb.append( "MapStruct metrics (" ).append( enabled ? "enabled" : "disabled" ).append( ")\n\n" );
+        sb.append( String.format(
+            Locale.ROOT,
+            "%-50s %10s %12s %12s %10s %12s%n",
+            "Operation",
+            "Calls",
+            "Total ms",
+            "Average us",
+            "Lookups",
+            "Hit ratio"
+        ) );
+        totals.forEach( (operation, counter) -> appendCounter( sb, operation, counter ) );
+
+        sb.append( "\nInspection time per mapper\n\n" );
+        for ( Map.Entry<String, Counter> entry : mapperTotals ) {
+            appendCounter( sb, entry.getKey(), entry.getValue() );
+        }
+        return sb.toString();
+    }
+
+    private static void appendCounter(StringBuilder sb, String name, Counter counter) {
+        long calls = counter.calls.sum();
+        long nanos = counter.nanos.sum();
+        long lookups = counter.cacheLookups.sum();
+        long misses = counter.cacheMisses.sum();
+        sb.append( String.format(
+            Locale.ROOT,
+            "%-50s %10d %12.2f %12.2f %10d %12s%n",
+            name,
+            calls,
+            nanos / 1_000_000.0,
+            calls == 0 ? 0.0 : nanos / 1_000.0 / calls,
+            lookups,
+            lookups == 0 ? "-" : String.format( Locale.ROOT, "%.1f%%", 100.0 * ( lookups - misses ) / lookups )
+        ) );
+    }
+
+    private static Counter counter(String operation, PsiElement context) {
+        String mapper = context == null ? CURRENT_MAPPER.get() : mapperName( context );
+        return COUNTERS_BY_MAPPER
+            .computeIfAbsent( mapper == null ? UNKNOWN_MAPPER : mapper, m -> new ConcurrentHashMap<>() )
+            .computeIfAbsent( operation, o -> new Counter() );
+    }
+
+    private static String mapperName(PsiElement context) {
+        return ReadAction.compute( () -> {
+            if ( !context.isValid() ) {
+                return UNKNOWN_MAPPER;
+            }
+            PsiClass topLevelClass = PsiUtil.getTopLevelClass( context );
+            if ( topLevelClass != null ) {
+                String qualifiedName = topLevelClass.getQualifiedName();
+                return qualifiedName != null ? qualifiedName : topLevelClass.getName();
+            }
+            PsiFile file = context.getContainingFile();
+            return file != null ? file.getName() : UNKNOWN_MAPPER;
+        } );
+    }
+
+    private static final class Counter {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder cacheLookups = new LongAdder();
+        private final LongAdder cacheMisses = new LongAdder();
+
+        private void add(Counter other) {
+            calls.add( other.calls.sum() );
+            nanos.add( other.nanos.sum() );
+            cacheLookups.add( other.cacheLookups.sum() );
+            cacheMisses.add( other.cacheMisses.sum() );
+        }
+    }
+}
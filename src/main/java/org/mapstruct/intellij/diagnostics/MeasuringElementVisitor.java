@@ -0,0 +1,51 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.diagnostics;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Records the time that the visitor of an inspection spends on every element in the {@link MapStructMetrics}.
+ */
+public final class MeasuringElementVisitor extends PsiElementVisitor {
+
+    private final PsiElementVisitor delegate;
+    private final String operation;
+
+    private MeasuringElementVisitor(PsiElementVisitor delegate, String operation) {
+        this.delegate = delegate;
+        this.operation = operation;
+    }
+
+    /**
+     * @param visitor the visitor of an inspection
+     * @param inspectionShortName the short name of the inspection
+     *
+     * @return the given visitor if the metrics are disabled, otherwise a visitor that measures the given one
+     */
+    @NotNull
+    public static PsiElementVisitor wrap(@NotNull PsiElementVisitor visitor, @NotNull String inspectionShortName) {
+        if ( !MapStructMetrics.isEnabled() || visitor == PsiElementVisitor.EMPTY_VISITOR ) {
+            return visitor;
+        }
+        return new MeasuringElementVisitor( visitor, MapStructMetrics.INSPECTION_PREFIX + inspectionShortName );
+    }
+
+    @Override
+    public void visitElement(@NotNull PsiElement element) {
+        String previousMapper = MapStructMetrics.enterMapper( element );
+        long start = MapStructMetrics.start();
+        try {
+            element.accept( delegate );
+        }
+        finally {
+            MapStructMetrics.stop( operation, element, start );
+            MapStructMetrics.exitMapper( previousMapper );
+        }
+    }
+}
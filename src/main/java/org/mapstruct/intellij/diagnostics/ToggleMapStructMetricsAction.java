@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.diagnostics;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.DumbAwareToggleAction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Internal action that enables or disables the {@link MapStructMetrics}. The collected metrics are reset when they
+ * are enabled.
+ */
+public class ToggleMapStructMetricsAction extends DumbAwareToggleAction {
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        return MapStructMetrics.isEnabled();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        if ( state ) {
+            MapStructMetrics.reset();
+        }
+        MapStructMetrics.setEnabled( state );
+    }
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
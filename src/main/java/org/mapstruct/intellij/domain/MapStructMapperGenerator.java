@@ -1,5 +1,8 @@
 package org.mapstruct.intellij.domain;
 
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.patterns.PsiJavaPatterns;
 import com.intellij.psi.*;
@@ -9,9 +12,12 @@
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.search.PsiShortNamesCache;
 import com.intellij.psi.util.PsiUtil;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.index.MapperIndexEntry;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
 
@@ -24,10 +30,29 @@ public class MapStructMapperGenerator {
     private final PsiClass iterableClass;
     private final PsiElementFactory elementFactory;
 
+    /**
+     * files whose class references are shortened by the caller, or null to shorten them after every change
+     */
+    private final Set<PsiFile> filesToShorten;
+
 
     public MapStructMapperGenerator(Project project, PsiDirectory converterDirectory) {
+        this(project, converterDirectory, null);
+    }
+
+    /**
+     * create a generator that only collects the changed mapper files, so that a batch of mapper methods can be
+     * generated with a single {@link JavaCodeStyleManager#shortenClassReferences(PsiElement)} per file <br/>
+     * 批量生成时，每个文件只缩短一次类引用
+     *
+     * @param project            project
+     * @param converterDirectory directory in which new mappers are created
+     * @param filesToShorten     collects the changed files, the caller shortens their class references afterwards
+     */
+    public MapStructMapperGenerator(Project project, PsiDirectory converterDirectory, Set<PsiFile> filesToShorten) {
         this.project = project;
         this.converterDirectory = converterDirectory;
+        this.filesToShorten = filesToShorten;
         this.javaPsiFacade = JavaPsiFacade.getInstance(project);
         this.elementFactory = javaPsiFacade.getElementFactory();
         this.iterableClass = javaPsiFacade.findClass("java.lang.Iterable", GlobalSearchScope.allScope(project));
@@ -35,6 +60,18 @@ public MapStructMapperGenerator(Project project, PsiDirectory converterDirectory
 
     public PsiMethod generateMapperMethod(PsiClassType sourceType, PsiClassType targetType) {
 
+        // 如果项目中已经有 Mapper 映射了相同的来源类型和目标类型,直接复用,不再生成新的方法
+        PsiMethod existingMethod = findExistingMapperMethod(sourceType, targetType);
+        if (existingMethod != null) {
+            // the existing method is called through the "INSTANCE" field of its mapper, add the field if it is missing
+            PsiClass mapperClass = Objects.requireNonNull(existingMethod.getContainingClass());
+            if (mapperClass.findFieldByName("INSTANCE", false) == null) {
+                createInstanceFieldIfNotExists(mapperClass);
+                shortenClassReferences(mapperClass.getContainingFile());
+            }
+            return existingMethod;
+        }
+
         // 如果目标类型是一个集合类型,找到目标类型 Iterable 的泛型类,使用泛型类,生成一个 Mapper
         PsiClass targetTypeClass = targetType.resolveGenerics().getElement();
         if (targetTypeClass == null) {
@@ -101,6 +138,58 @@ public PsiMethod generateMapperMethod(PsiClassType sourceType, PsiClassType targ
 
     }
 
+    /**
+     * find a mapping method from the source type to the target type in the mappers that are visible from the module of
+     * the converter directory, that can be called through the "INSTANCE" field of its mapper. The converter directory
+     * is in the source root of the converted file, mappers of modules that the file can not see are not reused <br/>
+     * 在当前模块可见的 Mapper 中查找从来源类型到目标类型的映射方法
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the existing method, or null if there is none
+     */
+    private PsiMethod findExistingMapperMethod(PsiClassType sourceType, PsiClassType targetType) {
+        if (DumbService.isDumb(project)) {
+            return null;
+        }
+        Module module = ModuleUtilCore.findModuleForPsiElement(converterDirectory);
+        GlobalSearchScope scope = module != null
+                ? module.getModuleWithDependenciesAndLibrariesScope(false)
+                : converterDirectory.getResolveScope();
+        for (PsiMethod method : MapperIndex.findMappingMethods(project, sourceType, targetType, scope)) {
+            PsiClass mapperClass = method.getContainingClass();
+            if (mapperClass != null && mapperClass.getQualifiedName() != null
+                    && isCallableThroughInstanceField(mapperClass, scope)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * whether the methods of the mapper can be called through its "INSTANCE" field, the field is only added to
+     * writable mappers with the default component model, other mappers (including mappers whose component model comes
+     * from a config) are only reused if they already have the field. The mapper is not changed
+     */
+    private boolean isCallableThroughInstanceField(PsiClass mapperClass, GlobalSearchScope scope) {
+        PsiField instanceField = mapperClass.findFieldByName("INSTANCE", false);
+        if (instanceField != null) {
+            return instanceField.hasModifierProperty(PsiModifier.STATIC);
+        }
+        if (!mapperClass.isWritable()) {
+            return false;
+        }
+        String qualifiedName = Objects.requireNonNull(mapperClass.getQualifiedName());
+        for (MapperIndexEntry entry : MapperIndex.getEntries(qualifiedName, scope)) {
+            String componentModel = entry.componentModel();
+            if (componentModel == null ? entry.config() != null
+                    : !"default".equals(componentModel) && !componentModel.endsWith(".DEFAULT")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private PsiMethod generateConvertMethod(PsiClass mapperClass, PsiClassType sourceClassType, PsiClassType targetClassType) {
 
         String methodName = "convert";
@@ -126,14 +215,14 @@ private PsiMethod generateConvertMethod(PsiClass mapperClass, PsiClassType sourc
                                 }
                                 if (!method.hasAnnotation("org.springframework.lang.Nullable")) {
                                     method.getModifierList().addAnnotation("org.springframework.lang.Nullable");
-                                    JavaCodeStyleManager.getInstance(project).shortenClassReferences(method.getContainingFile());
+                                    shortenClassReferences(method.getContainingFile());
                                 }
                                 if (!parameter.hasAnnotation("org.springframework.lang.Nullable")) {
                                     PsiModifierList modifierList = parameter.getModifierList();
                                     if (modifierList != null) {
                                         modifierList.addAnnotation("org.springframework.lang.Nullable");
                                     }
-                                    JavaCodeStyleManager.getInstance(project).shortenClassReferences(method.getContainingFile());
+                                    shortenClassReferences(method.getContainingFile());
                                 }
                                 return method;
                             }
@@ -162,7 +251,7 @@ private PsiMethod generateConvertMethod(PsiClass mapperClass, PsiClassType sourc
         PsiMethod resultMethod = (PsiMethod) mapperClass.add(elementFactory.createMethodFromText(methodContent, mapperClass));
 
         addOrReplaceDocCommentForSingleObjectConvertMethod(sourceClassType, targetClassType, resultMethod, sourceParamName);
-        JavaCodeStyleManager.getInstance(project).shortenClassReferences(resultMethod.getContainingFile());
+        shortenClassReferences(resultMethod.getContainingFile());
         return resultMethod;
     }
 
@@ -197,14 +286,14 @@ private PsiMethod generateConvertOrNewInstanceMethod(PsiClass mapperClass, PsiCl
                                 }
                                 if (!method.hasAnnotation("org.springframework.lang.NonNull")) {
                                     method.getModifierList().addAnnotation("org.springframework.lang.NonNull");
-                                    JavaCodeStyleManager.getInstance(project).shortenClassReferences(method.getContainingFile());
+                                    shortenClassReferences(method.getContainingFile());
                                 }
                                 if (!parameter.hasAnnotation("org.springframework.lang.Nullable")) {
                                     PsiModifierList modifierList = parameter.getModifierList();
                                     if (modifierList != null) {
                                         modifierList.addAnnotation("org.springframework.lang.Nullable");
                                     }
-                                    JavaCodeStyleManager.getInstance(project).shortenClassReferences(method.getContainingFile());
+                                    shortenClassReferences(method.getContainingFile());
                                 }
                                 return method;
                             }
@@ -230,7 +319,7 @@ private PsiMethod generateConvertOrNewInstanceMethod(PsiClass mapperClass, PsiCl
         PsiMethod resultMethod = (PsiMethod) mapperClass.add(methodFromText);
 
         addOrReplaceDocCommentForSingleObjectConvertMethod(sourceClassType, targetClassType, resultMethod, sourceParamName);
-        JavaCodeStyleManager.getInstance(project).shortenClassReferences(resultMethod.getContainingFile());
+        shortenClassReferences(resultMethod.getContainingFile());
         return resultMethod;
     }
 
@@ -251,7 +340,7 @@ private PsiMethod generateConvertListMethod(PsiClass mapperClass, PsiClassType s
 
                 if (method.getDocComment() == null) {
                     addOrReplaceDocCommentForListConvertMethod(sourceClassType, targetClassType, method, sourceParamName);
-                    JavaCodeStyleManager.getInstance(project).shortenClassReferences(method.getContainingFile());
+                    shortenClassReferences(method.getContainingFile());
                 }
 
 
@@ -274,7 +363,7 @@ private PsiMethod generateConvertListMethod(PsiClass mapperClass, PsiClassType s
 
         PsiMethod generatedNewMethod = (PsiMethod) mapperClass.add(psiMethod);
         addOrReplaceDocCommentForListConvertMethod(sourceClassType, targetClassType, generatedNewMethod, sourceParamName);
-        JavaCodeStyleManager.getInstance(project).shortenClassReferences(generatedNewMethod.getContainingFile());
+        shortenClassReferences(generatedNewMethod.getContainingFile());
         return generatedNewMethod;
     }
 
@@ -336,6 +425,14 @@ private void addOrReplaceDocCommentForSingleObjectConvertMethod(PsiClassType sou
 
     }
 
+    private void shortenClassReferences(PsiFile file) {
+        if (filesToShorten != null) {
+            filesToShorten.add(file);
+        } else {
+            JavaCodeStyleManager.getInstance(project).shortenClassReferences(file);
+        }
+    }
+
     private PsiField createInstanceFieldIfNotExists(PsiClass mapperClass) {
 
         /* ********************************************************************************
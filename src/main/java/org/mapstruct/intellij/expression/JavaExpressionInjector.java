@@ -34,13 +34,13 @@
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiNameValuePair;
 import com.intellij.psi.PsiParameter;
-import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypeParameter;
-import com.intellij.psi.impl.source.resolve.reference.ReferenceProvidersRegistry;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.codeinsight.references.MappingPathResolver;
+import org.mapstruct.intellij.diagnostics.MapStructMetrics;
 import org.mapstruct.intellij.util.MapstructElementUtils;
 import org.mapstruct.intellij.util.MapstructUtil;
 
@@ -148,6 +148,16 @@ private void appendNesting(StringBuilder sb, int level) {
 
     @Override
     public void getLanguagesToInject(@NotNull MultiHostRegistrar registrar, @NotNull PsiElement context) {
+        long start = MapStructMetrics.start();
+        try {
+            injectJavaExpression( registrar, context );
+        }
+        finally {
+            MapStructMetrics.stop( MapStructMetrics.JAVA_EXPRESSION_INJECTION, context, start );
+        }
+    }
+
+    private void injectJavaExpression(@NotNull MultiHostRegistrar registrar, @NotNull PsiElement context) {
 
         if ( PATTERN.accepts( context ) && context instanceof PsiLiteralExpression &&
             JAVA_EXPRESSION.matcher( context.getText() ).matches() ) {
@@ -173,10 +183,9 @@ public void getLanguagesToInject(@NotNull MultiHostRegistrar registrar, @NotNull
                 if ( "target".equals( attribute.getAttributeName() ) ) {
                     PsiAnnotationMemberValue attributeValue = attribute.getValue();
                     if ( attributeValue != null ) {
-                        PsiReference[] references = ReferenceProvidersRegistry.getReferencesFromProviders(
-                            attributeValue );
-                        if ( references.length > 0 ) {
-                            PsiElement resolved = references[0].resolve();
+                        List<PsiElement> targetPath = MappingPathResolver.resolveTargetPath( attributeValue );
+                        if ( !targetPath.isEmpty() ) {
+                            PsiElement resolved = targetPath.get( 0 );
                             if ( resolved instanceof PsiMethod resolvedPsiMethod ) {
                                 PsiParameter[] psiParameters =
                                         resolvedPsiMethod.getParameterList().getParameters();
@@ -0,0 +1,432 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassObjectAccessExpression;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypes;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperIndexEntry.MappingMethodSignature;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN;
+
+/**
+ * Index of all {@link org.mapstruct.Mapper} and {@link org.mapstruct.MapperConfig} classes, keyed by the fully
+ * qualified name of the class.
+ * <p>
+ * The indexer works on the syntax only. An annotation is considered to be a MapStruct annotation if it is written
+ * fully qualified, or if its simple name is imported from {@code org.mapstruct}.
+ */
+public class MapperIndex extends FileBasedIndexExtension<String, MapperIndexEntry> {
+
+    public static final ID<String, MapperIndexEntry> NAME = ID.create( "org.mapstruct.intellij.MapperIndex" );
+
+    static final String MAPSTRUCT_PACKAGE = "org.mapstruct";
+    static final String MAPPING_TARGET_ANNOTATION = "MappingTarget";
+    private static final Pattern WHITESPACE = Pattern.compile( "\\s+" );
+    private static final Pattern SPACE_AROUND_SEPARATOR = Pattern.compile( " ?([<>,.\\[\\]]) ?" );
+
+    @NotNull
+    @Override
+    public ID<String, MapperIndexEntry> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, MapperIndexEntry, FileContent> getIndexer() {
+        return MapperIndex::index;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<MapperIndexEntry> getValueExternalizer() {
+        return MapperIndexEntry.EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param project the project
+     *
+     * @return the fully qualified names of all indexed mappers and mapper configs, might contain names of classes
+     * that no longer exist
+     */
+    @NotNull
+    public static Collection<String> getAllMapperNames(@NotNull Project project) {
+        return FileBasedIndex.getInstance().getAllKeys( NAME, project );
+    }
+
+    /**
+     * @param fqn the fully qualified name of a mapper or mapper config
+     * @param scope the scope to look in
+     *
+     * @return the entries for the class with the given name in the given scope
+     */
+    @NotNull
+    public static List<MapperIndexEntry> getEntries(@NotNull String fqn, @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getValues( NAME, fqn, scope );
+    }
+
+    /**
+     * @param fqn the fully qualified name of a mapper or mapper config
+     * @param scope the scope to look in
+     *
+     * @return the files that declare a mapper or mapper config with the given name
+     */
+    @NotNull
+    public static Collection<VirtualFile> getContainingFiles(@NotNull String fqn, @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles( NAME, fqn, scope );
+    }
+
+    /**
+     * Find all {@link org.mapstruct.Mapper} classes in the given scope.
+     *
+     * @param project the project
+     * @param scope the scope to look in
+     *
+     * @return the mapper classes in the scope
+     */
+    @NotNull
+    public static List<PsiClass> findMapperClasses(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+        return findClasses( project, scope, MapperIndexEntry.Kind.MAPPER );
+    }
+
+    /**
+     * Find all {@link org.mapstruct.MapperConfig} classes in the given scope.
+     *
+     * @param project the project
+     * @param scope the scope to look in
+     *
+     * @return the mapper config classes in the scope
+     */
+    @NotNull
+    public static List<PsiClass> findMapperConfigClasses(@NotNull Project project, @NotNull GlobalSearchScope scope) {
+        return findClasses( project, scope, MapperIndexEntry.Kind.MAPPER_CONFIG );
+    }
+
+    /**
+     * Find the mapping methods of all {@link org.mapstruct.Mapper} classes in the given scope that map exactly the
+     * given source type to the given target type, i.e. the non void methods with a single parameter of the source
+     * type, that is not a {@link org.mapstruct.MappingTarget}, and a return type that is assignable to the target type.
+     * <p>
+     * The candidates are looked up in the {@link MappingMethodIndex} by the erased types, only the methods found there
+     * are checked against the actual types.
+     *
+     * @param project the project
+     * @param sourceType the type of the mapped parameter
+     * @param targetType the type that the method should return
+     * @param scope the scope to look in
+     *
+     * @return the matching mapping methods
+     */
+    @NotNull
+    public static List<PsiMethod> findMappingMethods(@NotNull Project project, @NotNull PsiClassType sourceType,
+                                                     @NotNull PsiClassType targetType,
+                                                     @NotNull GlobalSearchScope scope) {
+        List<PsiMethod> methods = new ArrayList<>();
+        for ( PsiMethod method : MappingMethodIndex.findMappingMethods( project, sourceType, targetType, scope ) ) {
+            if ( mapsTypes( method, sourceType, targetType ) ) {
+                methods.add( method );
+            }
+        }
+        return methods;
+    }
+
+    private static boolean mapsTypes(@NotNull PsiMethod method, @NotNull PsiClassType sourceType,
+                                     @NotNull PsiClassType targetType) {
+        PsiParameter[] parameters = method.getParameterList().getParameters();
+        PsiType returnType = method.getReturnType();
+        return parameters.length == 1 && returnType != null && !PsiTypes.voidType().equals( returnType ) &&
+            sourceType.equals( parameters[0].getType() ) && targetType.isAssignableFrom( returnType );
+    }
+
+    private static List<PsiClass> findClasses(@NotNull Project project, @NotNull GlobalSearchScope scope,
+                                              @NotNull MapperIndexEntry.Kind kind) {
+        FileBasedIndex fileBasedIndex = FileBasedIndex.getInstance();
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( project );
+        List<PsiClass> classes = new ArrayList<>();
+        for ( String fqn : fileBasedIndex.getAllKeys( NAME, project ) ) {
+            boolean matchesKind = false;
+            for ( MapperIndexEntry entry : fileBasedIndex.getValues( NAME, fqn, scope ) ) {
+                if ( entry.kind() == kind ) {
+                    matchesKind = true;
+                    break;
+                }
+            }
+            if ( !matchesKind ) {
+                continue;
+            }
+
+            for ( PsiClass psiClass : javaPsiFacade.findClasses( fqn, scope ) ) {
+                boolean valid = kind == MapperIndexEntry.Kind.MAPPER ? MapstructUtil.isMapper( psiClass ) :
+                    MapstructUtil.isMapperConfig( psiClass );
+                if ( valid ) {
+                    classes.add( psiClass );
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    @NotNull
+    private static Map<String, MapperIndexEntry> index(@NotNull FileContent inputData) {
+        CharSequence text = inputData.getContentAsText();
+        if ( !StringUtil.contains( text, MAPSTRUCT_PACKAGE ) || !StringUtil.contains( text, "@" ) ) {
+            return Collections.emptyMap();
+        }
+
+        PsiFile psiFile = inputData.getPsiFile();
+        if ( !( psiFile instanceof PsiJavaFile javaFile ) ) {
+            return Collections.emptyMap();
+        }
+
+        List<String> imports = findSingleTypeImports( javaFile );
+        boolean mapstructOnDemandImport = hasMapstructOnDemandImport( javaFile );
+
+        Map<String, MapperIndexEntry> entries = new HashMap<>();
+        for ( PsiClass psiClass : javaFile.getClasses() ) {
+            indexClass( psiClass, imports, mapstructOnDemandImport, entries );
+        }
+        return entries;
+    }
+
+    private static void indexClass(@NotNull PsiClass psiClass, @NotNull List<String> imports,
+                                   boolean mapstructOnDemandImport, @NotNull Map<String, MapperIndexEntry> entries) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if ( qualifiedName != null ) {
+            for ( PsiAnnotation annotation : psiClass.getAnnotations() ) {
+                MapperIndexEntry.Kind kind = null;
+                if ( isMapStructAnnotation( annotation, MAPPER_ANNOTATION_FQN, imports, mapstructOnDemandImport ) ) {
+                    kind = MapperIndexEntry.Kind.MAPPER;
+                }
+                else if ( isMapStructAnnotation(
+                    annotation,
+                    MAPPER_CONFIG_ANNOTATION_FQN,
+                    imports,
+                    mapstructOnDemandImport
+                ) ) {
+                    kind = MapperIndexEntry.Kind.MAPPER_CONFIG;
+                }
+
+                if ( kind != null ) {
+                    entries.put( qualifiedName, new MapperIndexEntry(
+                        kind,
+                        stringValue( annotation.findDeclaredAttributeValue( "componentModel" ) ),
+                        first( classReferences( annotation.findDeclaredAttributeValue( "config" ) ) ),
+                        classReferences( annotation.findDeclaredAttributeValue( "uses" ) ),
+                        classReferences( annotation.findDeclaredAttributeValue( "imports" ) ),
+                        imports,
+                        mappingMethods( psiClass )
+                    ) );
+                    break;
+                }
+            }
+        }
+
+        for ( PsiClass innerClass : psiClass.getInnerClasses() ) {
+            indexClass( innerClass, imports, mapstructOnDemandImport, entries );
+        }
+    }
+
+    private static List<MappingMethodSignature> mappingMethods(@NotNull PsiClass psiClass) {
+        List<MappingMethodSignature> mappingMethods = new ArrayList<>();
+        for ( PsiMethod method : psiClass.getMethods() ) {
+            PsiTypeElement returnTypeElement = method.getReturnTypeElement();
+            if ( method.isConstructor() || method.getBody() != null || returnTypeElement == null ) {
+                continue;
+            }
+
+            PsiParameter[] parameters = method.getParameterList().getParameters();
+            List<String> parameterTypes = new ArrayList<>( parameters.length );
+            int mappingTargetIndex = -1;
+            for ( int i = 0; i < parameters.length; i++ ) {
+                PsiParameter parameter = parameters[i];
+                PsiTypeElement typeElement = parameter.getTypeElement();
+                parameterTypes.add( typeElement == null ? "" : typeText( typeElement ) );
+                if ( mappingTargetIndex < 0 && hasAnnotationWithShortName( parameter, MAPPING_TARGET_ANNOTATION ) ) {
+                    mappingTargetIndex = i;
+                }
+            }
+
+            mappingMethods.add( new MappingMethodSignature(
+                method.getName(),
+                typeText( returnTypeElement ),
+                parameterTypes,
+                mappingTargetIndex
+            ) );
+        }
+
+        return mappingMethods;
+    }
+
+    static boolean hasAnnotationWithShortName(@NotNull PsiParameter parameter, @NotNull String shortName) {
+        for ( PsiAnnotation annotation : parameter.getAnnotations() ) {
+            PsiJavaCodeReferenceElement nameReference = annotation.getNameReferenceElement();
+            if ( nameReference != null && shortName.equals( nameReference.getReferenceName() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isMapStructAnnotation(@NotNull PsiAnnotation annotation, @NotNull String fqn,
+                                         @NotNull List<String> imports, boolean mapstructOnDemandImport) {
+        PsiJavaCodeReferenceElement nameReference = annotation.getNameReferenceElement();
+        if ( nameReference == null ) {
+            return false;
+        }
+
+        String referenceText = StringUtil.replace( nameReference.getText(), " ", "" );
+        if ( fqn.equals( referenceText ) ) {
+            return true;
+        }
+
+        return StringUtil.getShortName( fqn ).equals( referenceText ) &&
+            ( mapstructOnDemandImport || imports.contains( fqn ) );
+    }
+
+    static List<String> findSingleTypeImports(@NotNull PsiJavaFile javaFile) {
+        PsiImportList importList = javaFile.getImportList();
+        if ( importList == null ) {
+            return Collections.emptyList();
+        }
+
+        List<String> imports = new ArrayList<>();
+        for ( PsiImportStatement importStatement : importList.getImportStatements() ) {
+            PsiJavaCodeReferenceElement importReference = importStatement.getImportReference();
+            if ( !importStatement.isOnDemand() && importReference != null ) {
+                imports.add( StringUtil.replace( importReference.getText(), " ", "" ) );
+            }
+        }
+        return imports;
+    }
+
+    static boolean hasMapstructOnDemandImport(@NotNull PsiJavaFile javaFile) {
+        PsiImportList importList = javaFile.getImportList();
+        if ( importList == null ) {
+            return false;
+        }
+
+        for ( PsiImportStatement importStatement : importList.getImportStatements() ) {
+            PsiJavaCodeReferenceElement importReference = importStatement.getImportReference();
+            if ( importStatement.isOnDemand() && importReference != null &&
+                MAPSTRUCT_PACKAGE.equals( StringUtil.replace( importReference.getText(), " ", "" ) ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static String stringValue(@Nullable PsiAnnotationMemberValue value) {
+        if ( value == null ) {
+            return null;
+        }
+        if ( value instanceof PsiLiteralExpression literalExpression &&
+            literalExpression.getValue() instanceof String stringValue ) {
+            return stringValue;
+        }
+        return value.getText();
+    }
+
+    @NotNull
+    private static List<String> classReferences(@Nullable PsiAnnotationMemberValue value) {
+        if ( value == null ) {
+            return Collections.emptyList();
+        }
+
+        List<String> classReferences = new ArrayList<>();
+        if ( value instanceof PsiArrayInitializerMemberValue arrayValue ) {
+            for ( PsiAnnotationMemberValue initializer : arrayValue.getInitializers() ) {
+                if ( initializer instanceof PsiClassObjectAccessExpression classObjectAccess ) {
+                    classReferences.add( typeText( classObjectAccess.getOperand() ) );
+                }
+            }
+        }
+        else if ( value instanceof PsiClassObjectAccessExpression classObjectAccess ) {
+            classReferences.add( typeText( classObjectAccess.getOperand() ) );
+        }
+        return classReferences;
+    }
+
+    /**
+     * @param typeElement the type element
+     *
+     * @return the text of the type element without insignificant whitespace
+     */
+    @NotNull
+    static String typeText(@NotNull PsiTypeElement typeElement) {
+        String text = WHITESPACE.matcher( typeElement.getText() ).replaceAll( " " );
+        return SPACE_AROUND_SEPARATOR.matcher( text ).replaceAll( "$1" ).trim();
+    }
+
+    @Nullable
+    private static String first(@NotNull List<String> values) {
+        return values.isEmpty() ? null : values.get( 0 );
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The indexed data of a {@link org.mapstruct.Mapper} or {@link org.mapstruct.MapperConfig} class.
+ * <p>
+ * The data is collected without resolving anything, i.e. the class references are stored as they are written in the
+ * source file. The {@link #imports()} of the file can be used to qualify them.
+ *
+ * @param kind whether the class is a mapper or a mapper config
+ * @param componentModel the {@code componentModel} attribute value, or {@code null} if it is not defined
+ * @param config the class referenced in the {@code config} attribute, or {@code null} if it is not defined
+ * @param uses the classes referenced in the {@code uses} attribute
+ * @param annotationImports the classes referenced in the {@code imports} attribute
+ * @param imports the single type imports of the file that declares the class
+ * @param mappingMethods the abstract methods of the class
+ */
+public record MapperIndexEntry(@NotNull Kind kind, @Nullable String componentModel, @Nullable String config,
+                               @NotNull List<String> uses, @NotNull List<String> annotationImports,
+                               @NotNull List<String> imports, @NotNull List<MappingMethodSignature> mappingMethods) {
+
+    /**
+     * The kind of the indexed class.
+     */
+    public enum Kind {
+        MAPPER,
+        MAPPER_CONFIG
+    }
+
+    /**
+     * The signature of an abstract method of a mapper, with the types as they are written in the source.
+     *
+     * @param name the name of the method
+     * @param returnType the return type of the method
+     * @param parameterTypes the types of the parameters of the method
+     * @param mappingTargetIndex the index of the parameter annotated with {@link org.mapstruct.MappingTarget},
+     * or {@code -1}
+     */
+    public record MappingMethodSignature(@NotNull String name, @NotNull String returnType,
+                                         @NotNull List<String> parameterTypes, int mappingTargetIndex) {
+    }
+
+    static final DataExternalizer<MapperIndexEntry> EXTERNALIZER = new DataExternalizer<>() {
+
+        @Override
+        public void save(@NotNull DataOutput out, MapperIndexEntry value) throws IOException {
+            DataInputOutputUtil.writeINT( out, value.kind().ordinal() );
+            writeNullableString( out, value.componentModel() );
+            writeNullableString( out, value.config() );
+            writeStrings( out, value.uses() );
+            writeStrings( out, value.annotationImports() );
+            writeStrings( out, value.imports() );
+            DataInputOutputUtil.writeINT( out, value.mappingMethods().size() );
+            for ( MappingMethodSignature method : value.mappingMethods() ) {
+                IOUtil.writeUTF( out, method.name() );
+                IOUtil.writeUTF( out, method.returnType() );
+                writeStrings( out, method.parameterTypes() );
+                DataInputOutputUtil.writeINT( out, method.mappingTargetIndex() + 1 );
+            }
+        }
+
+        @Override
+        public MapperIndexEntry read(@NotNull DataInput in) throws IOException {
+            Kind kind = Kind.values()[DataInputOutputUtil.readINT( in )];
+            String componentModel = readNullableString( in );
+            String config = readNullableString( in );
+            List<String> uses = readStrings( in );
+            List<String> annotationImports = readStrings( in );
+            List<String> imports = readStrings( in );
+            int methodCount = DataInputOutputUtil.readINT( in );
+            List<MappingMethodSignature> mappingMethods = new ArrayList<>( methodCount );
+            for ( int i = 0; i < methodCount; i++ ) {
+                String name = IOUtil.readUTF( in );
+                String returnType = IOUtil.readUTF( in );
+                List<String> parameterTypes = readStrings( in );
+                int mappingTargetIndex = DataInputOutputUtil.readINT( in ) - 1;
+                mappingMethods.add(
+                    new MappingMethodSignature( name, returnType, parameterTypes, mappingTargetIndex )
+                );
+            }
+            return new MapperIndexEntry( kind, componentModel, config, uses, annotationImports, imports,
+                mappingMethods
+            );
+        }
+    };
+
+    private static void writeNullableString(@NotNull DataOutput out, @Nullable String value) throws IOException {
+        out.writeBoolean( value != null );
+        if ( value != null ) {
+            IOUtil.writeUTF( out, value );
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(@NotNull DataInput in) throws IOException {
+        return in.readBoolean() ? IOUtil.readUTF( in ) : null;
+    }
+
+    private static void writeStrings(@NotNull DataOutput out, @NotNull List<String> values) throws IOException {
+        DataInputOutputUtil.writeINT( out, values.size() );
+        for ( String value : values ) {
+            IOUtil.writeUTF( out, value );
+        }
+    }
+
+    private static List<String> readStrings(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT( in );
+        List<String> values = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ ) {
+            values.add( IOUtil.readUTF( in ) );
+        }
+        return values;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiArrayType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.PsiTypes;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.TypeConversionUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+
+/**
+ * Index of the abstract mapping methods of all {@link org.mapstruct.Mapper} classes, keyed by the types that they map.
+ * <p>
+ * Every method is stored under the keys {@code Source->Target}, {@code Source->} and {@code ->Target} for each of its
+ * source types, so that the mappers of a type pair, the mappers from a type and the mappers to a type can all be found
+ * with a single lookup. Like the {@link MapperIndex} the indexer works on the syntax only, the keys are therefore the
+ * simple names of the erased types, e.g. {@code List} for {@code java.util.List<Car>} and {@code Car[]} for an array.
+ * The methods found for a key are resolved and checked against the actual types.
+ */
+public class MappingMethodIndex extends FileBasedIndexExtension<String, List<MappingMethodIndexEntry>> {
+
+    public static final ID<String, List<MappingMethodIndexEntry>> NAME =
+        ID.create( "org.mapstruct.intellij.MappingMethodIndex" );
+
+    private static final String KEY_SEPARATOR = "->";
+    private static final Set<String> ITERABLE_TYPES = Set.of( "Iterable", "Collection", "List", "ArrayList",
+        "LinkedList", "Set", "HashSet", "LinkedHashSet", "SortedSet", "NavigableSet", "TreeSet", "Stream"
+    );
+
+    @NotNull
+    @Override
+    public ID<String, List<MappingMethodIndexEntry>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<MappingMethodIndexEntry>, FileContent> getIndexer() {
+        return MappingMethodIndex::index;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<MappingMethodIndexEntry>> getValueExternalizer() {
+        return MappingMethodIndexEntry.EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param sourceName the simple name of the erased source type, or {@code null} to match any source type
+     * @param targetName the simple name of the erased target type, or {@code null} to match any target type
+     * @param scope the scope to look in
+     *
+     * @return the indexed mapping methods that map the given types, the types are not checked beyond their names
+     */
+    @NotNull
+    public static List<MappingMethodIndexEntry> getEntries(@Nullable String sourceName, @Nullable String targetName,
+                                                           @NotNull GlobalSearchScope scope) {
+        if ( sourceName == null && targetName == null ) {
+            throw new IllegalArgumentException( "Either the source or the target type has to be defined" );
+        }
+
+        List<MappingMethodIndexEntry> entries = new ArrayList<>();
+        for ( List<MappingMethodIndexEntry> fileEntries : FileBasedIndex.getInstance()
+            .getValues( NAME, key( sourceName, targetName ), scope ) ) {
+            entries.addAll( fileEntries );
+        }
+        return entries;
+    }
+
+    /**
+     * Find the abstract mapping methods of all {@link org.mapstruct.Mapper} classes in the given scope that map the
+     * given types, i.e. the methods with a source parameter of the erased source type and with the erased target type
+     * as return type or as the type of the {@link org.mapstruct.MappingTarget} parameter.
+     *
+     * @param project the project
+     * @param sourceType the source type, or {@code null} to find the methods that map any type to the target type
+     * @param targetType the target type, or {@code null} to find the methods that map the source type to any type
+     * @param scope the scope to look in
+     *
+     * @return the matching mapping methods
+     */
+    @NotNull
+    public static List<PsiMethod> findMappingMethods(@NotNull Project project, @Nullable PsiType sourceType,
+                                                     @Nullable PsiType targetType, @NotNull GlobalSearchScope scope) {
+        String sourceName = sourceType == null ? null : erasedName( sourceType );
+        String targetName = targetType == null ? null : erasedName( targetType );
+        if ( sourceName == null && targetName == null ||
+            sourceType != null && sourceName == null ||
+            targetType != null && targetName == null ) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Set<String>> methodNamesByMapper = new LinkedHashMap<>();
+        for ( MappingMethodIndexEntry entry : getEntries( sourceName, targetName, scope ) ) {
+            methodNamesByMapper.computeIfAbsent( entry.mapper(), mapper -> new LinkedHashSet<>() ).add( entry.name() );
+        }
+
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( project );
+        Set<PsiMethod> methods = new LinkedHashSet<>();
+        methodNamesByMapper.forEach( (mapper, methodNames) -> {
+            for ( PsiClass psiClass : javaPsiFacade.findClasses( mapper, scope ) ) {
+                if ( !MapstructUtil.isMapper( psiClass ) ) {
+                    continue;
+                }
+                for ( String methodName : methodNames ) {
+                    for ( PsiMethod method : psiClass.findMethodsByName( methodName, false ) ) {
+                        if ( mapsErasedTypes( method, sourceType, targetType ) ) {
+                            methods.add( method );
+                        }
+                    }
+                }
+            }
+        } );
+        return new ArrayList<>( methods );
+    }
+
+    private static boolean mapsErasedTypes(@NotNull PsiMethod method, @Nullable PsiType sourceType,
+                                           @Nullable PsiType targetType) {
+        if ( targetType != null && !isSameErasure( targetType, targetType( method ) ) ) {
+            return false;
+        }
+        if ( sourceType == null ) {
+            return true;
+        }
+        for ( PsiParameter sourceParameter : getSourceParameters( method ) ) {
+            if ( isSameErasure( sourceType, sourceParameter.getType() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSameErasure(@NotNull PsiType type, @Nullable PsiType otherType) {
+        return otherType != null &&
+            TypeConversionUtil.erasure( type ).equals( TypeConversionUtil.erasure( otherType ) );
+    }
+
+    @Nullable
+    private static PsiType targetType(@NotNull PsiMethod method) {
+        PsiType returnType = method.getReturnType();
+        if ( returnType != null && !PsiTypes.voidType().equals( returnType ) ) {
+            return returnType;
+        }
+        for ( PsiParameter parameter : method.getParameterList().getParameters() ) {
+            if ( MapstructUtil.isMappingTarget( parameter ) ) {
+                return parameter.getType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param type a resolved type
+     *
+     * @return the name under which the type is stored in the index, {@code null} if such types are not indexed
+     */
+    @Nullable
+    private static String erasedName(@NotNull PsiType type) {
+        if ( type instanceof PsiArrayType arrayType ) {
+            String componentName = erasedName( arrayType.getComponentType() );
+            return componentName == null ? null : componentName + "[]";
+        }
+        if ( type instanceof PsiClassType classType ) {
+            return classType.getClassName();
+        }
+        if ( type instanceof PsiPrimitiveType primitiveType ) {
+            return primitiveType.getName();
+        }
+        return null;
+    }
+
+    /**
+     * @param typeText the text of a type as it is written in the source, e.g. {@code java.util.List<Car>}
+     *
+     * @return the name under which the type is stored in the index, e.g. {@code List}
+     */
+    @NotNull
+    private static String erasedName(@NotNull String typeText) {
+        StringBuilder erasedText = new StringBuilder( typeText.length() );
+        int depth = 0;
+        for ( int i = 0; i < typeText.length(); i++ ) {
+            char c = typeText.charAt( i );
+            if ( c == '<' ) {
+                depth++;
+            }
+            else if ( c == '>' ) {
+                depth--;
+            }
+            else if ( depth == 0 ) {
+                erasedText.append( c );
+            }
+        }
+
+        String erasedType = StringUtil.replace( erasedText.toString(), "...", "[]" );
+        int arrayStart = erasedType.indexOf( '[' );
+        return arrayStart < 0 ? StringUtil.getShortName( erasedType ) :
+            StringUtil.getShortName( erasedType.substring( 0, arrayStart ) ) + erasedType.substring( arrayStart );
+    }
+
+    @NotNull
+    private static String key(@Nullable String sourceName, @Nullable String targetName) {
+        return StringUtil.notNullize( sourceName ) + KEY_SEPARATOR + StringUtil.notNullize( targetName );
+    }
+
+    @NotNull
+    private static Map<String, List<MappingMethodIndexEntry>> index(@NotNull FileContent inputData) {
+        CharSequence text = inputData.getContentAsText();
+        if ( !StringUtil.contains( text, MapperIndex.MAPSTRUCT_PACKAGE ) || !StringUtil.contains( text, "@" ) ) {
+            return Collections.emptyMap();
+        }
+
+        PsiFile psiFile = inputData.getPsiFile();
+        if ( !( psiFile instanceof PsiJavaFile javaFile ) ) {
+            return Collections.emptyMap();
+        }
+
+        List<String> imports = MapperIndex.findSingleTypeImports( javaFile );
+        boolean mapstructOnDemandImport = MapperIndex.hasMapstructOnDemandImport( javaFile );
+
+        Map<String, List<MappingMethodIndexEntry>> entries = new HashMap<>();
+        for ( PsiClass psiClass : javaFile.getClasses() ) {
+            indexClass( psiClass, imports, mapstructOnDemandImport, entries );
+        }
+        return entries;
+    }
+
+    private static void indexClass(@NotNull PsiClass psiClass, @NotNull List<String> imports,
+                                   boolean mapstructOnDemandImport,
+                                   @NotNull Map<String, List<MappingMethodIndexEntry>> entries) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if ( qualifiedName != null && isMapper( psiClass, imports, mapstructOnDemandImport ) ) {
+            for ( PsiMethod method : psiClass.getMethods() ) {
+                MappingMethodIndexEntry entry = indexMethod( qualifiedName, method );
+                if ( entry == null ) {
+                    continue;
+                }
+
+                String targetName = erasedName( entry.targetType() );
+                Set<String> keys = new LinkedHashSet<>();
+                keys.add( key( null, targetName ) );
+                for ( String sourceType : entry.sourceTypes() ) {
+                    String sourceName = erasedName( sourceType );
+                    keys.add( key( sourceName, targetName ) );
+                    keys.add( key( sourceName, null ) );
+                }
+                for ( String key : keys ) {
+                    entries.computeIfAbsent( key, k -> new ArrayList<>() ).add( entry );
+                }
+            }
+        }
+
+        for ( PsiClass innerClass : psiClass.getInnerClasses() ) {
+            indexClass( innerClass, imports, mapstructOnDemandImport, entries );
+        }
+    }
+
+    private static boolean isMapper(@NotNull PsiClass psiClass, @NotNull List<String> imports,
+                                    boolean mapstructOnDemandImport) {
+        for ( PsiAnnotation annotation : psiClass.getAnnotations() ) {
+            if ( MapperIndex.isMapStructAnnotation(
+                annotation,
+                MAPPER_ANNOTATION_FQN,
+                imports,
+                mapstructOnDemandImport
+            ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static MappingMethodIndexEntry indexMethod(@NotNull String mapper, @NotNull PsiMethod method) {
+        PsiTypeElement returnTypeElement = method.getReturnTypeElement();
+        if ( method.isConstructor() || method.getBody() != null || returnTypeElement == null ) {
+            return null;
+        }
+
+        List<String> sourceTypes = new ArrayList<>();
+        String mappingTargetType = null;
+        for ( PsiParameter parameter : method.getParameterList().getParameters() ) {
+            PsiTypeElement typeElement = parameter.getTypeElement();
+            if ( typeElement == null ) {
+                continue;
+            }
+            if ( MapperIndex.hasAnnotationWithShortName( parameter, MapperIndex.MAPPING_TARGET_ANNOTATION ) ) {
+                if ( mappingTargetType == null ) {
+                    mappingTargetType = MapperIndex.typeText( typeElement );
+                }
+            }
+            else if ( !MapperIndex.hasAnnotationWithShortName( parameter, "Context" ) &&
+                !MapperIndex.hasAnnotationWithShortName( parameter, "TargetType" ) ) {
+                sourceTypes.add( MapperIndex.typeText( typeElement ) );
+            }
+        }
+
+        String returnType = MapperIndex.typeText( returnTypeElement );
+        String targetType = "void".equals( returnType ) ? mappingTargetType : returnType;
+        if ( targetType == null || sourceTypes.isEmpty() ) {
+            return null;
+        }
+
+        boolean iterable = isIterable( targetType );
+        for ( String sourceType : sourceTypes ) {
+            iterable |= isIterable( sourceType );
+        }
+        return new MappingMethodIndexEntry(
+            mapper,
+            method.getName(),
+            sourceTypes,
+            targetType,
+            mappingTargetType != null,
+            iterable
+        );
+    }
+
+    private static boolean isIterable(@NotNull String typeText) {
+        String erasedName = erasedName( typeText );
+        return erasedName.endsWith( "[]" ) || ITERABLE_TYPES.contains( erasedName );
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The indexed data of an abstract mapping method of a {@link org.mapstruct.Mapper}, stored in the
+ * {@link MappingMethodIndex} under the erased types that it maps.
+ * <p>
+ * Like in the {@link MapperIndexEntry} the types are stored as they are written in the source file.
+ *
+ * @param mapper the fully qualified name of the mapper that declares the method
+ * @param name the name of the method
+ * @param sourceTypes the types of the source parameters, i.e. without the {@link org.mapstruct.MappingTarget},
+ * {@link org.mapstruct.Context} and {@link org.mapstruct.TargetType} parameters
+ * @param targetType the return type of the method, or the type of the {@link org.mapstruct.MappingTarget} parameter if
+ * the method returns {@code void}
+ * @param updateMethod whether the method has a {@link org.mapstruct.MappingTarget} parameter
+ * @param iterable whether the method maps arrays, iterables or streams
+ */
+public record MappingMethodIndexEntry(@NotNull String mapper, @NotNull String name, @NotNull List<String> sourceTypes,
+                                      @NotNull String targetType, boolean updateMethod, boolean iterable) {
+
+    static final DataExternalizer<List<MappingMethodIndexEntry>> EXTERNALIZER = new DataExternalizer<>() {
+
+        @Override
+        public void save(@NotNull DataOutput out, List<MappingMethodIndexEntry> value) throws IOException {
+            DataInputOutputUtil.writeINT( out, value.size() );
+            for ( MappingMethodIndexEntry entry : value ) {
+                IOUtil.writeUTF( out, entry.mapper() );
+                IOUtil.writeUTF( out, entry.name() );
+                DataInputOutputUtil.writeINT( out, entry.sourceTypes().size() );
+                for ( String sourceType : entry.sourceTypes() ) {
+                    IOUtil.writeUTF( out, sourceType );
+                }
+                IOUtil.writeUTF( out, entry.targetType() );
+                out.writeBoolean( entry.updateMethod() );
+                out.writeBoolean( entry.iterable() );
+            }
+        }
+
+        @Override
+        public List<MappingMethodIndexEntry> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT( in );
+            List<MappingMethodIndexEntry> entries = new ArrayList<>( size );
+            for ( int i = 0; i < size; i++ ) {
+                String mapper = IOUtil.readUTF( in );
+                String name = IOUtil.readUTF( in );
+                int sourceTypeCount = DataInputOutputUtil.readINT( in );
+                List<String> sourceTypes = new ArrayList<>( sourceTypeCount );
+                for ( int j = 0; j < sourceTypeCount; j++ ) {
+                    sourceTypes.add( IOUtil.readUTF( in ) );
+                }
+                String targetType = IOUtil.readUTF( in );
+                boolean updateMethod = in.readBoolean();
+                boolean iterable = in.readBoolean();
+                entries.add( new MappingMethodIndexEntry( mapper, name, sourceTypes, targetType, updateMethod,
+                    iterable
+                ) );
+            }
+            return entries;
+        }
+    };
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of the words in the string literals of the Java and Kotlin files that use MapStruct mapping annotations, e.g.
+ * {@code customer} and {@code name} for {@code @Mapping(target = "customer.name")}.
+ * <p>
+ * The properties referenced in the {@code source} and {@code target} of the mapping annotations are found by a word
+ * search for the property name. Common property names like {@code id} or {@code name} occur in almost every file, so
+ * the search is restricted to the files in which this index contains the property name. The indexer works on the text
+ * only, it indexes every string literal of a file that mentions {@code org.mapstruct} and a mapping annotation, which
+ * is a superset of the referenced properties.
+ */
+public class MappingPropertyIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create( "org.mapstruct.intellij.MappingPropertyIndex" );
+
+    private static final String KOTLIN_EXTENSION = "kt";
+    private static final String MAPPING_ANNOTATION = "Mapping";
+    // character literals are matched as well, so that a quote in them does not start a string literal
+    private static final Pattern LITERAL =
+        Pattern.compile( "'(?:[^'\\\\\\r\\n]|\\\\.)*'|\"((?:[^\"\\\\\\r\\n]|\\\\.)*)\"" );
+    private static final Pattern WORD = Pattern.compile( "[A-Za-z_$][A-Za-z0-9_$]*" );
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return MappingPropertyIndex::index;
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> FileTypeRegistry.getInstance().isFileOfType( file, JavaFileType.INSTANCE ) ||
+            KOTLIN_EXTENSION.equals( file.getExtension() );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param propertyName the name of a property
+     * @param scope the scope to look in
+     *
+     * @return the files that use MapStruct mapping annotations and mention the property in a string literal
+     */
+    @NotNull
+    public static Collection<VirtualFile> getFilesWithProperty(@NotNull String propertyName,
+                                                               @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles( NAME, propertyName, scope );
+    }
+
+    @NotNull
+    private static Map<String, Void> index(@NotNull FileContent inputData) {
+        CharSequence text = inputData.getContentAsText();
+        if ( !StringUtil.contains( text, MapperIndex.MAPSTRUCT_PACKAGE ) ||
+            !StringUtil.contains( text, MAPPING_ANNOTATION ) ) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Void> words = new HashMap<>();
+        Matcher literal = LITERAL.matcher( text );
+        while ( literal.find() ) {
+            if ( literal.group( 1 ) == null ) {
+                continue;
+            }
+            Matcher word = WORD.matcher( text ).region( literal.start( 1 ), literal.end( 1 ) );
+            while ( word.find() ) {
+                words.put( word.group(), null );
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.settings.ProjectSettings;
+
+/**
+ * The packages between which the {@link MapStructAnnotatorInspection} reports conversions, as configured in the
+ * {@link ProjectSettings}.
+ * <p>
+ * The patterns are comma separated package names, where {@code *} matches any part of a single package segment and
+ * {@code ..} matches any number of segments, e.g. {@code ..dto..} matches every package with a {@code dto} segment and
+ * {@code com.example..} matches {@code com.example} and all of its sub packages. An empty list matches all packages.
+ */
+final class ConverterPackageFilter {
+
+    private static final Key<CachedValue<ConverterPackageFilter>> KEY = Key.create( "MapStructConverterPackages" );
+
+    private final List<Pattern> sourcePatterns;
+    private final List<Pattern> targetPatterns;
+
+    private ConverterPackageFilter(List<Pattern> sourcePatterns, List<Pattern> targetPatterns) {
+        this.sourcePatterns = sourcePatterns;
+        this.targetPatterns = targetPatterns;
+    }
+
+    @NotNull
+    static ConverterPackageFilter getInstance(@NotNull Project project) {
+        return CachedValuesManager.getManager( project ).getCachedValue(
+            project,
+            KEY,
+            () -> CachedValueProvider.Result.create(
+                new ConverterPackageFilter(
+                    parse( ProjectSettings.getConverterSourcePackages( project ) ),
+                    parse( ProjectSettings.getConverterTargetPackages( project ) )
+                ),
+                ProjectSettings.getModificationTracker( project )
+            ),
+            false
+        );
+    }
+
+    boolean isUnrestricted() {
+        return sourcePatterns.isEmpty() && targetPatterns.isEmpty();
+    }
+
+    /**
+     * @param sourcePackage the package of the converted type
+     * @param targetPackage the package of the type it is converted to
+     *
+     * @return {@code true} if the conversion between the packages should be reported, in either direction
+     */
+    boolean accepts(@NotNull String sourcePackage, @NotNull String targetPackage) {
+        if ( isUnrestricted() ) {
+            return true;
+        }
+        return matches( sourcePatterns, sourcePackage ) && matches( targetPatterns, targetPackage ) ||
+            matches( sourcePatterns, targetPackage ) && matches( targetPatterns, sourcePackage );
+    }
+
+    private static boolean matches(List<Pattern> patterns, String packageName) {
+        if ( patterns.isEmpty() ) {
+            return true;
+        }
+        for ( Pattern pattern : patterns ) {
+            if ( pattern.matcher( packageName ).matches() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static List<Pattern> parse(@NotNull String patterns) {
+        List<Pattern> result = new ArrayList<>();
+        for ( String pattern : patterns.split( "," ) ) {
+            String trimmed = pattern.trim();
+            if ( !trimmed.isEmpty() ) {
+                result.add( Pattern.compile( toRegex( trimmed ) ) );
+            }
+        }
+        return result;
+    }
+
+    private static String toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        if ( pattern.startsWith( ".." ) ) {
+            regex.append( "(?:.*\\.)?" );
+            i = 2;
+        }
+        while ( i < pattern.length() ) {
+            if ( pattern.startsWith( "..", i ) ) {
+                regex.append( i + 2 == pattern.length() ? "(?:\\..*)?" : "\\.(?:.*\\.)?" );
+                i += 2;
+                continue;
+            }
+            char c = pattern.charAt( i );
+            if ( c == '*' ) {
+                regex.append( "[^.]*" );
+            }
+            else if ( c == '.' ) {
+                regex.append( "\\." );
+            }
+            else if ( Character.isJavaIdentifierPart( c ) && c != '$' ) {
+                regex.append( c );
+            }
+            else {
+                regex.append( Pattern.quote( String.valueOf( c ) ) );
+            }
+            i++;
+        }
+        return regex.toString();
+    }
+}
@@ -20,17 +20,10 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.MapStructBundle;
-import org.mapstruct.intellij.util.MapStructVersion;
-import org.mapstruct.intellij.util.MapstructUtil;
-
-import java.util.Set;
 
 import static com.intellij.psi.PsiElementFactory.getInstance;
 import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
-import static org.mapstruct.intellij.util.SourceUtils.findAllDefinedMappingSources;
 import static org.mapstruct.intellij.util.SourceUtils.getGenericTypes;
-import static org.mapstruct.intellij.util.TargetUtils.findAllTargetProperties;
-import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
 
 /**
  * @author hduelme
@@ -40,35 +33,22 @@ public class FromMapMappingMapTypeInspection extends InspectionBase {
     @NotNull
     @Override
     PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
-        return new MyJavaElementVisitor(
-            holder,
-            MapstructUtil.resolveMapStructProjectVersion( holder.getFile() ),
-            MapstructUtil.getInstance( holder.getFile() )
-        );
+        return new MyJavaElementVisitor( holder );
     }
 
     private static class MyJavaElementVisitor extends JavaElementVisitor {
         private final ProblemsHolder holder;
-        private final MapStructVersion mapStructVersion;
-        private final MapstructUtil mapstructUtil;
 
-        private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion,
-                                     MapstructUtil mapstructUtil) {
+        private MyJavaElementVisitor(ProblemsHolder holder) {
             this.holder = holder;
-            this.mapStructVersion = mapStructVersion;
-            this.mapstructUtil = mapstructUtil;
         }
 
         @Override
         public void visitMethod(@NotNull PsiMethod method) {
             super.visitMethod( method );
 
-            if (!MapstructUtil.isMapper( method.getContainingClass() ) ) {
-                return;
-            }
-
-            PsiType targetType = getTargetType( method );
-            if (targetType == null) {
+            MappingMethodModel mappingMethod = MapperModel.findMappingMethod( method );
+            if (mappingMethod == null) {
                 return;
             }
 
@@ -80,17 +60,10 @@ public void visitMethod(@NotNull PsiMethod method) {
             if (parameters == null)  {
                 return;
             }
-            Set<String> allTargetProperties = findAllTargetProperties(
-                targetType,
-                mapStructVersion,
-                mapstructUtil,
-                method
-            );
-            if ( allTargetProperties.contains( fromMapMappingParameter.getName() ) ) {
+            if ( mappingMethod.getTargetProperties().contains( fromMapMappingParameter.getName() ) ) {
                 return;
             }
-            if ( findAllDefinedMappingSources( method, mapStructVersion )
-                    .anyMatch( source -> fromMapMappingParameter.getName().equals( source ) ) ) {
+            if ( mappingMethod.getDefinedSources().contains( fromMapMappingParameter.getName() ) ) {
                 return;
             }
             if (parameters.length == 0) {
@@ -11,6 +11,7 @@
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.diagnostics.MeasuringElementVisitor;
 
 import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
 
@@ -35,7 +36,7 @@ public final PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, bool
             return PsiElementVisitor.EMPTY_VISITOR;
         }
 
-        return buildVisitorInternal( holder, isOnTheFly );
+        return MeasuringElementVisitor.wrap( buildVisitorInternal( holder, isOnTheFly ), getShortName() );
     }
 
     /**
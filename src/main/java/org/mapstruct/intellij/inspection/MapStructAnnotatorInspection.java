@@ -2,256 +2,345 @@
 
 import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
 import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.patterns.PsiJavaPatterns;
 import com.intellij.psi.*;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.diagnostics.MeasuringElementVisitor;
 import org.mapstruct.intellij.quickfix.MapStructMapperGenerateAndUseConvertMethodQuickFix;
 import org.mapstruct.intellij.quickfix.MapStructMapperGenerateAndUseConvertMethodQuickFix2;
+import org.mapstruct.intellij.settings.ProjectSettings;
+import org.mapstruct.intellij.util.MapstructUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 public class MapStructAnnotatorInspection extends AbstractBaseJavaLocalInspectionTool {
 
+    private static final Key<CachedValue<Map<PsiClass, Verdict>>> VERDICTS =
+            Key.create("MapStructAnnotatorInspection.verdicts");
+
     @Override
     public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
 
-        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance(holder.getProject());
-
-        PsiClass iterableClass = javaPsiFacade.findClass("java.lang.Iterable", GlobalSearchScope.allScope(holder.getProject()));
-
-        return new JavaElementVisitor() {
-
-            @Override
-            public void visitReturnStatement(@NotNull PsiReturnStatement returnStatement) {
-                super.visitReturnStatement(returnStatement);
-
-                PsiExpression sourceReturnValue = returnStatement.getReturnValue();
-                if (sourceReturnValue == null) {
-                    return;
-                }
-
-                PsiType sourceType = sourceReturnValue.getType();
-                if (!(sourceType instanceof PsiClassType)) {
-                    return;
-                }
-
-                if (PsiJavaPatterns.psiReturnStatement().inside(PsiLambdaExpression.class).accepts(returnStatement)) {
-                    // lambda 表达式中不进行处理
-                    return;
-
-                }
-                if (PsiJavaPatterns.psiReturnStatement().inside(PsiMethod.class).accepts(returnStatement)) {
-
-                    PsiMethod psiMethod = PsiTreeUtil.getParentOfType(returnStatement, PsiMethod.class);
-                    assert psiMethod != null;
-
-                    PsiType targetType = psiMethod.getReturnType();
-
-                    if (!(targetType instanceof PsiClassType)) {
-                        return;
-                    }
-
-                    if (needFix((PsiClassType) sourceType, (PsiClassType) targetType)) {
-                        holder.registerProblem(
-                                sourceReturnValue,
-                                MapStructBundle.message("inspection.generate_mapstruct_class_and_use_it.problem.descriptor"),
-                                new MapStructMapperGenerateAndUseConvertMethodQuickFix((PsiClassType) sourceType, (PsiClassType) targetType)
-                        );
+        // only suggest generating mappers in modules that can use them
+        if (!MapstructUtil.isMapStructPresent(holder.getFile())) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+
+        return MeasuringElementVisitor.wrap(new ConversionVisitor(holder.getProject(), conversion -> {
+            PsiExpression expression = conversion.expression();
+            holder.registerProblem(
+                    expression,
+                    MapStructBundle.message("inspection.generate_mapstruct_class_and_use_it.problem.descriptor"),
+                    new MapStructMapperGenerateAndUseConvertMethodQuickFix(conversion.sourceType(), conversion.targetType())
+            );
+            holder.registerProblem(
+                    expression,
+                    "[MapStruct] generate mapper class and use mapper method in this class",
+                    new MapStructMapperGenerateAndUseConvertMethodQuickFix2(expression, conversion.sourceType(), conversion.targetType())
+            );
+        }), getShortName());
+    }
 
-                        holder.registerProblem(
-                                sourceReturnValue,
-                                "[MapStruct] generate mapper class and use mapper method in this class",
-                                new MapStructMapperGenerateAndUseConvertMethodQuickFix2(sourceReturnValue, (PsiClassType) sourceType, (PsiClassType) targetType)
-                        );
+    /**
+     * Find all expressions of a file that this inspection reports, e.g. to convert them all at once.
+     * Requires a read action and can be cancelled.
+     *
+     * @param file the file to search
+     * @return the expressions that should be converted with a generated mapper method, in the order of the file
+     */
+    @NotNull
+    public static List<Conversion> findConversions(@NotNull PsiFile file) {
+        if (!(file instanceof PsiJavaFile) || !MapstructUtil.isMapStructPresent(file)) {
+            return Collections.emptyList();
+        }
+        List<Conversion> conversions = new ArrayList<>();
+        ConversionVisitor visitor = new ConversionVisitor(file.getProject(), conversions::add);
+        PsiTreeUtil.processElements(file, element -> {
+            ProgressManager.checkCanceled();
+            element.accept(visitor);
+            return true;
+        });
+        return conversions;
+    }
 
-                    }
-                }
+    /**
+     * An expression whose value should be converted from the source type to the target type with a mapper method.
+     *
+     * @param expression the expression to convert
+     * @param sourceType the type of the expression
+     * @param targetType the type that is expected in the context of the expression
+     */
+    public record Conversion(@NotNull PsiExpression expression, @NotNull PsiClassType sourceType,
+                             @NotNull PsiClassType targetType) {
+    }
 
+    /**
+     * Finds the returned values, assigned values and initializers of local variables whose type needs to be
+     * converted. The visitor is not recursive.
+     */
+    private static class ConversionVisitor extends JavaElementVisitor {
+
+        private final Project project;
+        private final PsiClass iterableClass;
+        private final Consumer<Conversion> consumer;
+
+        private ConversionVisitor(Project project, Consumer<Conversion> consumer) {
+            this.project = project;
+            this.iterableClass = JavaPsiFacade.getInstance(project).findClass("java.lang.Iterable", GlobalSearchScope.allScope(project));
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void visitReturnStatement(@NotNull PsiReturnStatement returnStatement) {
+            super.visitReturnStatement(returnStatement);
+
+            PsiExpression sourceReturnValue = returnStatement.getReturnValue();
+            if (sourceReturnValue == null) {
+                return;
             }
 
-            public void visitMethodCallExpression(@NotNull PsiMethodCallExpression methodCallExpression) {
-                super.visitMethodCallExpression(methodCallExpression);
-
+            PsiType sourceType = sourceReturnValue.getType();
+            if (!(sourceType instanceof PsiClassType)) {
+                return;
             }
 
-            public void visitAssignmentExpression(@NotNull PsiAssignmentExpression assignmentExpression) {
-                super.visitAssignmentExpression(assignmentExpression);
+            if (PsiJavaPatterns.psiReturnStatement().inside(PsiLambdaExpression.class).accepts(returnStatement)) {
+                // lambda 表达式中不进行处理
+                return;
 
-                PsiType targetType = assignmentExpression.getLExpression().getType();
-                PsiExpression rightExpression = assignmentExpression.getRExpression();
-                if (rightExpression == null) {
-                    return;
-                }
-                PsiType sourceType = rightExpression.getType();
-                if (sourceType == null) {
-                    return;
-                }
+            }
+            if (PsiJavaPatterns.psiReturnStatement().inside(PsiMethod.class).accepts(returnStatement)) {
 
+                PsiMethod psiMethod = PsiTreeUtil.getParentOfType(returnStatement, PsiMethod.class);
+                assert psiMethod != null;
 
-                if (!(sourceType instanceof PsiClassType)) {
-                    return;
-                }
+                PsiType targetType = psiMethod.getReturnType();
 
                 if (!(targetType instanceof PsiClassType)) {
                     return;
                 }
-                PsiClassType sourceClassType = (PsiClassType) sourceType;
-                PsiClassType targetClassType = (PsiClassType) targetType;
-
-                if (needFix(sourceClassType, targetClassType)) {
-                    holder.registerProblem(
-                            rightExpression,
-                            MapStructBundle.message("inspection.generate_mapstruct_class_and_use_it.problem.descriptor"),
-                            new MapStructMapperGenerateAndUseConvertMethodQuickFix(sourceClassType, targetClassType)
-                    );
-                    holder.registerProblem(
-                            rightExpression,
-                            "[MapStruct] generate mapper class and use mapper method in this class",
-                            new MapStructMapperGenerateAndUseConvertMethodQuickFix2(rightExpression, (PsiClassType) sourceType, (PsiClassType) targetType)
-                    );
-
-                }
-
 
+                report(sourceReturnValue, (PsiClassType) sourceType, (PsiClassType) targetType);
             }
 
-            @Override
-            public void visitDeclarationStatement(@NotNull PsiDeclarationStatement declarationStatement) {
-                super.visitDeclarationStatement(declarationStatement);
-
-                PsiElement[] declaredElements = declarationStatement.getDeclaredElements();
+        }
 
-                for (PsiElement declaredElement : declaredElements) {
-                    if (declaredElement instanceof PsiLocalVariable) {
-                        PsiLocalVariable it = (PsiLocalVariable) declaredElement;
-                        PsiExpression initializer = it.getInitializer();
+        @Override
+        public void visitAssignmentExpression(@NotNull PsiAssignmentExpression assignmentExpression) {
+            super.visitAssignmentExpression(assignmentExpression);
 
-                        if (initializer == null) {
-                            continue;
-                        }
-
-                        if (initializer instanceof PsiLiteralExpression) {
-                            continue;
-                        }
+            PsiType targetType = assignmentExpression.getLExpression().getType();
+            PsiExpression rightExpression = assignmentExpression.getRExpression();
+            if (rightExpression == null) {
+                return;
+            }
+            PsiType sourceType = rightExpression.getType();
+            if (sourceType == null) {
+                return;
+            }
 
-                        PsiType sourceType = initializer.getType();
-                        if (sourceType == null) {
-                            continue;
-                        }
 
-                        PsiTypeElement typeElement = it.getTypeElement();
+            if (!(sourceType instanceof PsiClassType)) {
+                return;
+            }
 
-                        PsiType targetType = typeElement.getType();
+            if (!(targetType instanceof PsiClassType)) {
+                return;
+            }
 
-                        if (!(sourceType instanceof PsiClassType)) {
-                            continue;
-                        }
+            report(rightExpression, (PsiClassType) sourceType, (PsiClassType) targetType);
+        }
 
-                        if (!(targetType instanceof PsiClassType)) {
-                            continue;
-                        }
-                        PsiClassType sourceClassType = (PsiClassType) sourceType;
-                        PsiClassType targetClassType = (PsiClassType) targetType;
+        @Override
+        public void visitDeclarationStatement(@NotNull PsiDeclarationStatement declarationStatement) {
+            super.visitDeclarationStatement(declarationStatement);
 
-                        if (needFix(sourceClassType, targetClassType)) {
-                            holder.registerProblem(
-                                    initializer,
-                                    MapStructBundle.message("inspection.generate_mapstruct_class_and_use_it.problem.descriptor"),
-                                    new MapStructMapperGenerateAndUseConvertMethodQuickFix(sourceClassType, targetClassType)
-                            );
-                            holder.registerProblem(
-                                    initializer,
-                                    "[MapStruct] generate mapper class and use mapper method in this class",
-                                    new MapStructMapperGenerateAndUseConvertMethodQuickFix2(initializer, (PsiClassType) sourceType, (PsiClassType) targetType)
-                            );
+            PsiElement[] declaredElements = declarationStatement.getDeclaredElements();
 
-                        }
+            for (PsiElement declaredElement : declaredElements) {
+                if (declaredElement instanceof PsiLocalVariable) {
+                    PsiLocalVariable it = (PsiLocalVariable) declaredElement;
+                    PsiExpression initializer = it.getInitializer();
 
+                    if (initializer == null) {
+                        continue;
                     }
 
+                    if (initializer instanceof PsiLiteralExpression) {
+                        continue;
+                    }
 
-                }
+                    PsiType sourceType = initializer.getType();
+                    if (sourceType == null) {
+                        continue;
+                    }
 
+                    PsiTypeElement typeElement = it.getTypeElement();
 
-            }
+                    PsiType targetType = typeElement.getType();
 
-            private boolean needFix(PsiClassType sourceClassType, PsiClassType targetClassType) {
-                if (sourceClassType == null || targetClassType == null) {
-                    return Boolean.FALSE;
-                }
+                    if (!(sourceType instanceof PsiClassType)) {
+                        continue;
+                    }
 
-                PsiClass sourceClass = sourceClassType.resolveGenerics().getElement();
-                if (sourceClass == null) {
-                    return Boolean.FALSE;
-                }
+                    if (!(targetType instanceof PsiClassType)) {
+                        continue;
+                    }
 
-                PsiClass targetClass = targetClassType.resolveGenerics().getElement();
-                if (targetClass == null) {
-                    return Boolean.FALSE;
+                    report(initializer, (PsiClassType) sourceType, (PsiClassType) targetType);
                 }
 
 
-                boolean isSourceTypeIterable = iterableClass != null && sourceClass.isInheritor(iterableClass, true);
-                boolean isTargetTypeIterable = iterableClass != null && targetClass.isInheritor(iterableClass, true);
-
-                // 如果 source 和 target 中，一个是集合，另外一个不是集合的话，则无法转化
-                if (isSourceTypeIterable != isTargetTypeIterable) {
-                    return Boolean.FALSE;
-                }
-
-                // 如果 source 和 target都是集合的话
-                if (isSourceTypeIterable) {
-                    PsiType innerSourceType = PsiUtil.extractIterableTypeParameter(sourceClassType, false);
-                    PsiType innerTargetType = PsiUtil.extractIterableTypeParameter(targetClassType, false);
-                    if (!(innerSourceType instanceof PsiClassType)) {
-                        return Boolean.FALSE;
-                    }
-                    if (!(innerTargetType instanceof PsiClassType)) {
-                        return Boolean.FALSE;
-                    }
-                    return needFix((PsiClassType) innerSourceType, (PsiClassType) innerTargetType);
-                }
+            }
 
-                if (sourceClass.isInheritor(targetClass, true)) {
-                    return Boolean.FALSE;
-                }
 
-                if (sourceClassType.getCanonicalText().equals(targetClassType.getCanonicalText())) {
-                    return Boolean.FALSE;
-                }
+        }
 
-                PsiClass resolvedTargetType = targetClassType.resolve();
+        private void report(PsiExpression expression, PsiClassType sourceClassType, PsiClassType targetClassType) {
+            if (needFix(project, iterableClass, sourceClassType, targetClassType)) {
+                consumer.accept(new Conversion(expression, sourceClassType, targetClassType));
+            }
+        }
 
-                if (resolvedTargetType == null) {
-                    return Boolean.FALSE;
-                }
-                if (resolvedTargetType.getQualifiedName() == null) {
-                    return Boolean.FALSE;
-                }
-                if (resolvedTargetType.getQualifiedName().startsWith("java.math.")) {
-                    return Boolean.FALSE;
-                }
-                if (resolvedTargetType.getQualifiedName().startsWith("java.lang.")) {
-                    return Boolean.FALSE;
-                }
+    }
 
-                PsiClass resolvedSourceType = sourceClassType.resolve();
-                if (resolvedSourceType == null) {
-                    return Boolean.FALSE;
-                }
+    /**
+     * Whether a value of the source type should be converted to the target type with a generated mapper method.
+     * <p>
+     * The check runs for every return, assignment and local variable declaration of a file. Cheap rejections based on
+     * the canonical text of the types are done first. The verdict of the remaining types needs to walk the type
+     * hierarchies, it is cached on the resolved source class per resolved target class until the PSI or the settings
+     * change. Classes with the same qualified name in different modules are different keys.
+     */
+    private static boolean needFix(@NotNull Project project, @Nullable PsiClass iterableClass,
+                                   @Nullable PsiClassType sourceClassType, @Nullable PsiClassType targetClassType) {
+        if (sourceClassType == null || targetClassType == null) {
+            return false;
+        }
+
+        String sourceText = sourceClassType.getCanonicalText();
+        String targetText = targetClassType.getCanonicalText();
+        if (isNeverConverted(targetText) || sourceText.equals(targetText)) {
+            return false;
+        }
+
+        PsiClass sourceClass = sourceClassType.resolve();
+        if (sourceClass == null) {
+            return false;
+        }
+        PsiClass targetClass = targetClassType.resolve();
+        if (targetClass == null) {
+            return false;
+        }
+
+        Map<PsiClass, Verdict> verdicts = CachedValuesManager.getManager(project).getCachedValue(
+                sourceClass,
+                VERDICTS,
+                () -> CachedValueProvider.Result.create(
+                        new ConcurrentHashMap<>(),
+                        PsiModificationTracker.getInstance(project),
+                        ProjectSettings.getModificationTracker(project)
+                ), false);
+        Verdict verdict = verdicts.computeIfAbsent(
+                targetClass,
+                target -> computeVerdict(project, iterableClass, sourceClass, target)
+        );
+
+        if (verdict == Verdict.CONVERT_ELEMENTS) {
+            // 如果 source 和 target都是集合的话
+            PsiType innerSourceType = PsiUtil.extractIterableTypeParameter(sourceClassType, false);
+            PsiType innerTargetType = PsiUtil.extractIterableTypeParameter(targetClassType, false);
+            if (!(innerSourceType instanceof PsiClassType)) {
+                return false;
+            }
+            if (!(innerTargetType instanceof PsiClassType)) {
+                return false;
+            }
+            return needFix(project, iterableClass, (PsiClassType) innerSourceType, (PsiClassType) innerTargetType);
+        }
+        return verdict == Verdict.CONVERT;
+    }
 
-                if (Objects.equals(resolvedTargetType.getQualifiedName(), resolvedSourceType.getQualifiedName())) {
-                    return Boolean.FALSE;
-                }
+    private static Verdict computeVerdict(@NotNull Project project, @Nullable PsiClass iterableClass,
+                                          @NotNull PsiClass sourceClass, @NotNull PsiClass targetClass) {
+        boolean isSourceTypeIterable = iterableClass != null && sourceClass.isInheritor(iterableClass, true);
+        boolean isTargetTypeIterable = iterableClass != null && targetClass.isInheritor(iterableClass, true);
+
+        // 如果 source 和 target 中，一个是集合，另外一个不是集合的话，则无法转化
+        if (isSourceTypeIterable != isTargetTypeIterable) {
+            return Verdict.KEEP;
+        }
+
+        if (isSourceTypeIterable) {
+            return Verdict.CONVERT_ELEMENTS;
+        }
+
+        if (sourceClass.isInheritor(targetClass, true)) {
+            return Verdict.KEEP;
+        }
+
+        String targetName = targetClass.getQualifiedName();
+        if (targetName == null) {
+            return Verdict.KEEP;
+        }
+        if (isNeverConverted(targetName)) {
+            return Verdict.KEEP;
+        }
+
+        if (Objects.equals(targetName, sourceClass.getQualifiedName())) {
+            return Verdict.KEEP;
+        }
+
+        ConverterPackageFilter packageFilter = ConverterPackageFilter.getInstance(project);
+        if (!packageFilter.isUnrestricted() && !packageFilter.accepts(
+                StringUtil.notNullize(PsiUtil.getPackageName(sourceClass)),
+                StringUtil.notNullize(PsiUtil.getPackageName(targetClass))
+        )) {
+            return Verdict.KEEP;
+        }
+
+        return Verdict.CONVERT;
+    }
 
-                return Boolean.TRUE;
-            }
+    private static boolean isNeverConverted(@NotNull String targetText) {
+        return targetText.startsWith("java.lang.") || targetText.startsWith("java.math.");
+    }
 
-        };
+    /**
+     * The cached verdict for a source and a target class.
+     */
+    private enum Verdict {
+        /**
+         * The value is used as it is.
+         */
+        KEEP,
+        /**
+         * The value should be converted with a generated mapper method.
+         */
+        CONVERT,
+        /**
+         * Both classes are iterables, the verdict depends on their element types.
+         */
+        CONVERT_ELEMENTS
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.Map;
+import java.util.Optional;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.ConcurrentFactoryMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.MapStructVersion;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
+
+/**
+ * The analysis model of a {@link org.mapstruct.Mapper} class that is shared by the inspections.
+ * <p>
+ * The model is cached on the mapper class and is recomputed only when the PSI changes. The {@link MappingMethodModel}
+ * of a method is created the first time it is requested, so that the facts of a method (targets, sources, policies
+ * and inheritance) are derived once and not by every inspection that visits the method.
+ */
+public class MapperModel {
+
+    private final PsiClass mapperClass;
+    private final MapStructVersion mapStructVersion;
+    private final MapstructUtil mapstructUtil;
+    private final Map<PsiMethod, Optional<MappingMethodModel>> mappingMethods =
+        ConcurrentFactoryMap.createMap( this::createMappingMethod );
+
+    private MapperModel(@NotNull PsiClass mapperClass) {
+        this.mapperClass = mapperClass;
+        PsiFile containingFile = mapperClass.getContainingFile().getOriginalFile();
+        this.mapStructVersion = MapstructUtil.resolveMapStructProjectVersion( containingFile );
+        this.mapstructUtil = MapstructUtil.getInstance( containingFile );
+    }
+
+    /**
+     * Get the model of the given {@code psiClass}.
+     *
+     * @param psiClass the class for which the model is requested
+     *
+     * @return the model of the class, or {@code null} if the class is not a {@link org.mapstruct.Mapper}
+     */
+    @Nullable
+    public static MapperModel getInstance(@Nullable PsiClass psiClass) {
+        if ( !MapstructUtil.isMapper( psiClass ) ) {
+            return null;
+        }
+
+        return CachedValuesManager.getManager( psiClass.getProject() ).getCachedValue( psiClass, () ->
+            CachedValueProvider.Result.create(
+                new MapperModel( psiClass ),
+                PsiModificationTracker.getInstance( psiClass.getProject() )
+            ) );
+    }
+
+    /**
+     * Get the model of the mapping method {@code method}.
+     *
+     * @param method the method
+     *
+     * @return the model of the method, or {@code null} if the method is not a mapping method that is declared in a
+     * {@link org.mapstruct.Mapper} class
+     */
+    @Nullable
+    public static MappingMethodModel findMappingMethod(@NotNull PsiMethod method) {
+        MapperModel mapperModel = getInstance( method.getContainingClass() );
+        return mapperModel == null ? null : mapperModel.getMappingMethod( method );
+    }
+
+    /**
+     * @param method a method declared in the mapper class
+     *
+     * @return the model of the method, or {@code null} if the method is not a mapping method of this mapper
+     */
+    @Nullable
+    public MappingMethodModel getMappingMethod(@NotNull PsiMethod method) {
+        if ( !mapperClass.equals( method.getContainingClass() ) ) {
+            return null;
+        }
+        return mappingMethods.get( method ).orElse( null );
+    }
+
+    @NotNull
+    public PsiClass getMapperClass() {
+        return mapperClass;
+    }
+
+    @NotNull
+    public MapStructVersion getMapStructVersion() {
+        return mapStructVersion;
+    }
+
+    @NotNull
+    public MapstructUtil getMapstructUtil() {
+        return mapstructUtil;
+    }
+
+    private Optional<MappingMethodModel> createMappingMethod(@NotNull PsiMethod method) {
+        PsiType targetType = getTargetType( method );
+        if ( targetType == null ) {
+            return Optional.empty();
+        }
+        return Optional.of( new MappingMethodModel( this, method, targetType ) );
+    }
+}
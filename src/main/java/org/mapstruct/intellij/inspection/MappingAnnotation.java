@@ -0,0 +1,140 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import com.intellij.lang.jvm.annotation.JvmAnnotationAttribute;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiNameValuePair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The written attributes of a single {@link org.mapstruct.Mapping} annotation.
+ * <p>
+ * The annotations of a mapping method are parsed once by its {@link MappingMethodModel}, the annotations outside of a
+ * mapper (e.g. in a composed annotation) are parsed when they are visited.
+ */
+public class MappingAnnotation {
+
+    private final PsiAnnotation annotation;
+    private final MappingMethodModel mappingMethod;
+
+    private PsiNameValuePair targetProperty;
+    private PsiNameValuePair sourceProperty;
+    private PsiNameValuePair constantProperty;
+    private PsiNameValuePair defaultValueProperty;
+    private PsiNameValuePair expressionProperty;
+    private PsiNameValuePair defaultExpressionProperty;
+    private PsiNameValuePair ignoreProperty;
+    private PsiNameValuePair dependsOnProperty;
+    private PsiNameValuePair qualifiedByNameProperty;
+    private PsiNameValuePair conditionExpression;
+
+    private MappingAnnotation(@NotNull PsiAnnotation annotation, @Nullable MappingMethodModel mappingMethod) {
+        this.annotation = annotation;
+        this.mappingMethod = mappingMethod;
+    }
+
+    /**
+     * @param annotation the {@link org.mapstruct.Mapping} annotation
+     * @param mappingMethod the model of the mapping method that is annotated, {@code null} if there is none
+     *
+     * @return the parsed annotation
+     */
+    @NotNull
+    static MappingAnnotation of(@NotNull PsiAnnotation annotation, @Nullable MappingMethodModel mappingMethod) {
+        MappingAnnotation mappingAnnotation = new MappingAnnotation( annotation, mappingMethod );
+        for ( JvmAnnotationAttribute annotationAttribute : annotation.getAttributes() ) {
+            // exclude not written attributes. They result in a syntax error
+            if ( annotationAttribute instanceof PsiNameValuePair nameValuePair
+                && annotationAttribute.getAttributeValue() != null ) {
+                switch ( nameValuePair.getAttributeName() ) {
+                    case "target" -> mappingAnnotation.targetProperty = nameValuePair;
+                    case "source" -> mappingAnnotation.sourceProperty = nameValuePair;
+                    case "constant" -> mappingAnnotation.constantProperty = nameValuePair;
+                    case "expression" -> mappingAnnotation.expressionProperty = nameValuePair;
+                    case "defaultValue" -> mappingAnnotation.defaultValueProperty = nameValuePair;
+                    case "defaultExpression" -> mappingAnnotation.defaultExpressionProperty = nameValuePair;
+                    case "ignore" -> mappingAnnotation.ignoreProperty = nameValuePair;
+                    case "dependsOn" -> mappingAnnotation.dependsOnProperty = nameValuePair;
+                    case "qualifiedByName" -> mappingAnnotation.qualifiedByNameProperty = nameValuePair;
+                    case "conditionExpression" -> mappingAnnotation.conditionExpression = nameValuePair;
+                    default -> {
+                    }
+                }
+            }
+        }
+        return mappingAnnotation;
+    }
+
+    @NotNull
+    public PsiAnnotation getAnnotation() {
+        return annotation;
+    }
+
+    /**
+     * @return the model of the annotated mapping method, {@code null} if the annotation is not on a mapping method of
+     * a {@link org.mapstruct.Mapper}
+     */
+    @Nullable
+    public MappingMethodModel getMappingMethod() {
+        return mappingMethod;
+    }
+
+    public PsiNameValuePair getTargetProperty() {
+        return targetProperty;
+    }
+
+    public boolean isNotThisTarget() {
+        return targetProperty == null || !".".equals( targetProperty.getLiteralValue() );
+    }
+
+    public PsiNameValuePair getSourceProperty() {
+        return sourceProperty;
+    }
+
+    public PsiNameValuePair getConstantProperty() {
+        return constantProperty;
+    }
+
+    public PsiNameValuePair getDefaultValueProperty() {
+        return defaultValueProperty;
+    }
+
+    public PsiNameValuePair getExpressionProperty() {
+        return expressionProperty;
+    }
+
+    public PsiNameValuePair getDefaultExpressionProperty() {
+        return defaultExpressionProperty;
+    }
+
+    public PsiNameValuePair getIgnoreProperty() {
+        return ignoreProperty;
+    }
+
+    public boolean hasNoSourceProperties() {
+        return sourceProperty == null && defaultValueProperty == null && expressionProperty == null
+            && ignoreProperty == null && constantProperty == null && dependsOnProperty == null
+            && qualifiedByNameProperty == null;
+    }
+
+    public boolean hasNoDefaultProperties() {
+        return defaultValueProperty == null && defaultExpressionProperty == null;
+    }
+
+    public PsiNameValuePair getDependsOnProperty() {
+        return dependsOnProperty;
+    }
+
+    public PsiNameValuePair getQualifiedByNameProperty() {
+        return qualifiedByNameProperty;
+    }
+
+    public PsiNameValuePair getConditionExpression() {
+        return conditionExpression;
+    }
+}
@@ -9,19 +9,20 @@
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.codeInspection.util.IntentionFamilyName;
 import com.intellij.codeInspection.util.IntentionName;
-import com.intellij.lang.jvm.annotation.JvmAnnotationAttribute;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiNameValuePair;
 import com.intellij.psi.impl.source.tree.java.PsiAnnotationParamListImpl;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import static com.intellij.psi.PsiElementFactory.getInstance;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.getAnnotatedMethod;
 
 public abstract class MappingAnnotationInspectionBase extends InspectionBase {
 
@@ -41,46 +42,14 @@ private MyJavaElementVisitor( ProblemsHolder problemsHolder ) {
         public void visitAnnotation(@NotNull PsiAnnotation annotation ) {
             super.visitAnnotation( annotation );
             if (annotation.hasQualifiedName( MapstructUtil.MAPPING_ANNOTATION_FQN )) {
-                MappingAnnotation mappingAnnotation = new MappingAnnotation();
-                for (JvmAnnotationAttribute annotationAttribute : annotation.getAttributes()) {
-                    // exclude not written attributes. They result in a syntax error
-                    if (annotationAttribute instanceof PsiNameValuePair nameValuePair
-                            && annotationAttribute.getAttributeValue() != null) {
-                        switch (nameValuePair.getAttributeName()) {
-                            case "target" :
-                                mappingAnnotation.setTargetProperty( nameValuePair );
-                                break;
-                            case "source":
-                                mappingAnnotation.setSourceProperty( nameValuePair );
-                                break;
-                            case "constant":
-                                mappingAnnotation.setConstantProperty( nameValuePair );
-                                break;
-                            case "expression":
-                                mappingAnnotation.setExpressionProperty( nameValuePair );
-                                break;
-                            case "defaultValue":
-                                mappingAnnotation.setDefaultValueProperty( nameValuePair );
-                                break;
-                            case "defaultExpression":
-                                mappingAnnotation.setDefaultExpressionProperty( nameValuePair );
-                                break;
-                            case "ignore":
-                                mappingAnnotation.setIgnoreProperty( nameValuePair );
-                                break;
-                            case "dependsOn":
-                                mappingAnnotation.setDependsOnProperty( nameValuePair );
-                                break;
-                            case "qualifiedByName":
-                                mappingAnnotation.setQualifiedByNameProperty( nameValuePair );
-                                break;
-                            case "conditionExpression":
-                                mappingAnnotation.setConditionExpression( nameValuePair );
-                                break;
-                            default:
-                                break;
-                        }
-                    }
+                // the annotations of a mapping method are taken from its model, the others are parsed here
+                PsiMethod annotatedMethod = getAnnotatedMethod( annotation );
+                MappingMethodModel mappingMethod =
+                    annotatedMethod == null ? null : MapperModel.findMappingMethod( annotatedMethod );
+                MappingAnnotation mappingAnnotation =
+                    mappingMethod == null ? null : mappingMethod.getMappingAnnotation( annotation );
+                if (mappingAnnotation == null) {
+                    mappingAnnotation = MappingAnnotation.of( annotation, mappingMethod );
                 }
 
                 visitMappingAnnotation( problemsHolder, annotation,  mappingAnnotation );
@@ -92,113 +61,6 @@ public void visitAnnotation(@NotNull PsiAnnotation annotation ) {
     abstract void visitMappingAnnotation( @NotNull ProblemsHolder problemsHolder, @NotNull PsiAnnotation psiAnnotation,
                                           @NotNull MappingAnnotation mappingAnnotation );
 
-    protected static class MappingAnnotation {
-        private PsiNameValuePair targetProperty;
-        private PsiNameValuePair sourceProperty;
-        private PsiNameValuePair constantProperty;
-        private PsiNameValuePair defaultValueProperty;
-        private PsiNameValuePair expressionProperty;
-        private PsiNameValuePair defaultExpressionProperty;
-        private PsiNameValuePair ignoreProperty;
-        private PsiNameValuePair dependsOnProperty;
-        private PsiNameValuePair qualifiedByNameProperty;
-        private PsiNameValuePair conditionExpression;
-
-        public PsiNameValuePair getTargetProperty() {
-            return targetProperty;
-        }
-
-        public void setTargetProperty( PsiNameValuePair targetProperty ) {
-            this.targetProperty = targetProperty;
-        }
-
-        public boolean isNotThisTarget() {
-            return targetProperty == null || !".".equals( targetProperty.getLiteralValue() );
-        }
-
-        public PsiNameValuePair getSourceProperty() {
-            return sourceProperty;
-        }
-
-        public void setSourceProperty( PsiNameValuePair sourceProperty ) {
-            this.sourceProperty = sourceProperty;
-        }
-
-        public PsiNameValuePair getConstantProperty() {
-            return constantProperty;
-        }
-
-        public void setConstantProperty( PsiNameValuePair constantProperty ) {
-            this.constantProperty = constantProperty;
-        }
-
-        public PsiNameValuePair getDefaultValueProperty() {
-            return defaultValueProperty;
-        }
-
-        public void setDefaultValueProperty( PsiNameValuePair defaultValueProperty ) {
-            this.defaultValueProperty = defaultValueProperty;
-        }
-
-        public PsiNameValuePair getExpressionProperty() {
-            return expressionProperty;
-        }
-
-        public void setExpressionProperty( PsiNameValuePair expressionProperty ) {
-            this.expressionProperty = expressionProperty;
-        }
-
-        public PsiNameValuePair getDefaultExpressionProperty() {
-            return defaultExpressionProperty;
-        }
-
-        public void setDefaultExpressionProperty( PsiNameValuePair defaultExpressionProperty ) {
-            this.defaultExpressionProperty = defaultExpressionProperty;
-        }
-
-        public PsiNameValuePair getIgnoreProperty() {
-            return ignoreProperty;
-        }
-
-        public void setIgnoreProperty( PsiNameValuePair ignoreProperty ) {
-            this.ignoreProperty = ignoreProperty;
-        }
-
-        public boolean hasNoSourceProperties() {
-            return sourceProperty == null && defaultValueProperty == null && expressionProperty == null
-                    && ignoreProperty == null && constantProperty == null && dependsOnProperty == null
-                    && qualifiedByNameProperty == null;
-        }
-
-        public boolean hasNoDefaultProperties() {
-            return defaultValueProperty == null && defaultExpressionProperty == null;
-        }
-
-        public PsiNameValuePair getDependsOnProperty() {
-            return dependsOnProperty;
-        }
-
-        public void setDependsOnProperty(PsiNameValuePair dependsOnProperty) {
-            this.dependsOnProperty = dependsOnProperty;
-        }
-
-        public PsiNameValuePair getQualifiedByNameProperty() {
-            return qualifiedByNameProperty;
-        }
-
-        public void setQualifiedByNameProperty(PsiNameValuePair qualifiedByNameProperty) {
-            this.qualifiedByNameProperty = qualifiedByNameProperty;
-        }
-
-        public PsiNameValuePair getConditionExpression() {
-            return conditionExpression;
-        }
-
-        public void setConditionExpression(PsiNameValuePair conditionExpression) {
-            this.conditionExpression = conditionExpression;
-        }
-    }
-
     protected static RemoveAnnotationAttributeQuickFix createRemoveAnnotationAttributeQuickFix(
             @NotNull PsiNameValuePair annotationAttribute, @NotNull String text, @NotNull String family ) {
         return new RemoveAnnotationAttributeQuickFix( annotationAttribute, text, family );
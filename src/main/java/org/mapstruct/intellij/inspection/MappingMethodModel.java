@@ -0,0 +1,379 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.intellij.diagnostics.MapStructMetrics;
+import org.mapstruct.intellij.util.MapperConfiguration;
+import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.TargetUtils;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
+import static com.intellij.codeInsight.AnnotationUtil.getStringAttributeValue;
+import static org.mapstruct.intellij.inspection.inheritance.InheritConfigurationUtils.findInheritedTargetProperties;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.extractMappingAnnotationsFromMappings;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPINGS_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+import static org.mapstruct.intellij.util.SourceUtils.findAllDefinedMappingSources;
+import static org.mapstruct.intellij.util.SourceUtils.findAllSourceProperties;
+import static org.mapstruct.intellij.util.SourceUtils.getGenericTypes;
+import static org.mapstruct.intellij.util.TargetUtils.findAllDefinedMappingTargets;
+import static org.mapstruct.intellij.util.TargetUtils.findAllSourcePropertiesForCurrentTarget;
+import static org.mapstruct.intellij.util.TargetUtils.findAllTargetProperties;
+
+/**
+ * The analysis model of a single mapping method of a {@link MapperModel}.
+ * <p>
+ * The annotation based facts (defined targets and sources, policies) are computed when the model is created,
+ * the facts that need to look into the source and target types or other methods, as well as the parsed
+ * {@link MappingAnnotation}s, are computed on first access.
+ * <p>
+ * The model is recreated with its {@link MapperModel} after every PSI change. The unmapped target properties are
+ * additionally kept on the method together with a {@link MappingMethodStamp}, so that an edit in one method of a mapper
+ * does not recompute them for the unchanged methods.
+ */
+public class MappingMethodModel {
+
+    private static final Key<UnmappedTargetProperties> UNMAPPED_TARGET_PROPERTIES =
+        Key.create( "MapStructUnmappedTargetProperties" );
+
+    private final MapperModel mapperModel;
+    private final PsiMethod method;
+    private final PsiType targetType;
+    private final List<String> definedTargets;
+    private final List<String> definedSources;
+    private final ReportingPolicy unmappedTargetPolicy;
+    private final boolean ignoreByDefault;
+    private final boolean fromMapMapping;
+
+    private final NotNullLazyValue<Map<PsiAnnotation, MappingAnnotation>> mappingAnnotations;
+    private final NotNullLazyValue<Set<String>> inheritedTargets;
+    private final NotNullLazyValue<Set<String>> sourceProperties;
+    private final NotNullLazyValue<Set<String>> currentTargetSourceProperties;
+    private final NotNullLazyValue<Set<String>> targetProperties;
+    private final NotNullLazyValue<Map<String, List<PsiElement>>> targetOccurrences;
+    private final NotNullLazyValue<Set<String>> unmappedTargetProperties;
+
+    MappingMethodModel(@NotNull MapperModel mapperModel, @NotNull PsiMethod method, @NotNull PsiType targetType) {
+        this.mapperModel = mapperModel;
+        this.method = method;
+        this.targetType = targetType;
+        this.definedTargets = findAllDefinedMappingTargets( method, mapperModel.getMapStructVersion() )
+            .collect( Collectors.toUnmodifiableList() );
+        this.definedSources = findAllDefinedMappingSources( method, mapperModel.getMapStructVersion() )
+            .collect( Collectors.toUnmodifiableList() );
+        this.unmappedTargetPolicy = MapperConfiguration.getInstance( mapperModel.getMapperClass() )
+            .getUnmappedTargetPolicy( method );
+        this.ignoreByDefault = isBeanMappingIgnoreByDefault( method );
+        this.fromMapMapping = isFromMapMapping( method );
+
+        this.mappingAnnotations = NotNullLazyValue.atomicLazy( this::computeMappingAnnotations );
+        this.inheritedTargets = NotNullLazyValue.atomicLazy( () -> Collections.unmodifiableSet(
+            findInheritedTargetProperties( method, mapperModel.getMapStructVersion() )
+                .collect( Collectors.toCollection( LinkedHashSet::new ) )
+        ) );
+        this.sourceProperties = NotNullLazyValue.atomicLazy( () -> Collections.unmodifiableSet(
+            findAllSourceProperties( method )
+        ) );
+        this.currentTargetSourceProperties = NotNullLazyValue.atomicLazy( () -> Collections.unmodifiableSet(
+            findAllSourcePropertiesForCurrentTarget( method, mapperModel.getMapStructVersion() )
+                .collect( Collectors.toCollection( LinkedHashSet::new ) )
+        ) );
+        this.targetProperties = NotNullLazyValue.atomicLazy( () -> Collections.unmodifiableSet(
+            findAllTargetProperties(
+                targetType,
+                mapperModel.getMapStructVersion(),
+                mapperModel.getMapstructUtil(),
+                method
+            )
+        ) );
+        this.targetOccurrences = NotNullLazyValue.atomicLazy( this::computeTargetOccurrences );
+        this.unmappedTargetProperties = NotNullLazyValue.atomicLazy( this::findUnmappedTargetProperties );
+    }
+
+    @NotNull
+    public MapperModel getMapperModel() {
+        return mapperModel;
+    }
+
+    @NotNull
+    public PsiMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the type that is mapped by the method, either the return type or the {@code @MappingTarget} type
+     */
+    @NotNull
+    public PsiType getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return all non empty {@link org.mapstruct.Mapping#target()} defined on the method (including meta annotations)
+     */
+    @NotNull
+    public List<String> getDefinedTargets() {
+        return definedTargets;
+    }
+
+    /**
+     * @return all non empty {@link org.mapstruct.Mapping#source()} defined on the method (including meta annotations)
+     */
+    @NotNull
+    public List<String> getDefinedSources() {
+        return definedSources;
+    }
+
+    /**
+     * @return the effective unmapped target policy for the method
+     */
+    @NotNull
+    public ReportingPolicy getUnmappedTargetPolicy() {
+        return unmappedTargetPolicy;
+    }
+
+    /**
+     * @return whether the method is annotated with {@code @BeanMapping(ignoreByDefault = true)}
+     */
+    public boolean isIgnoreByDefault() {
+        return ignoreByDefault;
+    }
+
+    /**
+     * @return whether the method maps from a {@code Map<String, ?>} source parameter
+     */
+    public boolean isFromMapMapping() {
+        return fromMapMapping;
+    }
+
+    /**
+     * @return the {@link org.mapstruct.Mapping} annotations that are declared on the method, directly or in
+     * {@link org.mapstruct.Mappings}
+     */
+    @NotNull
+    public Collection<MappingAnnotation> getMappingAnnotations() {
+        return mappingAnnotations.getValue().values();
+    }
+
+    /**
+     * @param annotation a {@link org.mapstruct.Mapping} annotation
+     *
+     * @return the parsed annotation, {@code null} if the annotation is not declared on the method
+     */
+    @Nullable
+    public MappingAnnotation getMappingAnnotation(@NotNull PsiAnnotation annotation) {
+        return mappingAnnotations.getValue().get( annotation );
+    }
+
+    /**
+     * @return the properties of the single source parameter, or the names of the source parameters if there are more
+     */
+    @NotNull
+    public Set<String> getSourceProperties() {
+        return sourceProperties.getValue();
+    }
+
+    /**
+     * @return the properties of the sources that are mapped to the current target with {@code target = "."}
+     */
+    @NotNull
+    public Set<String> getCurrentTargetSourceProperties() {
+        return currentTargetSourceProperties.getValue();
+    }
+
+    /**
+     * @return the targets that the method inherits through {@link org.mapstruct.InheritConfiguration},
+     * {@link org.mapstruct.InheritInverseConfiguration} or the mapping inheritance strategy
+     */
+    @NotNull
+    public Set<String> getInheritedTargets() {
+        return inheritedTargets.getValue();
+    }
+
+    /**
+     * @return all the target properties of the target type that can be mapped
+     */
+    @NotNull
+    public Set<String> getTargetProperties() {
+        return targetProperties.getValue();
+    }
+
+    /**
+     * @return all the targets that are directly mapped on the method together with the elements that map them,
+     * the {@code target} value of a {@link org.mapstruct.Mapping} or an annotation that is meta annotated with it
+     */
+    @NotNull
+    public Map<String, List<PsiElement>> getTargetOccurrences() {
+        return targetOccurrences.getValue();
+    }
+
+    /**
+     * @return the target properties that are not mapped by the method, empty if they should not be reported
+     */
+    @NotNull
+    public Set<String> getUnmappedTargetProperties() {
+        return unmappedTargetProperties.getValue();
+    }
+
+    private Map<PsiAnnotation, MappingAnnotation> computeMappingAnnotations() {
+        Map<PsiAnnotation, MappingAnnotation> annotations = new LinkedHashMap<>();
+        for ( PsiAnnotation psiAnnotation : method.getAnnotations() ) {
+            String qualifiedName = psiAnnotation.getQualifiedName();
+            if ( MAPPING_ANNOTATION_FQN.equals( qualifiedName ) ) {
+                annotations.put( psiAnnotation, MappingAnnotation.of( psiAnnotation, this ) );
+            }
+            else if ( MAPPINGS_ANNOTATION_FQN.equals( qualifiedName ) ) {
+                extractMappingAnnotationsFromMappings( psiAnnotation )
+                    .forEach( mapping -> annotations.put( mapping, MappingAnnotation.of( mapping, this ) ) );
+            }
+        }
+
+        return Collections.unmodifiableMap( annotations );
+    }
+
+    private Map<String, List<PsiElement>> computeTargetOccurrences() {
+        Map<String, List<PsiElement>> occurrences = new LinkedHashMap<>();
+        for ( PsiAnnotation psiAnnotation : method.getAnnotations() ) {
+            String qualifiedName = psiAnnotation.getQualifiedName();
+            if ( MAPPING_ANNOTATION_FQN.equals( qualifiedName ) ) {
+                addMappingAnnotationOccurrence( psiAnnotation, occurrences );
+            }
+            else if ( MAPPINGS_ANNOTATION_FQN.equals( qualifiedName ) ) {
+                extractMappingAnnotationsFromMappings( psiAnnotation )
+                    .forEach( mapping -> addMappingAnnotationOccurrence( mapping, occurrences ) );
+            }
+            else {
+                // Handle annotations containing at least one Mapping annotation
+                PsiClass annotationClass = psiAnnotation.resolveAnnotationType();
+                if ( annotationClass != null ) {
+                    TargetUtils.findAllDefinedMappingTargets( annotationClass, mapperModel.getMapStructVersion() )
+                        .forEach( target -> occurrences.computeIfAbsent( target, k -> new ArrayList<>() )
+                            .add( psiAnnotation ) );
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap( occurrences );
+    }
+
+    private static void addMappingAnnotationOccurrence(@NotNull PsiAnnotation psiAnnotation,
+                                                       @NotNull Map<String, List<PsiElement>> occurrences) {
+        PsiAnnotationMemberValue value = psiAnnotation.findDeclaredAttributeValue( "target" );
+        if ( value != null ) {
+            String target = getStringAttributeValue( value );
+            if ( target != null && !target.equals( "." ) ) {
+                occurrences.computeIfAbsent( target, k -> new ArrayList<>() ).add( value );
+            }
+        }
+    }
+
+    private Set<String> findUnmappedTargetProperties() {
+        if ( ignoreByDefault || fromMapMapping || unmappedTargetPolicy == ReportingPolicy.IGNORE ) {
+            return Collections.emptySet();
+        }
+
+        MappingMethodStamp stamp = MappingMethodStamp.of( this );
+        MapStructMetrics.cacheLookup( MapStructMetrics.UNMAPPED_TARGET_PROPERTIES, method );
+        UnmappedTargetProperties cached = method.getUserData( UNMAPPED_TARGET_PROPERTIES );
+        if ( cached != null && cached.stamp().equals( stamp ) ) {
+            return cached.properties();
+        }
+
+        MapStructMetrics.cacheMiss( MapStructMetrics.UNMAPPED_TARGET_PROPERTIES, method );
+        Set<String> properties = computeUnmappedTargetProperties();
+        method.putUserData( UNMAPPED_TARGET_PROPERTIES, new UnmappedTargetProperties( stamp, properties ) );
+        return properties;
+    }
+
+    private Set<String> computeUnmappedTargetProperties() {
+        Set<String> allTargetProperties = new LinkedHashSet<>( getTargetProperties() );
+
+        // find and remove all defined mapping targets
+        Set<String> baseDefinedTargets = definedTargets.stream()
+            .map( MappingMethodModel::getBaseTarget )
+            .collect( Collectors.toSet() );
+        allTargetProperties.removeAll( baseDefinedTargets );
+
+        // find and remove all inherited target properties
+        getInheritedTargets().stream()
+            .map( MappingMethodModel::getBaseTarget )
+            .forEach( allTargetProperties::remove );
+
+        if ( baseDefinedTargets.contains( "." ) ) {
+            // If there is a defined current target then we need to remove all implicit mapped properties for
+            // the target source
+            allTargetProperties.removeAll( getCurrentTargetSourceProperties() );
+        }
+
+        // remove the target properties that are implicitly mapped from a source property or parameter with the
+        // same name
+        allTargetProperties.removeAll( getSourceProperties() );
+
+        return Collections.unmodifiableSet( allTargetProperties );
+    }
+
+    @NotNull
+    private static String getBaseTarget(@NotNull String target) {
+        int dotIndex = target.indexOf( "." );
+        if ( dotIndex > 0 ) {
+            return target.substring( 0, dotIndex );
+        }
+        return target;
+    }
+
+    private static boolean isBeanMappingIgnoreByDefault(PsiMethod method) {
+        PsiAnnotation beanMapping = findAnnotation( method, true, MapstructUtil.BEAN_MAPPING_FQN );
+        if ( beanMapping != null ) {
+            Boolean ignoreByDefault = getBooleanAttributeValue( beanMapping, "ignoreByDefault" );
+            if ( ignoreByDefault != null ) {
+                return ignoreByDefault;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isFromMapMapping(@NotNull PsiMethod method) {
+        PsiParameter[] sourceParameters = getSourceParameters( method );
+        for ( PsiParameter parameter : sourceParameters ) {
+            if ( parameter != null && PsiType.getTypeByName( "java.util.Map", method.getProject(),
+                method.getResolveScope() ).isAssignableFrom( parameter.getType() ) ) {
+                PsiType[] generics = getGenericTypes( parameter );
+                if ( generics != null && generics.length > 0 ) {
+                    return generics[0].equalsToText( "java.lang.String" );
+                }
+            }
+        }
+        return false;
+    }
+
+    private record UnmappedTargetProperties(@NotNull MappingMethodStamp stamp, @NotNull Set<String> properties) {
+    }
+}
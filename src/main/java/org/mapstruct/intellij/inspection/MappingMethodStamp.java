@@ -0,0 +1,154 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.util.BuilderDescriptor;
+import org.mapstruct.intellij.util.MapperConfiguration;
+import org.mapstruct.intellij.util.SourceUtils;
+import org.mapstruct.intellij.util.TargetUtils;
+
+import static org.mapstruct.intellij.util.MapstructUtil.INHERIT_CONFIGURATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.INHERIT_INVERSE_CONFIGURATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+
+/**
+ * The state of everything that the unmapped target properties of a {@link MappingMethodModel} are derived from. Two
+ * equal stamps mean that a result computed for the first one can be reused for the second one.
+ * <p>
+ * The method and its mapper annotation are compared by their text. The source, target, builder and annotation classes,
+ * including the meta annotations of the annotation classes at any depth, and the mapper config, including their super
+ * classes, are compared by the modification stamps of their files. Classes declared in the file of the mapper are
+ * compared by their text instead, because the stamp of that file changes with every edit of the mapper. Methods that
+ * inherit their configuration from other methods of the mapper additionally depend on the stamp of the mapper file, and
+ * methods with a {@code target = "."} mapping on every PSI change of the project, because their source properties can
+ * come from any class, in any language.
+ */
+record MappingMethodStamp(@NotNull String methodText, @NotNull String mapperAnnotationsText,
+                          @NotNull List<String> classTexts, @NotNull List<Long> fileStamps, long mapperFileStamp,
+                          long psiStamp, long rootsStamp) {
+
+    private static final long NOT_TRACKED = -1;
+
+    @NotNull
+    static MappingMethodStamp of(@NotNull MappingMethodModel mappingMethod) {
+        PsiMethod method = mappingMethod.getMethod();
+        PsiClass mapperClass = mappingMethod.getMapperModel().getMapperClass();
+        PsiFile mapperFile = method.getContainingFile();
+
+        Set<PsiClass> dependencies = new LinkedHashSet<>();
+        PsiType targetType = mappingMethod.getTargetType();
+        addClassOf( targetType, dependencies );
+        BuilderDescriptor builderDescriptor = TargetUtils.findBuilderDescriptor( targetType );
+        if ( builderDescriptor != null ) {
+            addClassOf( builderDescriptor.getBuilderType(), dependencies );
+        }
+        for ( PsiParameter sourceParameter : getSourceParameters( method ) ) {
+            addClassOf( SourceUtils.getParameterType( sourceParameter ), dependencies );
+        }
+        addAnnotationClasses( method, dependencies );
+        PsiAnnotation mapperConfigAnnotation =
+            MapperConfiguration.getInstance( mapperClass ).getMapperConfigAnnotation();
+        if ( mapperConfigAnnotation != null ) {
+            addClass( PsiTreeUtil.getParentOfType( mapperConfigAnnotation, PsiClass.class ), dependencies );
+        }
+        for ( PsiClass mapperSuperClass : mapperClass.getSupers() ) {
+            addClass( mapperSuperClass, dependencies );
+        }
+
+        List<String> classTexts = new ArrayList<>();
+        Set<PsiFile> files = new LinkedHashSet<>();
+        for ( PsiClass dependency : dependencies ) {
+            PsiFile file = dependency.getContainingFile();
+            if ( file == null ) {
+                continue;
+            }
+            if ( file.equals( mapperFile ) ) {
+                if ( !dependency.equals( mapperClass ) ) {
+                    classTexts.add( dependency.getText() );
+                }
+            }
+            else {
+                files.add( file );
+            }
+        }
+        List<Long> fileStamps = new ArrayList<>( files.size() );
+        for ( PsiFile file : files ) {
+            fileStamps.add( file.getModificationStamp() );
+        }
+
+        boolean inheritsConfiguration = method.hasAnnotation( INHERIT_CONFIGURATION_FQN ) ||
+            method.hasAnnotation( INHERIT_INVERSE_CONFIGURATION_FQN );
+        boolean mapsCurrentTarget = mappingMethod.getDefinedTargets().contains( "." );
+        PsiModifierList mapperModifierList = mapperClass.getModifierList();
+
+        return new MappingMethodStamp(
+            method.getText(),
+            mapperModifierList == null ? "" : mapperModifierList.getText(),
+            classTexts,
+            fileStamps,
+            inheritsConfiguration ? mapperFile.getModificationStamp() : NOT_TRACKED,
+            mapsCurrentTarget ?
+                PsiModificationTracker.getInstance( method.getProject() ).getModificationCount() :
+                NOT_TRACKED,
+            ProjectRootManager.getInstance( method.getProject() ).getModificationCount()
+        );
+    }
+
+    private static void addClassOf(@Nullable PsiType type, @NotNull Set<PsiClass> dependencies) {
+        addClass( PsiUtil.resolveClassInClassTypeOnly( type ), dependencies );
+        if ( type instanceof PsiClassType classType ) {
+            // e.g. the element type of an iterable mapping
+            for ( PsiType parameter : classType.getParameters() ) {
+                addClass( PsiUtil.resolveClassInClassTypeOnly( parameter ), dependencies );
+            }
+        }
+    }
+
+    /**
+     * Add the classes of the annotations of the {@code owner} and, recursively, the classes of their meta annotations.
+     * The {@link org.mapstruct.Mapping} annotations of the method are expanded through all of them.
+     */
+    private static void addAnnotationClasses(@NotNull PsiModifierListOwner owner,
+                                             @NotNull Set<PsiClass> dependencies) {
+        PsiModifierList modifierList = owner.getModifierList();
+        if ( modifierList == null ) {
+            return;
+        }
+        for ( PsiAnnotation annotation : modifierList.getAnnotations() ) {
+            PsiClass annotationClass = annotation.resolveAnnotationType();
+            if ( annotationClass != null && dependencies.add( annotationClass ) ) {
+                addAnnotationClasses( annotationClass, dependencies );
+            }
+        }
+    }
+
+    private static void addClass(@Nullable PsiClass psiClass, @NotNull Set<PsiClass> dependencies) {
+        if ( psiClass != null && dependencies.add( psiClass ) ) {
+            dependencies.addAll( InheritanceUtil.getSuperClasses( psiClass ) );
+        }
+    }
+}
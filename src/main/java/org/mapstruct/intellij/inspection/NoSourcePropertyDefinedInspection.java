@@ -29,9 +29,22 @@ public class NoSourcePropertyDefinedInspection extends MappingAnnotationInspecti
     void visitMappingAnnotation( @NotNull ProblemsHolder problemsHolder, @NotNull PsiAnnotation psiAnnotation,
                                  @NotNull MappingAnnotation mappingAnnotation ) {
         PsiNameValuePair targetProperty = mappingAnnotation.getTargetProperty();
+        if (targetProperty == null || !mappingAnnotation.hasNoSourceProperties()) {
+            return;
+        }
+        MappingMethodModel mappingMethod = mappingAnnotation.getMappingMethod();
+        if (mappingMethod != null) {
+            String targetValue = targetProperty.getLiteralValue();
+            if (!mappingMethod.isIgnoreByDefault()
+                    && ( targetValue == null || !mappingMethod.getSourceProperties().contains( targetValue ) )) {
+                problemsHolder.registerProblem( psiAnnotation,
+                        MapStructBundle.message( "inspection.no.source.property" ) );
+            }
+            return;
+        }
+        // the annotated method is not a mapping method of a mapper, e.g. a method of a @MapperConfig
         PsiMethod annotatedMethod = getAnnotatedMethod( psiAnnotation );
-        if (targetProperty != null && annotatedMethod != null && mappingAnnotation.hasNoSourceProperties()
-                && !isIgnoreByDefaultEnabled( annotatedMethod ) &&
+        if (annotatedMethod != null && !isIgnoreByDefaultEnabled( annotatedMethod ) &&
                 !hasMatchingSourceProperty( annotatedMethod, targetProperty ) ) {
             problemsHolder.registerProblem( psiAnnotation,
                     MapStructBundle.message( "inspection.no.source.property" ) );
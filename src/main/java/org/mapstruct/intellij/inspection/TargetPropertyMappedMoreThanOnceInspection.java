@@ -25,32 +25,20 @@
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
-import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiType;
 import com.intellij.psi.impl.source.tree.java.PsiAnnotationImpl;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
-import org.mapstruct.intellij.util.MapStructVersion;
-import org.mapstruct.intellij.util.MapstructUtil;
-import org.mapstruct.intellij.util.TargetUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import static com.intellij.codeInsight.AnnotationUtil.getStringAttributeValue;
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.extractMappingAnnotationsFromMappings;
-import static org.mapstruct.intellij.util.MapstructUtil.MAPPINGS_ANNOTATION_FQN;
-import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
-import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
-
 /**
  * @author hduelme
  */
@@ -58,43 +46,23 @@ public class TargetPropertyMappedMoreThanOnceInspection extends InspectionBase {
     @NotNull
     @Override
     PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
-        return new TargetPropertyMappedMoreThanOnceInspection.MyJavaElementVisitor( holder,
-                MapstructUtil.resolveMapStructProjectVersion( holder.getFile() ) );
+        return new TargetPropertyMappedMoreThanOnceInspection.MyJavaElementVisitor( holder );
     }
 
     private static class MyJavaElementVisitor extends JavaElementVisitor {
         private final ProblemsHolder holder;
-        private final MapStructVersion mapStructVersion;
 
-        private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion) {
+        private MyJavaElementVisitor(ProblemsHolder holder) {
             this.holder = holder;
-            this.mapStructVersion = mapStructVersion;
         }
 
         @Override
         public void visitMethod(PsiMethod method) {
-            if ( !MapstructUtil.isMapper( method.getContainingClass() ) ) {
-                return;
-            }
-            PsiType targetType = getTargetType( method );
-            if ( targetType == null ) {
+            MappingMethodModel mappingMethod = MapperModel.findMappingMethod( method );
+            if ( mappingMethod == null ) {
                 return;
             }
-            Map<String, List<PsiElement>> problemMap = new HashMap<>();
-            for (PsiAnnotation psiAnnotation : method.getAnnotations()) {
-                String qualifiedName = psiAnnotation.getQualifiedName();
-                if ( MAPPING_ANNOTATION_FQN.equals( qualifiedName ) ) {
-                    handleMappingAnnotation( psiAnnotation, problemMap );
-                }
-                else if (MAPPINGS_ANNOTATION_FQN.equals( qualifiedName )) {
-                    extractMappingAnnotationsFromMappings( psiAnnotation )
-                            .forEach( a -> handleMappingAnnotation( a, problemMap ) );
-                }
-                else {
-                    // Handle annotations containing at least one Mapping annotation
-                    handleAnnotationWithMappingAnnotation( psiAnnotation, problemMap );
-                }
-            }
+            Map<String, List<PsiElement>> problemMap = mappingMethod.getTargetOccurrences();
             QuickFixFactory quickFixFactory = QuickFixFactory.getInstance();
             for (Map.Entry<String, List<PsiElement>> problem : problemMap.entrySet()) {
                 List<PsiElement> problemElements = problem.getValue();
@@ -133,28 +101,6 @@ else if (problemElement instanceof PsiAnnotationMemberValue problemPsiAnnotation
                     MapStructBundle.message( "intention.remove.annotation", annotationName ) );
         }
 
-        private void handleAnnotationWithMappingAnnotation(PsiAnnotation psiAnnotation,
-                                                           Map<String, List<PsiElement>> problemMap) {
-            PsiClass annotationClass = psiAnnotation.resolveAnnotationType();
-            if (annotationClass == null) {
-                return;
-            }
-            TargetUtils.findAllDefinedMappingTargets( annotationClass, mapStructVersion )
-                    .forEach( target ->
-                            problemMap.computeIfAbsent( target, k -> new ArrayList<>() ).add( psiAnnotation ) );
-        }
-
-        private static void handleMappingAnnotation(PsiAnnotation psiAnnotation,
-                                                    Map<String, List<PsiElement>> problemMap) {
-            PsiAnnotationMemberValue value = psiAnnotation.findDeclaredAttributeValue( "target" );
-            if (value != null) {
-                String target = getStringAttributeValue( value );
-                if (target != null && !target.equals( "." )) {
-                    problemMap.computeIfAbsent( target, k -> new ArrayList<>() ).add( value );
-                }
-            }
-        }
-
         private static class ChangeTargetQuickFix extends LocalQuickFixOnPsiElement {
 
             private final String myText;
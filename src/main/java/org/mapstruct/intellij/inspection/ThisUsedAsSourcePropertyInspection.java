@@ -43,7 +43,9 @@ void visitMappingAnnotation(@NotNull ProblemsHolder problemsHolder, @NotNull Psi
             return;
         }
         List<LocalQuickFix>  fixes = new ArrayList<>();
-        PsiMethod annotatedMethod = getAnnotatedMethod( psiAnnotation );
+        MappingMethodModel mappingMethod = mappingAnnotation.getMappingMethod();
+        PsiMethod annotatedMethod =
+            mappingMethod != null ? mappingMethod.getMethod() : getAnnotatedMethod( psiAnnotation );
         if (annotatedMethod != null) {
             for (PsiParameter sourceParameter : getSourceParameters( annotatedMethod )) {
                 fixes.add( new ReplaceSourceParameterValueQuickFix(sourceProperty, sourceParameter.getName() ) );
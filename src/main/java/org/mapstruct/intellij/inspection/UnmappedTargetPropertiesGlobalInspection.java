@@ -0,0 +1,208 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.GlobalInspectionContext;
+import com.intellij.codeInspection.GlobalInspectionTool;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptionsProcessor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ex.JobDescriptor;
+import com.intellij.codeInspection.reference.RefElement;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.Nls;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.util.SourceUtils;
+
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+
+/**
+ * The batch variant of {@link UnmappedTargetPropertiesInspection}, used by "Inspect Code". In the editor the shared
+ * {@link UnmappedTargetPropertiesInspection} is used.
+ * <p>
+ * Instead of visiting every file of the scope, the files that declare a mapper are taken from the {@link MapperIndex}.
+ * They are processed concurrently, each file in its own short read action, so that a pending write action is not
+ * blocked for the whole run. The source and target classes of the processed methods are kept reachable until the
+ * run is finished, so that the accessors cached on them are computed once for all the mappers that use them and are
+ * not collected together with the PSI of a file that is no longer inspected.
+ */
+public class UnmappedTargetPropertiesGlobalInspection extends GlobalInspectionTool {
+
+    private final JobDescriptor mapperJob =
+        new JobDescriptor( MapStructBundle.message( "inspection.unmapped.target.properties.global.progress" ) );
+
+    @Nls
+    @NotNull
+    @Override
+    public String getGroupDisplayName() {
+        return MapStructBundle.message( "group.names.mapstruct.issues" );
+    }
+
+    @NotNull
+    @Override
+    public String getShortName() {
+        // the same name as the shared local inspection, so that both are suppressed in the same way
+        return new UnmappedTargetPropertiesInspection().getShortName();
+    }
+
+    @Override
+    public LocalInspectionTool getSharedLocalInspectionTool() {
+        return new UnmappedTargetPropertiesInspection();
+    }
+
+    @Override
+    public boolean isGraphNeeded() {
+        return false;
+    }
+
+    @Override
+    public boolean isReadActionNeeded() {
+        return false;
+    }
+
+    @Override
+    public JobDescriptor @NotNull [] getAdditionalJobs(@NotNull GlobalInspectionContext context) {
+        return new JobDescriptor[] { mapperJob };
+    }
+
+    @Override
+    public void runInspection(@NotNull AnalysisScope scope, @NotNull InspectionManager manager,
+                              @NotNull GlobalInspectionContext globalContext,
+                              @NotNull ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+        Project project = manager.getProject();
+        List<VirtualFile> mapperFiles = ReadAction.compute( () -> findMapperFiles( project, scope ) );
+        mapperJob.setTotalAmount( mapperFiles.size() );
+
+        Queue<ProblemDescriptor> problems = new ConcurrentLinkedQueue<>();
+        Set<PsiClass> sharedClasses = ConcurrentHashMap.newKeySet();
+        ProgressIndicator indicator = ProgressManager.getInstance().getProgressIndicator();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            mapperFiles,
+            indicator == null ? new EmptyProgressIndicator() : indicator,
+            mapperFile -> {
+                ReadAction.run(
+                    () -> inspectMapperFile( mapperFile, manager, globalContext, problems, sharedClasses )
+                );
+                synchronized ( mapperJob ) {
+                    globalContext.incrementJobDoneAmount( mapperJob, mapperFile.getPresentableUrl() );
+                }
+                return true;
+            }
+        );
+
+        ReadAction.run( () -> {
+            for ( ProblemDescriptor problem : problems ) {
+                PsiElement element = problem.getPsiElement();
+                RefElement reference = element == null ? null :
+                    globalContext.getRefManager().getReference( element.getContainingFile() );
+                if ( reference != null ) {
+                    problemDescriptionsProcessor.addProblemElement( reference, problem );
+                }
+            }
+        } );
+    }
+
+    @NotNull
+    private static List<VirtualFile> findMapperFiles(@NotNull Project project, @NotNull AnalysisScope scope) {
+        GlobalSearchScope projectScope = GlobalSearchScope.projectScope( project );
+        Set<VirtualFile> mapperFiles = new LinkedHashSet<>();
+        for ( String mapperName : MapperIndex.getAllMapperNames( project ) ) {
+            ProgressManager.checkCanceled();
+            for ( VirtualFile file : MapperIndex.getContainingFiles( mapperName, projectScope ) ) {
+                if ( scope.contains( file ) ) {
+                    mapperFiles.add( file );
+                }
+            }
+        }
+        return new ArrayList<>( mapperFiles );
+    }
+
+    private void inspectMapperFile(@NotNull VirtualFile mapperFile, @NotNull InspectionManager manager,
+                                   @NotNull GlobalInspectionContext globalContext,
+                                   @NotNull Collection<ProblemDescriptor> problems,
+                                   @NotNull Set<PsiClass> sharedClasses) {
+        if ( !mapperFile.isValid() ) {
+            return;
+        }
+        PsiFile psiFile = PsiManager.getInstance( manager.getProject() ).findFile( mapperFile );
+        if ( !( psiFile instanceof PsiJavaFile javaFile ) || !isMapStructPresent( psiFile ) ) {
+            return;
+        }
+
+        for ( PsiClass psiClass : javaFile.getClasses() ) {
+            inspectClass( psiClass, manager, globalContext, problems, sharedClasses );
+        }
+    }
+
+    private void inspectClass(@NotNull PsiClass psiClass, @NotNull InspectionManager manager,
+                              @NotNull GlobalInspectionContext globalContext,
+                              @NotNull Collection<ProblemDescriptor> problems, @NotNull Set<PsiClass> sharedClasses) {
+        MapperModel mapperModel = MapperModel.getInstance( psiClass );
+        if ( mapperModel != null ) {
+            for ( PsiMethod method : psiClass.getMethods() ) {
+                ProgressManager.checkCanceled();
+                MappingMethodModel mappingMethod = mapperModel.getMappingMethod( method );
+                if ( mappingMethod == null || globalContext.isSuppressed( method, getShortName() ) ) {
+                    continue;
+                }
+
+                keepReachable( mappingMethod, sharedClasses );
+                ProblemDescriptor problem =
+                    UnmappedTargetPropertiesInspection.createProblemDescriptor( manager, method, false );
+                if ( problem != null ) {
+                    problems.add( problem );
+                }
+            }
+        }
+
+        for ( PsiClass innerClass : psiClass.getInnerClasses() ) {
+            inspectClass( innerClass, manager, globalContext, problems, sharedClasses );
+        }
+    }
+
+    private static void keepReachable(@NotNull MappingMethodModel mappingMethod, @NotNull Set<PsiClass> classes) {
+        PsiClass targetClass = PsiUtil.resolveClassInClassTypeOnly( mappingMethod.getTargetType() );
+        if ( targetClass != null ) {
+            classes.add( targetClass );
+        }
+        for ( PsiParameter sourceParameter : getSourceParameters( mappingMethod.getMethod() ) ) {
+            PsiClass sourceClass =
+                PsiUtil.resolveClassInClassTypeOnly( SourceUtils.getParameterType( sourceParameter ) );
+            if ( sourceClass != null ) {
+                classes.add( sourceClass );
+            }
+        }
+    }
+}
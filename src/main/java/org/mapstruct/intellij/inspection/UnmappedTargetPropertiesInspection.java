@@ -14,7 +14,9 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.intellij.codeInspection.InspectionManager;
 import com.intellij.codeInspection.LocalQuickFixOnPsiElement;
+import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.codeInspection.ProblemHighlightType;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.project.Project;
@@ -24,31 +26,19 @@
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiIdentifier;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
-import com.intellij.psi.PsiParameter;
-import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.intellij.MapStructBundle;
 import org.mapstruct.intellij.settings.ProjectSettings;
-import org.mapstruct.intellij.util.MapStructVersion;
 import org.mapstruct.intellij.util.MapstructUtil;
 
-import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
-import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
-import static org.mapstruct.intellij.inspection.inheritance.InheritConfigurationUtils.findInheritedTargetProperties;
 import static org.mapstruct.intellij.util.MapstructAnnotationUtils.addMappingAnnotation;
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.getUnmappedTargetPolicy;
-import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
-import static org.mapstruct.intellij.util.SourceUtils.findAllSourceProperties;
-import static org.mapstruct.intellij.util.SourceUtils.getGenericTypes;
-import static org.mapstruct.intellij.util.TargetUtils.findAllDefinedMappingTargets;
-import static org.mapstruct.intellij.util.TargetUtils.findAllSourcePropertiesForCurrentTarget;
-import static org.mapstruct.intellij.util.TargetUtils.findAllTargetProperties;
-import static org.mapstruct.intellij.util.TargetUtils.getTargetType;
 
 /**
  * Inspection that checks if there are unmapped target properties.
@@ -59,159 +49,85 @@ public class UnmappedTargetPropertiesInspection extends InspectionBase {
     @NotNull
     @Override
     PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
-        return new MyJavaElementVisitor(
-            holder,
-            MapstructUtil.resolveMapStructProjectVersion( holder.getFile() ),
-            MapstructUtil.getInstance( holder.getFile() )
-        );
+        return new MyJavaElementVisitor( holder );
     }
 
     private static class MyJavaElementVisitor extends JavaElementVisitor {
         private final ProblemsHolder holder;
-        private final MapStructVersion mapStructVersion;
-        private final MapstructUtil mapstructUtil;
 
-        private MyJavaElementVisitor(ProblemsHolder holder, MapStructVersion mapStructVersion,
-                                     MapstructUtil mapstructUtil) {
+        private MyJavaElementVisitor(ProblemsHolder holder) {
             this.holder = holder;
-            this.mapStructVersion = mapStructVersion;
-            this.mapstructUtil = mapstructUtil;
         }
 
         @Override
         public void visitMethod(PsiMethod method) {
             super.visitMethod( method );
 
-            if ( !MapstructUtil.isMapper( method.getContainingClass() ) ) {
-                return;
-            }
-
-            PsiType targetType = getTargetType( method );
-            if ( targetType == null ) {
-                return;
-            }
-
-            if ( isBeanMappingIgnoreByDefault( method ) ) {
-                return;
-            }
-
-            if ( isFromMapMapping( method ) ) {
-                return;
-            }
-
-            ReportingPolicy reportingPolicy = getUnmappedTargetPolicy( method );
-            if (reportingPolicy == ReportingPolicy.IGNORE) {
-                return;
-            }
-
-            Set<String> allTargetProperties = findAllTargetProperties(
-                targetType,
-                mapStructVersion,
-                mapstructUtil,
-                method
-            );
-
-            // find and remove all defined mapping targets
-            Set<String> definedTargets = findAllDefinedMappingTargets( method, mapStructVersion )
-                .map( MyJavaElementVisitor::getBaseTarget )
-                .collect( Collectors.toSet() );
-            allTargetProperties.removeAll( definedTargets );
-
-            // find and remove all inherited target properties
-            Set<String> inheritedTargetProperties = findInheritedTargetProperties( method, mapStructVersion )
-                .map( MyJavaElementVisitor::getBaseTarget )
-                .collect( Collectors.toSet() );
-            allTargetProperties.removeAll( inheritedTargetProperties );
-
-            if ( definedTargets.contains( "." ) ) {
-                // If there is a defined current target then we need to remove all implicit mapped properties for
-                // the target source
-
-                Set<String> currentTargetSourceProperties =
-                    findAllSourcePropertiesForCurrentTarget(
-                    method,
-                    mapStructVersion
-                )
-                    .collect( Collectors.toSet() );
-
-                allTargetProperties.removeAll( currentTargetSourceProperties );
-            }
-
-            //TODO maybe we need to improve this by more granular extraction
-            Set<String> sourceProperties = findAllSourceProperties( method );
-            allTargetProperties.removeAll( sourceProperties );
-
-            int missingTargetProperties = allTargetProperties.size();
-            if ( missingTargetProperties > 0 ) {
-                String messageKey = missingTargetProperties == 1 ? "inspection.unmapped.target.property" :
-                    "inspection.unmapped.target.properties.list";
-                String descriptionTemplate = MapStructBundle.message(
-                    messageKey,
-                    allTargetProperties.stream()
-                        .sorted()
-                        .collect( Collectors.joining( ", " ) )
-                );
-                List<UnmappedTargetPropertyFix> quickFixes = new ArrayList<>( missingTargetProperties * 2 + 1 );
-
-                allTargetProperties.stream()
-                    .sorted()
-                    .flatMap( property -> Stream.of(
-                        createAddIgnoreUnmappedTargetPropertyFix( method, property ),
-                        createAddUnmappedTargetPropertyFix( method, property )
-                    ) )
-                    .forEach( quickFixes::add );
-
-                if ( missingTargetProperties > 1 ) {
-                    // If there is more than one add ignore all
-                    quickFixes.add( createAddIgnoreAllUnmappedTargetPropertiesFix( method, allTargetProperties ) );
-                }
-
-                //noinspection ConstantConditions
-                holder.registerProblem(
-                    method.getNameIdentifier(),
-                    descriptionTemplate,
-                        (ReportingPolicy.ERROR == reportingPolicy ? ProblemHighlightType.ERROR :
-                    ProblemHighlightType.WARNING),
-                    quickFixes.toArray( UnmappedTargetPropertyFix.EMPTY_ARRAY )
-                );
+            ProblemDescriptor problemDescriptor =
+                createProblemDescriptor( holder.getManager(), method, holder.isOnTheFly() );
+            if ( problemDescriptor != null ) {
+                holder.registerProblem( problemDescriptor );
             }
         }
 
-        @NotNull
-        private static String getBaseTarget(@NotNull String target) {
-            int dotIndex = target.indexOf( "." );
-            if ( dotIndex > 0 ) {
-                return target.substring( 0, dotIndex );
-            }
-            return target;
-        }
+    }
 
-        private static boolean isBeanMappingIgnoreByDefault(PsiMethod method) {
-            PsiAnnotation beanMapping = findAnnotation( method, true, MapstructUtil.BEAN_MAPPING_FQN );
-            if ( beanMapping != null ) {
-                Boolean ignoreByDefault = getBooleanAttributeValue( beanMapping, "ignoreByDefault" );
-                if ( ignoreByDefault != null ) {
-                    return ignoreByDefault;
-                }
-            }
+    /**
+     * Create the problem for the unmapped target properties of a method, shared with
+     * {@link UnmappedTargetPropertiesGlobalInspection}.
+     *
+     * @param manager the inspection manager
+     * @param method the method to check
+     * @param isOnTheFly whether the inspection runs in the editor
+     *
+     * @return the problem, or {@code null} if the method is not a mapping method or all target properties are mapped
+     */
+    @Nullable
+    static ProblemDescriptor createProblemDescriptor(@NotNull InspectionManager manager, @NotNull PsiMethod method,
+                                                     boolean isOnTheFly) {
+        MappingMethodModel mappingMethod = MapperModel.findMappingMethod( method );
+        if ( mappingMethod == null ) {
+            return null;
+        }
 
-            return false;
+        Set<String> allTargetProperties = mappingMethod.getUnmappedTargetProperties();
+        int missingTargetProperties = allTargetProperties.size();
+        PsiIdentifier nameIdentifier = method.getNameIdentifier();
+        if ( missingTargetProperties == 0 || nameIdentifier == null ) {
+            return null;
         }
 
-        private static boolean isFromMapMapping(@NotNull PsiMethod method) {
-            PsiParameter[]  sourceParameters = getSourceParameters( method );
-            for (PsiParameter parameter : sourceParameters) {
-                if (parameter != null && PsiType.getTypeByName( "java.util.Map", method.getProject(),
-                        method.getResolveScope() ).isAssignableFrom( parameter.getType() ) ) {
-                    PsiType[] generics = getGenericTypes( parameter );
-                    if (generics != null && generics.length > 0) {
-                        return  generics[0].equalsToText( "java.lang.String" );
-                    }
-                }
-            }
-            return false;
+        String messageKey = missingTargetProperties == 1 ? "inspection.unmapped.target.property" :
+            "inspection.unmapped.target.properties.list";
+        String descriptionTemplate = MapStructBundle.message(
+            messageKey,
+            allTargetProperties.stream()
+                .sorted()
+                .collect( Collectors.joining( ", " ) )
+        );
+        List<UnmappedTargetPropertyFix> quickFixes = new ArrayList<>( missingTargetProperties * 2 + 1 );
+
+        allTargetProperties.stream()
+            .sorted()
+            .flatMap( property -> Stream.of(
+                createAddIgnoreUnmappedTargetPropertyFix( method, property ),
+                createAddUnmappedTargetPropertyFix( method, property )
+            ) )
+            .forEach( quickFixes::add );
+
+        if ( missingTargetProperties > 1 ) {
+            // If there is more than one add ignore all
+            quickFixes.add( createAddIgnoreAllUnmappedTargetPropertiesFix( method, allTargetProperties ) );
         }
 
+        ReportingPolicy reportingPolicy = mappingMethod.getUnmappedTargetPolicy();
+        return manager.createProblemDescriptor(
+            nameIdentifier,
+            descriptionTemplate,
+            isOnTheFly,
+            quickFixes.toArray( UnmappedTargetPropertyFix.EMPTY_ARRAY ),
+            ReportingPolicy.ERROR == reportingPolicy ? ProblemHighlightType.ERROR : ProblemHighlightType.WARNING
+        );
     }
 
     private static class UnmappedTargetPropertyFix extends LocalQuickFixOnPsiElement {
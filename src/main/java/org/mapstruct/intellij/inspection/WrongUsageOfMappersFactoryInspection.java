@@ -14,7 +14,6 @@
 import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiAnnotation;
-import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassObjectAccessExpression;
 import com.intellij.psi.PsiElement;
@@ -29,7 +28,7 @@
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
-import org.mapstruct.intellij.util.MapstructAnnotationUtils;
+import org.mapstruct.intellij.util.MapperConfiguration;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import java.util.ArrayList;
@@ -105,17 +104,7 @@ public void visitMethodCallExpression(PsiMethodCallExpression expression) {
                         mapperAnnotation,
                             COMPONENT_MODEL
                     );
-                    PsiAnnotationMemberValue memberValue;
-
-                    if (componentModelAttribute != null) {
-                        memberValue = componentModelAttribute.getDetachedValue();
-                    }
-                    else {
-                        memberValue = MapstructAnnotationUtils.findConfigValueFromMapperConfig( mapperAnnotation,
-                                COMPONENT_MODEL );
-                    }
-                    String componentModel = memberValue == null ? null :
-                            AnnotationUtil.getStringAttributeValue(  memberValue );
+                    String componentModel = MapperConfiguration.getInstance( mapperClass ).getComponentModel();
                     if ( componentModel != null && !componentModel.equals( "default" ) ) {
                         List<LocalQuickFix> fixes = new ArrayList<>(2);
                         if (componentModelAttribute != null) {
@@ -5,12 +5,18 @@
  */
 package org.mapstruct.intellij.inspection.inheritance;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,8 +28,13 @@
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceExpression;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.util.containers.ConcurrentFactoryMap;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.MappingInheritanceStrategy;
+import org.mapstruct.intellij.diagnostics.MapStructMetrics;
 import org.mapstruct.intellij.util.MapStructVersion;
 
 import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
@@ -54,10 +65,55 @@ public static Stream<String> findInheritedTargetProperties(@NotNull PsiMethod ma
             return Stream.empty();
         }
 
+        long start = MapStructMetrics.start();
+        try {
+            MapperInheritance mapperInheritance = findMapperInheritance( containingClass, mapStructVersion );
+
+            if ( mapperInheritance == null ) {
+                return Stream.empty();
+            }
+
+            return mapperInheritance.getMergedTargets( mappingMethod ).stream();
+        }
+        finally {
+            MapStructMetrics.stop( MapStructMetrics.INHERITANCE, mappingMethod, start );
+        }
+    }
+
+    /**
+     * The inheritance graph of a mapper is resolved once for all of its methods and cached on the mapper class, the
+     * mapping methods of the mapper only differ in the node from which the graph is traversed.
+     */
+    private static MapperInheritance findMapperInheritance(@NotNull PsiClass containingClass,
+                                                           MapStructVersion mapStructVersion) {
+        Map<MapStructVersion, Optional<MapperInheritance>> inheritanceByVersion =
+            CachedValuesManager.getManager( containingClass.getProject() ).getCachedValue( containingClass, () ->
+                CachedValueProvider.Result.create(
+                    new ConcurrentHashMap<>(),
+                    PsiModificationTracker.getInstance( containingClass.getProject() )
+                ) );
+
+        MapStructMetrics.cacheLookup( MapStructMetrics.INHERITANCE, containingClass );
+        Optional<MapperInheritance> mapperInheritance = inheritanceByVersion.get( mapStructVersion );
+        if ( mapperInheritance == null ) {
+            MapStructMetrics.cacheMiss( MapStructMetrics.INHERITANCE, containingClass );
+            mapperInheritance = Optional.ofNullable( createMapperInheritance( containingClass, mapStructVersion ) );
+            Optional<MapperInheritance> existing =
+                inheritanceByVersion.putIfAbsent( mapStructVersion, mapperInheritance );
+            if ( existing != null ) {
+                mapperInheritance = existing;
+            }
+        }
+
+        return mapperInheritance.orElse( null );
+    }
+
+    private static MapperInheritance createMapperInheritance(@NotNull PsiClass containingClass,
+                                                             MapStructVersion mapStructVersion) {
         PsiAnnotation mapperAnnotation = findAnnotation( containingClass, MAPPER_ANNOTATION_FQN );
 
         if ( mapperAnnotation == null ) {
-            return Stream.empty();
+            return null;
         }
 
         List<SourceMethod> availableMethods = findMappingMethodsFromInheritScope( containingClass, mapperAnnotation )
@@ -68,35 +124,23 @@ public static Stream<String> findInheritedTargetProperties(@NotNull PsiMethod ma
             .collect( Collectors.toList() );
         MappingInheritanceStrategy inheritanceStrategy = findAnnotatedMappingInheritanceStrategy( mapperAnnotation );
 
-        InheritConfigurationContext ctx = new InheritConfigurationContext(
+        return new MapperInheritance(
             mapStructVersion,
             availableMethods,
             prototypeMethods,
-            new ArrayList<>(),
             inheritanceStrategy
         );
-
-        mergeInheritedOptions( new SourceMethod( mappingMethod ), ctx );
-
-        return ctx.mappedTargets.stream();
     }
 
     /**
-     * Merges inherited properties in a recursive way.
+     * Resolves the templates of a single method and the targets that it directly inherits from them.
      *
-     * @param method method to merge properties by inheritance
+     * @param method method to resolve the inheritance for
      * @param ctx context that helps with inheritance
      * @see "org.mapstruct.ap.internal.processor.MapperCreationProcessor#mergeInheritedOptions"
      */
-    private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull InheritConfigurationContext ctx) {
-
-        if ( ctx.initializingMethods.contains( method ) ) {
-            // cycle detected
-            ctx.initializingMethods.add( method );
-            return;
-        }
-
-        ctx.initializingMethods.add( method );
+    private static InheritanceNode resolveInheritanceNode(@NotNull SourceMethod method,
+                                                          @NotNull MapperInheritance ctx) {
 
         PsiType targetType = getRelevantType( method.method );
 
@@ -110,8 +154,7 @@ private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull
             getForwardTemplateMethod(
                 join( ctx.availableMethods, applicablePrototypeMethods ),
                 method,
-                targetType,
-                ctx
+                targetType
             );
 
         Set<SourceMethod> applicableReversePrototypeMethods = getApplicableReversePrototypeMethods(
@@ -124,18 +167,22 @@ private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull
             getInverseTemplateMethod(
                 join( ctx.availableMethods, applicableReversePrototypeMethods ),
                 method,
-                targetType,
-                ctx
+                targetType
             );
 
+        List<PsiMethod> templates = new ArrayList<>( 2 );
+        Set<String> inheritedTargets = new HashSet<>();
+
         // apply defined (@InheritConfiguration, @InheritInverseConfiguration) mappings
         if ( forwardTemplateMethod != null ) {
+            templates.add( forwardTemplateMethod.method );
             findAllDefinedMappingTargets( forwardTemplateMethod.method, ctx.mapStructVersion )
-                .forEach( ctx.mappedTargets::add );
+                .forEach( inheritedTargets::add );
         }
         if ( inverseTemplateMethod != null ) {
+            templates.add( inverseTemplateMethod.method );
             findAllDefinedMappingSources( inverseTemplateMethod.method, ctx.mapStructVersion )
-                .forEach( ctx.mappedTargets::add );
+                .forEach( inheritedTargets::add );
         }
 
         // apply auto inherited options
@@ -147,7 +194,7 @@ private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull
             if ( forwardTemplateMethod == null && applyForward ) {
                 if ( applicablePrototypeMethods.size() == 1 ) {
                     findAllDefinedMappingTargets( first( applicablePrototypeMethods ).method, ctx.mapStructVersion )
-                        .forEach( ctx.mappedTargets::add );
+                        .forEach( inheritedTargets::add );
                 }
             }
 
@@ -160,66 +207,58 @@ private static void mergeInheritedOptions(@NotNull SourceMethod method, @NotNull
                             first( applicableReversePrototypeMethods ).method,
                             ctx.mapStructVersion
                         )
-                        .forEach( ctx.mappedTargets::add );
+                        .forEach( inheritedTargets::add );
                 }
             }
         }
 
-        method.fullyInitialized = true;
+        return new InheritanceNode( templates, inheritedTargets );
     }
 
     private static SourceMethod getInverseTemplateMethod(
         Set<SourceMethod> rawMethods, SourceMethod mappingMethod,
-        PsiType targetType,
-        InheritConfigurationContext ctx
+        PsiType targetType
     ) {
 
-        SourceMethod resultMethod = null;
-
         PsiAnnotation inverseConfiguration = findAnnotation( mappingMethod.method, INHERIT_INVERSE_CONFIGURATION_FQN );
 
-        if ( inverseConfiguration != null ) {
+        if ( inverseConfiguration == null ) {
+            return null;
+        }
 
-            // method is configured as being inverse method, collect candidates
-            List<SourceMethod> candidates = new ArrayList<>();
-            for ( SourceMethod oneMethod : rawMethods ) {
-                if ( mappingMethod.inverses( oneMethod.method, targetType ) ) {
-                    candidates.add( oneMethod );
-                }
+        // method is configured as being inverse method, collect candidates
+        List<SourceMethod> candidates = new ArrayList<>();
+        for ( SourceMethod oneMethod : rawMethods ) {
+            if ( mappingMethod.inverses( oneMethod.method, targetType ) ) {
+                candidates.add( oneMethod );
             }
-
-            resultMethod = getResultMethod( inverseConfiguration, candidates );
         }
 
-        return extractInitializedOptions( resultMethod, ctx );
+        return getResultMethod( inverseConfiguration, candidates );
     }
 
     private static SourceMethod getForwardTemplateMethod(
         Set<SourceMethod> rawMethods,
         SourceMethod mappingMethod,
-        PsiType targetType,
-        InheritConfigurationContext ctx
+        PsiType targetType
     ) {
 
-        SourceMethod resultMethod = null;
-
         PsiAnnotation inheritConfiguration = findAnnotation( mappingMethod.method, INHERIT_CONFIGURATION_FQN );
 
-        if ( inheritConfiguration != null ) {
+        if ( inheritConfiguration == null ) {
+            return null;
+        }
 
-            List<SourceMethod> candidates = new ArrayList<>();
-            for ( SourceMethod oneMethod : rawMethods ) {
-                // method must be similar but not equal
-                if ( mappingMethod.canInheritFrom( oneMethod.method, targetType ) &&
-                    !( oneMethod.equals( mappingMethod ) ) ) {
-                    candidates.add( oneMethod );
-                }
+        List<SourceMethod> candidates = new ArrayList<>();
+        for ( SourceMethod oneMethod : rawMethods ) {
+            // method must be similar but not equal
+            if ( mappingMethod.canInheritFrom( oneMethod.method, targetType ) &&
+                !( oneMethod.equals( mappingMethod ) ) ) {
+                candidates.add( oneMethod );
             }
-
-            resultMethod = getResultMethod( inheritConfiguration, candidates );
         }
 
-        return extractInitializedOptions( resultMethod, ctx );
+        return getResultMethod( inheritConfiguration, candidates );
     }
 
     private static SourceMethod getResultMethod(
@@ -254,17 +293,6 @@ else if ( candidates.size() > 1 ) {
         return null;
     }
 
-    private static SourceMethod extractInitializedOptions(SourceMethod method, InheritConfigurationContext ctx) {
-        if ( method != null ) {
-            if ( !method.fullyInitialized ) {
-                mergeInheritedOptions( method, ctx );
-            }
-            return method;
-        }
-
-        return null;
-    }
-
     private static Set<SourceMethod> getApplicableReversePrototypeMethods(SourceMethod mappingMethod,
                                                                           PsiType targetType,
                                                                           List<SourceMethod> prototypeMethods) {
@@ -346,28 +374,66 @@ private static <T> T first(Collection<T> collection) {
         return collection.stream().findFirst().orElse( null );
     }
 
-    private static class InheritConfigurationContext {
+    /**
+     * The targets that a method inherits directly, without following its templates.
+     *
+     * @param templates the methods from which the method inherits its configuration
+     * @param inheritedTargets the targets inherited from the templates and through auto inheritance
+     */
+    private record InheritanceNode(@NotNull List<PsiMethod> templates, @NotNull Set<String> inheritedTargets) {
+    }
+
+    /**
+     * The inheritance graph of a mapper. The nodes are resolved on first access and the targets merged along the
+     * graph are memoized per method.
+     */
+    private static class MapperInheritance {
 
         private final MapStructVersion mapStructVersion;
         @NotNull
         private final List<SourceMethod> availableMethods;
         @NotNull
         private final List<SourceMethod> prototypeMethods;
-        @NotNull
-        private final List<SourceMethod> initializingMethods;
         private final MappingInheritanceStrategy inheritanceStrategy;
-        private final Set<String> mappedTargets = new HashSet<>();
-
-        private InheritConfigurationContext(MapStructVersion mapStructVersion,
-                                            @NotNull List<SourceMethod> availableMethods,
-                                            @NotNull List<SourceMethod> prototypeMethods,
-                                            @NotNull List<SourceMethod> initializingMethods,
-                                            MappingInheritanceStrategy inheritanceStrategy) {
+        private final Map<PsiMethod, InheritanceNode> nodes =
+            ConcurrentFactoryMap.createMap( method -> resolveInheritanceNode( new SourceMethod( method ), this ) );
+        private final Map<PsiMethod, Set<String>> mergedTargets =
+            ConcurrentFactoryMap.createMap( this::mergeTargets );
+
+        private MapperInheritance(MapStructVersion mapStructVersion,
+                                  @NotNull List<SourceMethod> availableMethods,
+                                  @NotNull List<SourceMethod> prototypeMethods,
+                                  MappingInheritanceStrategy inheritanceStrategy) {
             this.mapStructVersion = mapStructVersion;
             this.availableMethods = availableMethods;
             this.prototypeMethods = prototypeMethods;
-            this.initializingMethods = initializingMethods;
             this.inheritanceStrategy = inheritanceStrategy;
         }
+
+        @NotNull
+        private Set<String> getMergedTargets(@NotNull PsiMethod method) {
+            return mergedTargets.get( method );
+        }
+
+        /**
+         * Merges the inherited targets of all methods that can be reached from {@code method} through its templates.
+         * Every method is visited only once, which also protects against cycles.
+         */
+        private Set<String> mergeTargets(@NotNull PsiMethod method) {
+            Set<String> targets = new HashSet<>();
+            Set<PsiMethod> visited = new HashSet<>();
+            Deque<PsiMethod> toVisit = new ArrayDeque<>();
+            toVisit.push( method );
+            while ( !toVisit.isEmpty() ) {
+                PsiMethod current = toVisit.pop();
+                if ( visited.add( current ) ) {
+                    InheritanceNode node = nodes.get( current );
+                    targets.addAll( node.inheritedTargets() );
+                    node.templates().forEach( toVisit::push );
+                }
+            }
+
+            return Collections.unmodifiableSet( targets );
+        }
     }
 }
@@ -28,11 +28,9 @@
 public class SourceMethod {
 
     PsiMethod method;
-    boolean fullyInitialized;
 
     public SourceMethod(PsiMethod method) {
         this.method = method;
-        this.fullyInitialized = false;
     }
 
     /**
@@ -0,0 +1,135 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.navigation;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.intellij.codeInsight.hint.HintManager;
+import com.intellij.codeInsight.navigation.NavigationUtil;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiExpression;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.siyeh.ig.psiutils.ExpectedTypeUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.MappingMethodIndex;
+
+/**
+ * Navigates to the mapping methods that map the types at the caret, looked up in the {@link MappingMethodIndex}.
+ * <p>
+ * On an expression whose type is not assignable to the type that is expected in its context the methods that map the
+ * type of the expression to the expected type are shown. On the name of a class, or on a reference to a class, the
+ * methods that map from or to the class are shown.
+ */
+public class GotoMapperForTypesAction extends AnAction {
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        e.getPresentation().setEnabledAndVisible( e.getProject() != null &&
+            e.getData( CommonDataKeys.EDITOR ) != null &&
+            e.getData( CommonDataKeys.PSI_FILE ) instanceof PsiJavaFile );
+    }
+
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        Editor editor = e.getData( CommonDataKeys.EDITOR );
+        PsiFile file = e.getData( CommonDataKeys.PSI_FILE );
+        if ( project == null || editor == null || file == null ) {
+            return;
+        }
+
+        List<PsiMethod> methods = findMappingMethods( file, editor.getCaretModel().getOffset() );
+        if ( methods.isEmpty() ) {
+            HintManager.getInstance()
+                .showInformationHint( editor, MapStructBundle.message( "action.goto.mapper.for.types.not.found" ) );
+        }
+        else if ( methods.size() == 1 ) {
+            methods.get( 0 ).navigate( true );
+        }
+        else {
+            NavigationUtil.getPsiElementPopup(
+                methods.toArray( PsiMethod.EMPTY_ARRAY ),
+                MapStructBundle.message( "action.goto.mapper.for.types.popup.title" )
+            ).showInBestPositionFor( editor );
+        }
+    }
+
+    /**
+     * @param file the file
+     * @param offset the offset of the caret in the file
+     *
+     * @return the mapping methods for the types at the offset
+     */
+    @NotNull
+    static List<PsiMethod> findMappingMethods(@NotNull PsiFile file, int offset) {
+        Project project = file.getProject();
+        GlobalSearchScope scope = GlobalSearchScope.allScope( project );
+        PsiElement element = file.findElementAt( offset );
+        if ( element == null && offset > 0 ) {
+            element = file.findElementAt( offset - 1 );
+        }
+
+        PsiExpression expression = PsiTreeUtil.getParentOfType( element, PsiExpression.class, false );
+        while ( expression != null ) {
+            PsiType sourceType = expression.getType();
+            PsiType targetType = ExpectedTypeUtils.findExpectedType( expression, false );
+            if ( sourceType instanceof PsiClassType && targetType instanceof PsiClassType &&
+                !targetType.isAssignableFrom( sourceType ) ) {
+                return MappingMethodIndex.findMappingMethods( project, sourceType, targetType, scope );
+            }
+            expression = PsiTreeUtil.getParentOfType( expression, PsiExpression.class, true );
+        }
+
+        PsiClass psiClass = findClass( element );
+        if ( psiClass == null ) {
+            return List.of();
+        }
+        PsiClassType classType = JavaPsiFacade.getElementFactory( project ).createType( psiClass );
+        Set<PsiMethod> methods = new LinkedHashSet<>();
+        methods.addAll( MappingMethodIndex.findMappingMethods( project, classType, null, scope ) );
+        methods.addAll( MappingMethodIndex.findMappingMethods( project, null, classType, scope ) );
+        return List.copyOf( methods );
+    }
+
+    @Nullable
+    private static PsiClass findClass(@Nullable PsiElement element) {
+        PsiJavaCodeReferenceElement reference =
+            PsiTreeUtil.getParentOfType( element, PsiJavaCodeReferenceElement.class, false );
+        if ( reference != null && reference.resolve() instanceof PsiClass referencedClass ) {
+            return referencedClass;
+        }
+        if ( element != null && element.getParent() instanceof PsiClass declaredClass &&
+            element.equals( declaredClass.getNameIdentifier() ) ) {
+            return declaredClass;
+        }
+        return null;
+    }
+}
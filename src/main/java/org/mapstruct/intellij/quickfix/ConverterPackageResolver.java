@@ -0,0 +1,124 @@
+package org.mapstruct.intellij.quickfix;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.settings.ProjectSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the directory in which the generate and use converter quick fix creates its mappers: the configured
+ * mapper package of the module, below the root package of the source root of the converted expression.
+ */
+public final class ConverterPackageResolver {
+
+    private ConverterPackageResolver() {
+    }
+
+    /**
+     * The root package is the shallowest package of the source root that contains Java files. It is found with a
+     * breadth first walk over the package directories that stops at the first level with Java files, without loading
+     * any PSI, and cached per source root until the VFS structure or the project roots change.
+     * <p>
+     * Requires a read action and can be cancelled.
+     *
+     * @param file the file from which the quick fix is applied
+     * @return the directory of the root package, or {@code null} if the file is not in a source root
+     */
+    @Nullable
+    public static PsiDirectory findRootPackageDirectory(@NotNull PsiFile file) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        if (virtualFile == null) {
+            return null;
+        }
+
+        Project project = file.getProject();
+        VirtualFile sourceRoot = ProjectFileIndex.getInstance(project).getSourceRootForFile(virtualFile);
+        if (sourceRoot == null) {
+            return null;
+        }
+
+        PsiManager psiManager = PsiManager.getInstance(project);
+        PsiDirectory sourceRootDirectory = psiManager.findDirectory(sourceRoot);
+        if (sourceRootDirectory == null) {
+            return null;
+        }
+
+        VirtualFile rootPackage = CachedValuesManager.getCachedValue(sourceRootDirectory, () ->
+                CachedValueProvider.Result.create(
+                        findShallowestPackageWithJavaFiles(sourceRoot),
+                        VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS,
+                        ProjectRootManager.getInstance(project)
+                ));
+
+        return rootPackage != null && rootPackage.isValid() ? psiManager.findDirectory(rootPackage) : null;
+    }
+
+    /**
+     * @param file the file from which the quick fix is applied
+     * @return the mapper package of the module of the file, relative to the root package
+     */
+    @NotNull
+    public static String getConverterPackage(@NotNull PsiFile file) {
+        Module module = ModuleUtilCore.findModuleForFile(file);
+        return ProjectSettings.getConverterPackage(file.getProject(), module);
+    }
+
+    /**
+     * Find or create the directory of the mapper package. Requires a write action if the directory does not exist.
+     *
+     * @param rootPackageDirectory the directory of the root package
+     * @param converterPackage the mapper package relative to the root package, e.g. {@code assemblers}
+     * @return the directory of the mapper package
+     */
+    @NotNull
+    public static PsiDirectory findOrCreateConverterDirectory(@NotNull PsiDirectory rootPackageDirectory,
+                                                              @NotNull String converterPackage) {
+        PsiDirectory directory = rootPackageDirectory;
+        for (String segment : converterPackage.split("\\.")) {
+            if (segment.isBlank()) {
+                continue;
+            }
+            PsiDirectory subdirectory = directory.findSubdirectory(segment.trim());
+            directory = subdirectory != null ? subdirectory : directory.createSubdirectory(segment.trim());
+        }
+        return directory;
+    }
+
+    @Nullable
+    private static VirtualFile findShallowestPackageWithJavaFiles(@NotNull VirtualFile sourceRoot) {
+        List<VirtualFile> level = List.of(sourceRoot);
+        while (!level.isEmpty()) {
+            VirtualFile shallowest = null;
+            List<VirtualFile> nextLevel = new ArrayList<>();
+            for (VirtualFile directory : level) {
+                ProgressManager.checkCanceled();
+                for (VirtualFile child : directory.getChildren()) {
+                    if (child.isDirectory()) {
+                        nextLevel.add(child);
+                    } else if ("java".equals(child.getExtension())
+                            && (shallowest == null || directory.getPath().length() < shallowest.getPath().length())) {
+                        shallowest = directory;
+                    }
+                }
+            }
+            if (shallowest != null) {
+                return shallowest;
+            }
+            level = nextLevel;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,292 @@
+package org.mapstruct.intellij.quickfix;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.analysis.BaseAnalysisAction;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.fileTypes.FileTypeRegistry;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Ref;
+import com.intellij.openapi.util.ThrowableComputable;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.wm.StatusBar;
+import com.intellij.openapi.wm.WindowManager;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.domain.MapStructMapperGenerator;
+import org.mapstruct.intellij.inspection.MapStructAnnotatorInspection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Generates the mapper methods for all expressions that {@link MapStructAnnotatorInspection} reports in a file,
+ * package or module, and replaces the expressions with calls of the mapper methods.
+ * <p>
+ * Everything runs under a cancellable modal progress. The expressions are collected file by file in read actions.
+ * The mapper methods are then generated with one write command per file. The progress is reported per file, and
+ * the generation can be cancelled between two files. All of the commands share one undo group, so the whole batch
+ * can be undone at once. Once all files are done, a last command in the same group shortens the class references
+ * and optimizes the imports of every touched file, and reformats the generated mappers. Each file gets exactly one
+ * such pass.
+ */
+public class GenerateMapStructConvertersAction extends BaseAnalysisAction {
+
+    public GenerateMapStructConvertersAction() {
+        super(
+                () -> MapStructBundle.message("action.generate.converters.title"),
+                () -> MapStructBundle.message("action.generate.converters.noun")
+        );
+    }
+
+    @Override
+    protected void analyze(@NotNull Project project, @NotNull AnalysisScope scope) {
+        String title = MapStructBundle.message("action.generate.converters.title");
+        ProgressManager.getInstance().run(new Task.Modal(project, title, true) {
+
+            private int converted;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                List<FileConversions> fileConversions = collectConversions(project, scope, indicator);
+                converted = generateConverters(project, title, fileConversions, indicator);
+            }
+
+            @Override
+            public void onSuccess() {
+                StatusBar statusBar = WindowManager.getInstance().getStatusBar(project);
+                if (statusBar != null) {
+                    statusBar.setInfo(MapStructBundle.message("action.generate.converters.done", converted));
+                }
+            }
+        });
+    }
+
+    @NotNull
+    private static List<FileConversions> collectConversions(@NotNull Project project, @NotNull AnalysisScope scope,
+                                                            @NotNull ProgressIndicator indicator) {
+        indicator.setIndeterminate(false);
+        indicator.setText(MapStructBundle.message("action.generate.converters.collecting"));
+
+        List<VirtualFile> javaFiles = new ArrayList<>();
+        ReadAction.run(() -> scope.accept(virtualFile -> {
+            indicator.checkCanceled();
+            if (FileTypeRegistry.getInstance().isFileOfType(virtualFile, JavaFileType.INSTANCE)) {
+                javaFiles.add(virtualFile);
+            }
+            return true;
+        }));
+
+        List<FileConversions> fileConversions = new ArrayList<>();
+        DumbService dumbService = DumbService.getInstance(project);
+        for (int i = 0; i < javaFiles.size(); i++) {
+            indicator.checkCanceled();
+            VirtualFile virtualFile = javaFiles.get(i);
+            indicator.setFraction((double) i / javaFiles.size());
+            indicator.setText2(virtualFile.getPresentableUrl());
+
+            FileConversions conversions =
+                    dumbService.runReadActionInSmartMode(() -> findConversions(project, virtualFile));
+            if (conversions != null) {
+                fileConversions.add(conversions);
+            }
+        }
+        return fileConversions;
+    }
+
+    @Nullable
+    private static FileConversions findConversions(@NotNull Project project, @NotNull VirtualFile virtualFile) {
+        if (!virtualFile.isValid()) {
+            return null;
+        }
+        PsiFile psiFile = PsiManager.getInstance(project).findFile(virtualFile);
+        if (psiFile == null) {
+            return null;
+        }
+
+        List<MapStructAnnotatorInspection.Conversion> conversions =
+                MapStructAnnotatorInspection.findConversions(psiFile);
+        if (conversions.isEmpty()) {
+            return null;
+        }
+
+        PsiDirectory rootPackageDirectory = ConverterPackageResolver.findRootPackageDirectory(psiFile);
+        if (rootPackageDirectory == null) {
+            return null;
+        }
+
+        SmartPointerManager pointerManager = SmartPointerManager.getInstance(project);
+        SmartTypePointerManager typePointerManager = SmartTypePointerManager.getInstance(project);
+        List<ConversionPointer> pointers = new ArrayList<>(conversions.size());
+        for (MapStructAnnotatorInspection.Conversion conversion : conversions) {
+            pointers.add(new ConversionPointer(
+                    pointerManager.createSmartPsiElementPointer(conversion.expression()),
+                    typePointerManager.createSmartTypePointer(conversion.sourceType()),
+                    typePointerManager.createSmartTypePointer(conversion.targetType())
+            ));
+        }
+        return new FileConversions(
+                virtualFile.getPresentableUrl(),
+                pointerManager.createSmartPsiElementPointer(psiFile),
+                pointerManager.createSmartPsiElementPointer(rootPackageDirectory),
+                ConverterPackageResolver.getConverterPackage(psiFile),
+                pointers
+        );
+    }
+
+    /**
+     * @return the number of replaced expressions
+     */
+    private static int generateConverters(@NotNull Project project, @NotNull String commandName,
+                                          @NotNull List<FileConversions> fileConversions,
+                                          @NotNull ProgressIndicator indicator) {
+        indicator.setText(MapStructBundle.message("action.generate.converters.generating"));
+        String groupId = commandName + "@" + UUID.randomUUID();
+        // the generators are shared by the files, so that a mapper that is created for one file is reused by the next
+        Map<PsiDirectory, MapStructMapperGenerator> generators = new HashMap<>();
+        // the files of the converter directories before the generation, only the mappers created by the batch are
+        // reformatted, an existing mapper belongs to the user like the converted files
+        Set<PsiFile> existingFiles = new HashSet<>();
+        Set<PsiFile> mapperFiles = new LinkedHashSet<>();
+        Set<PsiFile> convertedFiles = new LinkedHashSet<>();
+        int converted = 0;
+        for (int i = 0; i < fileConversions.size(); i++) {
+            indicator.checkCanceled();
+            FileConversions conversions = fileConversions.get(i);
+            indicator.setFraction((double) i / fileConversions.size());
+            indicator.setText2(conversions.presentableUrl());
+
+            converted += computeInCommand(project, commandName, groupId, conversions.file(),
+                    () -> convertFile(project, conversions, generators, existingFiles, mapperFiles, convertedFiles));
+        }
+
+        if (converted > 0) {
+            indicator.setText(MapStructBundle.message("action.generate.converters.formatting"));
+            indicator.setText2("");
+            computeInCommand(project, commandName, groupId, null, () -> {
+                Set<PsiFile> createdMappers = new LinkedHashSet<>();
+                for (PsiDirectory directory : generators.keySet()) {
+                    for (PsiFile file : directory.getFiles()) {
+                        if (!existingFiles.contains(file)) {
+                            createdMappers.add(file);
+                        }
+                    }
+                }
+                Set<PsiFile> touchedFiles = new LinkedHashSet<>(convertedFiles);
+                touchedFiles.addAll(mapperFiles);
+                formatFiles(project, touchedFiles, createdMappers);
+                return null;
+            });
+        }
+        return converted;
+    }
+
+    /**
+     * @return the number of replaced expressions in the file
+     */
+    private static int convertFile(@NotNull Project project, @NotNull FileConversions conversions,
+                                   @NotNull Map<PsiDirectory, MapStructMapperGenerator> generators,
+                                   @NotNull Set<PsiFile> existingFiles, @NotNull Set<PsiFile> mapperFiles,
+                                   @NotNull Set<PsiFile> convertedFiles) {
+        PsiFile file = conversions.file().getElement();
+        PsiDirectory rootPackageDirectory = conversions.rootPackageDirectory().getElement();
+        if (file == null || rootPackageDirectory == null) {
+            return 0;
+        }
+
+        PsiDirectory converterDirectory = ConverterPackageResolver.findOrCreateConverterDirectory(
+                rootPackageDirectory,
+                conversions.converterPackage()
+        );
+        MapStructMapperGenerator generator = generators.computeIfAbsent(
+                converterDirectory,
+                directory -> {
+                    existingFiles.addAll(List.of(directory.getFiles()));
+                    return new MapStructMapperGenerator(project, directory, mapperFiles);
+                }
+        );
+
+        int converted = 0;
+        for (ConversionPointer conversion : conversions.conversions()) {
+            // an expression that was part of a converted expression no longer exists
+            PsiExpression expression = conversion.expression().getElement();
+            PsiType sourceType = conversion.sourceType().getType();
+            PsiType targetType = conversion.targetType().getType();
+            if (expression == null || !(sourceType instanceof PsiClassType sourceClassType)
+                    || !(targetType instanceof PsiClassType targetClassType)) {
+                continue;
+            }
+            PsiMethod mapperMethod = generator.generateMapperMethod(sourceClassType, targetClassType);
+            if (mapperMethod != null && MapStructMapperGenerateAndUseConvertMethodQuickFix
+                    .replaceWithMapperCall(expression, mapperMethod)) {
+                convertedFiles.add(file);
+                converted++;
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * The single clean-up pass over the touched files: the class references are shortened and the imports optimized.
+     * Only the mappers created by the batch are reformatted as a whole, the other files are not reformatted so that
+     * the code around the changes keeps the formatting of the user.
+     */
+    private static void formatFiles(@NotNull Project project, @NotNull Set<PsiFile> touchedFiles,
+                                    @NotNull Set<PsiFile> createdMappers) {
+        JavaCodeStyleManager javaCodeStyleManager = JavaCodeStyleManager.getInstance(project);
+        CodeStyleManager codeStyleManager = CodeStyleManager.getInstance(project);
+        for (PsiFile file : touchedFiles) {
+            if (!file.isValid()) {
+                continue;
+            }
+            javaCodeStyleManager.shortenClassReferences(file);
+            javaCodeStyleManager.optimizeImports(file);
+            if (createdMappers.contains(file)) {
+                codeStyleManager.reformat(file);
+            }
+        }
+    }
+
+    private static <T> T computeInCommand(@NotNull Project project, @NotNull String commandName,
+                                          @NotNull String groupId, @Nullable SmartPsiElementPointer<PsiFile> file,
+                                          @NotNull ThrowableComputable<T, RuntimeException> computable) {
+        Ref<T> result = Ref.create();
+        ApplicationManager.getApplication().invokeAndWait(() -> {
+            PsiFile psiFile = file == null ? null : file.getElement();
+            PsiFile[] files = psiFile == null ? PsiFile.EMPTY_ARRAY : new PsiFile[]{psiFile};
+            result.set(WriteCommandAction.writeCommandAction(project, files)
+                    .withName(commandName)
+                    .withGroupId(groupId)
+                    .compute(computable));
+        });
+        return result.get();
+    }
+
+    private record FileConversions(@NotNull String presentableUrl,
+                                   @NotNull SmartPsiElementPointer<PsiFile> file,
+                                   @NotNull SmartPsiElementPointer<PsiDirectory> rootPackageDirectory,
+                                   @NotNull String converterPackage,
+                                   @NotNull List<ConversionPointer> conversions) {
+    }
+
+    private record ConversionPointer(@NotNull SmartPsiElementPointer<PsiExpression> expression,
+                                     @NotNull SmartTypePointer sourceType,
+                                     @NotNull SmartTypePointer targetType) {
+    }
+}
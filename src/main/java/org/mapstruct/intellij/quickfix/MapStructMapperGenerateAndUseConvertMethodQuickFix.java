@@ -3,19 +3,19 @@
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.codeInspection.util.IntentionFamilyName;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.vfs.VfsUtilCore;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.openapi.vfs.VirtualFileFilter;
 import com.intellij.psi.*;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
-import com.intellij.psi.util.PsiUtilBase;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.MapStructBundle;
 import org.mapstruct.intellij.domain.MapStructMapperGenerator;
 
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
 
 
 public class MapStructMapperGenerateAndUseConvertMethodQuickFix implements LocalQuickFix {
@@ -32,119 +32,93 @@ public MapStructMapperGenerateAndUseConvertMethodQuickFix(PsiClassType sourceTyp
         this.targetType = targetType;
     }
 
-    /**
-     * modify current base directory <br/>
-     * 修改当前基目录
-     *
-     * @param baseDirectory            base directory
-     * @param currentJavaFileDirectory current java file directory
-     */
-    private static void modifyCurrentBaseDirectory(AtomicReference<PsiDirectory> baseDirectory, PsiDirectory currentJavaFileDirectory) {
-        PsiDirectory previousBaseDirectory = baseDirectory.get();
-        if (previousBaseDirectory == null) {
-            baseDirectory.set(currentJavaFileDirectory);
-            return;
-        }
-
-        String currentPath = currentJavaFileDirectory.getVirtualFile().getPath();
-        String previousPath = previousBaseDirectory.getVirtualFile().getPath();
-
-        if (previousPath.length() > currentPath.length()) {
-            baseDirectory.set(currentJavaFileDirectory);
-        }
-    }
-
     @Override
     public @IntentionFamilyName @NotNull String getFamilyName() {
         return MapStructBundle.message("inspection.generate_mapstruct_class_and_use_it.problem.quickfix");
     }
 
+    @Override
+    public boolean startInWriteAction() {
+        // the mapper package is resolved in a background read action, the mapper is then generated in a write command
+        return false;
+    }
+
     @Override
     public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
 
         PsiElement psiElement = descriptor.getPsiElement();
+        if (psiElement == null) {
+            return;
+        }
 
         PsiFile containingFile = psiElement.getContainingFile();
 
-        PsiDirectory converterDirectory = getConverterDirectory(psiElement);
-
-        if (converterDirectory == null) {
+        ConverterLocation converterLocation = resolveConverterLocation(project, containingFile);
+        if (converterLocation == null || converterLocation.rootPackageDirectory() == null) {
             return;
         }
 
-        MapStructMapperGenerator mapStructMapperGenerator = new MapStructMapperGenerator(project, converterDirectory);
-
-        PsiMethod mapperMethod = mapStructMapperGenerator.generateMapperMethod(sourceType, targetType);
-
-        if (mapperMethod != null) {
-            PsiElementFactory elementFactory = JavaPsiFacade.getInstance(project).getElementFactory();
-            // 表达式
-            String expression = Objects.requireNonNull(mapperMethod.getContainingClass()).getQualifiedName() + ".INSTANCE." + mapperMethod.getName() + "(" + psiElement.getText() + ")";
-            // 生成表达式
-            PsiExpression expressionFromText = elementFactory.createExpressionFromText(expression, psiElement);
-
-            if (expressionFromText instanceof PsiMethodCallExpression) {
-                psiElement.replace(expressionFromText);
-                JavaCodeStyleManager.getInstance(project).shortenClassReferences(containingFile);
+        WriteCommandAction.writeCommandAction(project, containingFile).withName(getFamilyName()).run(() -> {
+            if (!psiElement.isValid() || !converterLocation.rootPackageDirectory().isValid()) {
+                return;
             }
-        }
-    }
-
-    private PsiDirectory getConverterDirectory(PsiElement psiElement) {
 
-        /* ************************************************************************
-         *
-         * create converters package
-         *
-         * ************************************************************************ */
-        PsiDirectory containingDirectory = psiElement.getContainingFile().getContainingDirectory();
+            PsiDirectory converterDirectory = ConverterPackageResolver.findOrCreateConverterDirectory(
+                    converterLocation.rootPackageDirectory(),
+                    converterLocation.converterPackage()
+            );
 
-        while (containingDirectory != null && !isRootSourceDirectory(containingDirectory)) {
-            containingDirectory = containingDirectory.getParentDirectory();
-        }
-        if (containingDirectory == null) {
-            return null;
-        }
-        VirtualFile virtualFile = containingDirectory.getVirtualFile();
+            MapStructMapperGenerator mapStructMapperGenerator = new MapStructMapperGenerator(project, converterDirectory);
 
-        AtomicReference<PsiDirectory> baseDirectory = new AtomicReference<>();
+            PsiMethod mapperMethod = mapStructMapperGenerator.generateMapperMethod(sourceType, targetType);
 
-        // 遍历文件夹下的所有文件，找到java文件下的所有 request mapping
-        VfsUtilCore.iterateChildrenRecursively(virtualFile, VirtualFileFilter.ALL, it -> {
-            // 不是有效的文件，继续后面的文件
-            if (!it.isValid()) {
-                return true;
-            }
-            // 是文件夹，继续后面的文件
-            if (it.isDirectory()) {
-                return true;
-            }
-            // 是 java 文件的话，更新 base directory
-            if (it.getName().endsWith(".java")) {
-                PsiFile psiFile = PsiUtilBase.getPsiFile(psiElement.getProject(), it);
-                if (psiFile instanceof PsiJavaFile) {
-                    modifyCurrentBaseDirectory(baseDirectory, psiFile.getContainingFile().getContainingDirectory());
-                }
+            if (mapperMethod != null && replaceWithMapperCall(psiElement, mapperMethod)) {
+                JavaCodeStyleManager.getInstance(project).shortenClassReferences(containingFile);
             }
-            return true;
         });
+    }
 
-        PsiDirectory sourceBaseDirectory = baseDirectory.get();
-
-        if (sourceBaseDirectory == null) {
-            return null;
+    /**
+     * Replace the expression with a call of the mapper method through the "INSTANCE" field of its mapper. The class
+     * references in the file are not shortened.
+     *
+     * @param psiElement   the expression to convert
+     * @param mapperMethod the mapper method
+     * @return whether the expression was replaced
+     */
+    static boolean replaceWithMapperCall(@NotNull PsiElement psiElement, @NotNull PsiMethod mapperMethod) {
+        PsiElementFactory elementFactory = JavaPsiFacade.getInstance(psiElement.getProject()).getElementFactory();
+        // 表达式
+        String expression = Objects.requireNonNull(mapperMethod.getContainingClass()).getQualifiedName() + ".INSTANCE." + mapperMethod.getName() + "(" + psiElement.getText() + ")";
+        // 生成表达式
+        PsiExpression expressionFromText = elementFactory.createExpressionFromText(expression, psiElement);
+
+        if (expressionFromText instanceof PsiMethodCallExpression) {
+            psiElement.replace(expressionFromText);
+            return true;
         }
-        PsiDirectory subdirectory = sourceBaseDirectory.findSubdirectory("assemblers");
-        return subdirectory != null ? subdirectory : sourceBaseDirectory.createSubdirectory("assemblers");
+        return false;
     }
 
-    private boolean isRootSourceDirectory(PsiDirectory containingDirectory) {
-        if (containingDirectory.getName().equals("java")) {
-            VirtualFile virtualFile = containingDirectory.getVirtualFile();
-            return virtualFile.getPath().endsWith("src/main/java") || virtualFile.getPath().endsWith("src/test/java");
+    @Nullable
+    private static ConverterLocation resolveConverterLocation(@NotNull Project project, @NotNull PsiFile containingFile) {
+        try {
+            return ProgressManager.getInstance().runProcessWithProgressSynchronously(
+                    () -> ReadAction.compute(() -> new ConverterLocation(
+                            ConverterPackageResolver.findRootPackageDirectory(containingFile),
+                            ConverterPackageResolver.getConverterPackage(containingFile)
+                    )),
+                    MapStructBundle.message("inspection.generate_mapstruct_class_and_use_it.resolving.package"),
+                    true,
+                    project
+            );
+        } catch (ProcessCanceledException e) {
+            // cancelled by the user, nothing is generated
+            return null;
         }
-        return false;
     }
 
+    private record ConverterLocation(@Nullable PsiDirectory rootPackageDirectory, @NotNull String converterPackage) {
+    }
 
 }
@@ -5,9 +5,13 @@
  */
 package org.mapstruct.intellij.search;
 
+import java.util.Collection;
+
 import com.intellij.openapi.application.QueryExecutorBase;
 import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiAnonymousClass;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiMethod;
@@ -22,6 +26,7 @@
 import com.intellij.psi.search.searches.ReferencesSearch;
 import com.intellij.util.Processor;
 import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.index.MappingPropertyIndex;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 /**
@@ -84,12 +89,16 @@ public void processQuery(@NotNull final MethodReferencesSearch.SearchParameters
             final PsiMethod[] methods =
                 strictSignatureSearch ? new PsiMethod[] { method } : aClass.findMethodsByName( propertyName[0], false );
 
-            short searchContext =
-                UsageSearchContext.IN_CODE | UsageSearchContext.IN_COMMENTS | UsageSearchContext.IN_FOREIGN_LANGUAGES;
+            // the references are in the string literals of the mapping annotations, never in comments
+            short searchContext = UsageSearchContext.IN_CODE | UsageSearchContext.IN_FOREIGN_LANGUAGES;
+            SearchScope mappingScope = restrictToMappingFiles( searchScope, propertyName[0], p.getProject() );
+            if ( mappingScope == GlobalSearchScope.EMPTY_SCOPE ) {
+                return null;
+            }
             for ( PsiMethod m : methods ) {
                 collector.searchWord(
                     propertyName[0],
-                    searchScope.intersectWith( m.getUseScope() ),
+                    mappingScope.intersectWith( m.getUseScope() ),
                     searchContext,
                     true,
                     m,
@@ -101,6 +110,21 @@ public void processQuery(@NotNull final MethodReferencesSearch.SearchParameters
         } );
     }
 
+    /**
+     * Restrict a global search scope to the files that mention the property in the string literals of their mapping
+     * annotations. The property names are common words, without the restriction almost every file of the scope would
+     * be a candidate.
+     */
+    @NotNull
+    private static SearchScope restrictToMappingFiles(@NotNull SearchScope searchScope, @NotNull String propertyName,
+                                                      @NotNull Project project) {
+        if ( !( searchScope instanceof GlobalSearchScope globalSearchScope ) ) {
+            return searchScope;
+        }
+        Collection<VirtualFile> files = MappingPropertyIndex.getFilesWithProperty( propertyName, globalSearchScope );
+        return files.isEmpty() ? GlobalSearchScope.EMPTY_SCOPE : GlobalSearchScope.filesScope( project, files );
+    }
+
     protected MethodTextOccurrenceProcessor getTextOccurrenceProcessor(PsiMethod[] methods, PsiClass aClass,
         boolean strictSignatureSearch) {
         return new MethodTextOccurrenceProcessor( aClass, strictSignatureSearch, methods );
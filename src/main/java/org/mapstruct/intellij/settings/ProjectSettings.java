@@ -5,9 +5,19 @@
  */
 package org.mapstruct.intellij.settings;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.module.Module;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author Filip Hrisafov
@@ -19,6 +29,27 @@ public interface ProjectSettings {
     String PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING =
         PREFIX + "PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING";
 
+    String CONVERTER_SOURCE_PACKAGES = PREFIX + "CONVERTER_SOURCE_PACKAGES";
+
+    String CONVERTER_TARGET_PACKAGES = PREFIX + "CONVERTER_TARGET_PACKAGES";
+
+    String CONVERTER_PACKAGE = PREFIX + "CONVERTER_PACKAGE";
+
+    String MODULE_CONVERTER_PACKAGES = PREFIX + "MODULE_CONVERTER_PACKAGES";
+
+    String DEFAULT_CONVERTER_PACKAGE = "assemblers";
+
+    /**
+     * @param project the project
+     *
+     * @return the tracker that is incremented whenever a setting of the project is changed, for the values that are
+     * cached based on the settings
+     */
+    @NotNull
+    static ModificationTracker getModificationTracker(@NotNull Project project) {
+        return project.getService( ModificationCounter.class );
+    }
+
     static boolean isPreferSourceBeforeTargetInMapping(@NotNull Project project) {
         return PropertiesComponent.getInstance( project ).getBoolean( PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING, false );
     }
@@ -26,5 +57,105 @@ static boolean isPreferSourceBeforeTargetInMapping(@NotNull Project project) {
     static void setPreferSourceBeforeTargetInMapping(@NotNull Project project, boolean value) {
         PropertiesComponent.getInstance( project )
             .setValue( PREFER_SOURCE_BEFORE_TARGET_IN_MAPPING, String.valueOf( value ), "false" );
+        settingsChanged( project );
+    }
+
+    /**
+     * @return the comma separated package patterns of the source types considered by the generate and use converter
+     * inspection, empty for all packages
+     */
+    @NotNull
+    static String getConverterSourcePackages(@NotNull Project project) {
+        return PropertiesComponent.getInstance( project ).getValue( CONVERTER_SOURCE_PACKAGES, "" );
+    }
+
+    static void setConverterSourcePackages(@NotNull Project project, @NotNull String value) {
+        PropertiesComponent.getInstance( project ).setValue( CONVERTER_SOURCE_PACKAGES, value.trim(), "" );
+        settingsChanged( project );
+    }
+
+    /**
+     * @return the comma separated package patterns of the target types considered by the generate and use converter
+     * inspection, empty for all packages
+     */
+    @NotNull
+    static String getConverterTargetPackages(@NotNull Project project) {
+        return PropertiesComponent.getInstance( project ).getValue( CONVERTER_TARGET_PACKAGES, "" );
+    }
+
+    static void setConverterTargetPackages(@NotNull Project project, @NotNull String value) {
+        PropertiesComponent.getInstance( project ).setValue( CONVERTER_TARGET_PACKAGES, value.trim(), "" );
+        settingsChanged( project );
+    }
+
+    /**
+     * @return the package, relative to the root package of a source root, in which the generate and use converter
+     * quick fix creates the mappers of all modules without a module specific package
+     */
+    @NotNull
+    static String getConverterPackage(@NotNull Project project) {
+        return PropertiesComponent.getInstance( project ).getValue( CONVERTER_PACKAGE, DEFAULT_CONVERTER_PACKAGE );
+    }
+
+    static void setConverterPackage(@NotNull Project project, @NotNull String value) {
+        PropertiesComponent.getInstance( project )
+            .setValue( CONVERTER_PACKAGE, value.trim(), DEFAULT_CONVERTER_PACKAGE );
+        settingsChanged( project );
+    }
+
+    /**
+     * @return the module specific converter packages, by module name
+     */
+    @NotNull
+    static Map<String, String> getModuleConverterPackages(@NotNull Project project) {
+        Map<String, String> packages = new LinkedHashMap<>();
+        List<String> entries = PropertiesComponent.getInstance( project ).getList( MODULE_CONVERTER_PACKAGES );
+        if ( entries != null ) {
+            for ( String entry : entries ) {
+                int separator = entry.indexOf( '=' );
+                if ( separator > 0 ) {
+                    packages.put( entry.substring( 0, separator ).trim(), entry.substring( separator + 1 ).trim() );
+                }
+            }
+        }
+        return packages;
+    }
+
+    static void setModuleConverterPackages(@NotNull Project project, @NotNull Map<String, String> packages) {
+        List<String> entries = new ArrayList<>( packages.size() );
+        packages.forEach( (module, packageName) -> entries.add( module + "=" + packageName ) );
+        PropertiesComponent.getInstance( project )
+            .setList( MODULE_CONVERTER_PACKAGES, entries.isEmpty() ? null : entries );
+        settingsChanged( project );
+    }
+
+    /**
+     * @param project the project
+     * @param module the module in which a mapper is generated
+     *
+     * @return the package relative to the root package of a source root in which the mappers of the module are
+     * generated
+     */
+    @NotNull
+    static String getConverterPackage(@NotNull Project project, @Nullable Module module) {
+        if ( module != null ) {
+            String modulePackage = getModuleConverterPackages( project ).get( module.getName() );
+            if ( modulePackage != null && !modulePackage.isEmpty() ) {
+                return modulePackage;
+            }
+        }
+        String converterPackage = getConverterPackage( project );
+        return converterPackage.isEmpty() ? DEFAULT_CONVERTER_PACKAGE : converterPackage;
+    }
+
+    private static void settingsChanged(@NotNull Project project) {
+        project.getService( ModificationCounter.class ).incModificationCount();
+    }
+
+    /**
+     * The modification count of the settings of a project.
+     */
+    @Service(Service.Level.PROJECT)
+    final class ModificationCounter extends SimpleModificationTracker {
     }
 }
@@ -6,12 +6,19 @@
 package org.mapstruct.intellij.settings;
 
 import java.awt.BorderLayout;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.swing.JComponent;
 import javax.swing.JPanel;
 
 import com.intellij.ui.IdeBorderFactory;
 import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.components.JBTextArea;
+import com.intellij.ui.components.JBTextField;
 import com.intellij.util.ui.FormBuilder;
+import com.intellij.util.ui.UIUtil;
 import org.mapstruct.intellij.MapStructBundle;
 
 /**
@@ -21,6 +28,10 @@ public class ProjectSettingsComponent {
 
     private final JPanel mainPanel;
     private final JBCheckBox preferSourceBeforeTargetInMapping;
+    private final JBTextField converterSourcePackages;
+    private final JBTextField converterTargetPackages;
+    private final JBTextField converterPackage;
+    private final JBTextArea moduleConverterPackages;
 
     public ProjectSettingsComponent() {
         this.preferSourceBeforeTargetInMapping = new JBCheckBox( MapStructBundle.message(
@@ -30,8 +41,46 @@ public ProjectSettingsComponent() {
             "plugin.settings.quickFix.title" ), false ) );
 
         quickFixProperties.add( this.preferSourceBeforeTargetInMapping, BorderLayout.NORTH );
+
+        this.converterSourcePackages = new JBTextField();
+        this.converterTargetPackages = new JBTextField();
+        this.converterPackage = new JBTextField();
+        this.moduleConverterPackages = new JBTextArea( 4, 40 );
+        JPanel converterProperties = FormBuilder.createFormBuilder()
+            .addLabeledComponent(
+                MapStructBundle.message( "plugin.settings.converter.sourcePackages" ),
+                this.converterSourcePackages
+            )
+            .addLabeledComponent(
+                MapStructBundle.message( "plugin.settings.converter.targetPackages" ),
+                this.converterTargetPackages
+            )
+            .addComponentToRightColumn( new JBLabel(
+                MapStructBundle.message( "plugin.settings.converter.packages.comment" ),
+                UIUtil.ComponentStyle.SMALL,
+                UIUtil.FontColor.BRIGHTER
+            ) )
+            .addLabeledComponent(
+                MapStructBundle.message( "plugin.settings.converter.package" ),
+                this.converterPackage
+            )
+            .addLabeledComponent(
+                MapStructBundle.message( "plugin.settings.converter.modulePackages" ),
+                new JBScrollPane( this.moduleConverterPackages ),
+                true
+            )
+            .addComponentToRightColumn( new JBLabel(
+                MapStructBundle.message( "plugin.settings.converter.modulePackages.comment" ),
+                UIUtil.ComponentStyle.SMALL,
+                UIUtil.FontColor.BRIGHTER
+            ) )
+            .getPanel();
+        converterProperties.setBorder( IdeBorderFactory.createTitledBorder( MapStructBundle.message(
+            "plugin.settings.converter.title" ), false ) );
+
         this.mainPanel = FormBuilder.createFormBuilder()
             .addComponent( quickFixProperties )
+            .addComponent( converterProperties )
             .addComponentFillVertically( new JPanel(), 0 )
             .getPanel();
     }
@@ -52,4 +101,49 @@ public void setPreferSourceBeforeTargetInMapping(boolean newState) {
         preferSourceBeforeTargetInMapping.setSelected( newState );
     }
 
+    public String getConverterSourcePackages() {
+        return converterSourcePackages.getText();
+    }
+
+    public void setConverterSourcePackages(String packages) {
+        converterSourcePackages.setText( packages );
+    }
+
+    public String getConverterTargetPackages() {
+        return converterTargetPackages.getText();
+    }
+
+    public void setConverterTargetPackages(String packages) {
+        converterTargetPackages.setText( packages );
+    }
+
+    public String getConverterPackage() {
+        return converterPackage.getText();
+    }
+
+    public void setConverterPackage(String packageName) {
+        converterPackage.setText( packageName );
+    }
+
+    /**
+     * @return the module specific converter packages, one {@code module=package} entry per line
+     */
+    public Map<String, String> getModuleConverterPackages() {
+        Map<String, String> packages = new LinkedHashMap<>();
+        for ( String line : moduleConverterPackages.getText().split( "\\R" ) ) {
+            int separator = line.indexOf( '=' );
+            if ( separator > 0 && !line.substring( separator + 1 ).isBlank() ) {
+                packages.put( line.substring( 0, separator ).trim(), line.substring( separator + 1 ).trim() );
+            }
+        }
+        return packages;
+    }
+
+    public void setModuleConverterPackages(Map<String, String> packages) {
+        StringBuilder text = new StringBuilder();
+        packages.forEach( (module, packageName) -> text.append( module ).append( '=' ).append( packageName )
+            .append( '\n' ) );
+        moduleConverterPackages.setText( text.toString() );
+    }
+
 }
@@ -12,6 +12,10 @@
 import org.jetbrains.annotations.Nls;
 import org.mapstruct.intellij.MapStructBundle;
 
+import static org.mapstruct.intellij.settings.ProjectSettings.getConverterPackage;
+import static org.mapstruct.intellij.settings.ProjectSettings.getConverterSourcePackages;
+import static org.mapstruct.intellij.settings.ProjectSettings.getConverterTargetPackages;
+import static org.mapstruct.intellij.settings.ProjectSettings.getModuleConverterPackages;
 import static org.mapstruct.intellij.settings.ProjectSettings.isPreferSourceBeforeTargetInMapping;
 
 /**
@@ -47,7 +51,11 @@ public JComponent getPreferredFocusedComponent() {
     @Override
     public boolean isModified() {
         return settingsComponent.getPreferSourceBeforeTargetInMapping() !=
-            isPreferSourceBeforeTargetInMapping( myProject );
+            isPreferSourceBeforeTargetInMapping( myProject ) ||
+            !settingsComponent.getConverterSourcePackages().trim().equals( getConverterSourcePackages( myProject ) ) ||
+            !settingsComponent.getConverterTargetPackages().trim().equals( getConverterTargetPackages( myProject ) ) ||
+            !settingsComponent.getConverterPackage().trim().equals( getConverterPackage( myProject ) ) ||
+            !settingsComponent.getModuleConverterPackages().equals( getModuleConverterPackages( myProject ) );
     }
 
     @Override
@@ -56,11 +64,19 @@ public void apply() {
             myProject,
             settingsComponent.getPreferSourceBeforeTargetInMapping()
         );
+        ProjectSettings.setConverterSourcePackages( myProject, settingsComponent.getConverterSourcePackages() );
+        ProjectSettings.setConverterTargetPackages( myProject, settingsComponent.getConverterTargetPackages() );
+        ProjectSettings.setConverterPackage( myProject, settingsComponent.getConverterPackage() );
+        ProjectSettings.setModuleConverterPackages( myProject, settingsComponent.getModuleConverterPackages() );
     }
 
     @Override
     public void reset() {
         settingsComponent.setPreferSourceBeforeTargetInMapping( isPreferSourceBeforeTargetInMapping( myProject ) );
+        settingsComponent.setConverterSourcePackages( getConverterSourcePackages( myProject ) );
+        settingsComponent.setConverterTargetPackages( getConverterTargetPackages( myProject ) );
+        settingsComponent.setConverterPackage( getConverterPackage( myProject ) );
+        settingsComponent.setModuleConverterPackages( getModuleConverterPackages( myProject ) );
     }
 
     @Override
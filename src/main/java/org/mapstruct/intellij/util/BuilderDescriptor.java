@@ -0,0 +1,113 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.intellij.openapi.util.Pair;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Describes the builder that MapStruct would use for a target type: the static builder creation method on the target
+ * class, the type of the builder, the build method of the builder and the fluent setters of the builder.
+ * <p>
+ * Descriptors are resolved and cached by {@link TargetUtils#findBuilderDescriptor(PsiType)}.
+ */
+public class BuilderDescriptor {
+
+    private final PsiMethod builderCreationMethod;
+    private final PsiType builderType;
+    private final PsiMethod buildMethod;
+    private final Map<Class<? extends MapstructUtil>, Map<String, PsiMethod>> fluentSetters =
+        new ConcurrentHashMap<>();
+
+    BuilderDescriptor(@NotNull PsiMethod builderCreationMethod, @NotNull PsiType builderType,
+        @NotNull PsiMethod buildMethod) {
+        this.builderCreationMethod = builderCreationMethod;
+        this.builderType = builderType;
+        this.buildMethod = buildMethod;
+    }
+
+    /**
+     * @return the public static method on the target class that creates the builder
+     */
+    @NotNull
+    public PsiMethod getBuilderCreationMethod() {
+        return builderCreationMethod;
+    }
+
+    /**
+     * @return the type of the builder
+     */
+    @NotNull
+    public PsiType getBuilderType() {
+        return builderType;
+    }
+
+    /**
+     * @return the class of the builder, or {@code null} if it cannot be resolved anymore
+     */
+    @Nullable
+    public PsiClass getBuilderClass() {
+        return PsiUtil.resolveClassInType( builderType );
+    }
+
+    /**
+     * @return the method of the builder that creates the target type
+     */
+    @NotNull
+    public PsiMethod getBuildMethod() {
+        return buildMethod;
+    }
+
+    /**
+     * The fluent setters of the builder, as they are seen by the given {@code mapstructUtil} flavour.
+     *
+     * @param mapstructUtil the util that decides whether a method is a fluent setter
+     *
+     * @return a read-only map from the method name to the fluent setter with that name
+     */
+    @NotNull
+    public Map<String, PsiMethod> getFluentSetters(@NotNull MapstructUtil mapstructUtil) {
+        Map<String, PsiMethod> setters = fluentSetters.get( mapstructUtil.getClass() );
+        if ( setters == null ) {
+            setters = computeFluentSetters( mapstructUtil );
+            Map<String, PsiMethod> existing = fluentSetters.putIfAbsent( mapstructUtil.getClass(), setters );
+            if ( existing != null ) {
+                setters = existing;
+            }
+        }
+
+        return setters;
+    }
+
+    private Map<String, PsiMethod> computeFluentSetters(@NotNull MapstructUtil mapstructUtil) {
+        PsiClass builderClass = getBuilderClass();
+        if ( builderClass == null ) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, PsiMethod> setters = new LinkedHashMap<>();
+        for ( Pair<PsiMethod, PsiSubstitutor> pair : builderClass.getAllMethodsAndTheirSubstitutors() ) {
+            PsiMethod method = pair.getFirst();
+            if ( !method.isConstructor() && method.getParameterList().getParametersCount() == 1 &&
+                mapstructUtil.isFluentSetter( method, builderType, pair.getSecond() ) ) {
+                setters.putIfAbsent( method.getName(), method );
+            }
+        }
+
+        return Collections.unmodifiableMap( setters );
+    }
+}
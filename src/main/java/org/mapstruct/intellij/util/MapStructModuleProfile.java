@@ -0,0 +1,132 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+
+/**
+ * The MapStruct related libraries that are on the runtime classpath of a module.
+ * <p>
+ * The profile is computed in a single pass over the classpath of the module and is cached until the project roots
+ * change.
+ *
+ * @param mapStructPresent whether MapStruct is on the classpath
+ * @param mapStructVersion the MapStruct version on the classpath
+ * @param mapStructJdk8Present whether the {@link org.mapstruct.Mapping} annotation is repeatable
+ * @param immutablesPresent whether Immutables is on the classpath
+ * @param freeBuilderPresent whether FreeBuilder is on the classpath
+ */
+public record MapStructModuleProfile(boolean mapStructPresent, @NotNull MapStructVersion mapStructVersion,
+                                     boolean mapStructJdk8Present, boolean immutablesPresent,
+                                     boolean freeBuilderPresent) {
+
+    /**
+     * The profile of files that do not belong to a module.
+     */
+    public static final MapStructModuleProfile NO_MODULE =
+        new MapStructModuleProfile( false, MapStructVersion.V1_2_O, false, false, false );
+
+    /**
+     * @param psiFile the file for which the profile is requested
+     *
+     * @return the profile of the module of the {@code psiFile}, or {@link #NO_MODULE} if it does not belong to one
+     */
+    @NotNull
+    public static MapStructModuleProfile getInstance(@NotNull PsiFile psiFile) {
+        Module module = findModule( psiFile );
+        return module == null ? NO_MODULE : getInstance( module );
+    }
+
+    /**
+     * @param module the module for which the profile is requested
+     *
+     * @return the profile of the {@code module}
+     */
+    @NotNull
+    public static MapStructModuleProfile getInstance(@NotNull Module module) {
+        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () ->
+            CachedValueProvider.Result.createSingleDependency(
+                compute( module ),
+                ProjectRootManager.getInstance( module.getProject() )
+            ) );
+    }
+
+    /**
+     * Find the module of the {@code psiFile}. The lookup is cached on the file until the project roots or the file
+     * structure change.
+     *
+     * @param psiFile the file for which the module should be found
+     *
+     * @return the module of the file, or {@code null} if it does not belong to one
+     */
+    @Nullable
+    public static Module findModule(@NotNull PsiFile psiFile) {
+        if ( psiFile.getVirtualFile() == null ) {
+            return null;
+        }
+
+        return CachedValuesManager.getManager( psiFile.getProject() ).getCachedValue( psiFile, () ->
+            CachedValueProvider.Result.create(
+                ModuleUtilCore.findModuleForFile( psiFile.getVirtualFile(), psiFile.getProject() ),
+                ProjectRootManager.getInstance( psiFile.getProject() ),
+                VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS
+            ) );
+    }
+
+    private static MapStructModuleProfile compute(@NotNull Module module) {
+        JavaPsiFacade javaPsiFacade = JavaPsiFacade.getInstance( module.getProject() );
+        GlobalSearchScope scope = module.getModuleRuntimeScope( false );
+
+        PsiClass mapperAnnotation = javaPsiFacade.findClass( MapstructUtil.MAPPER_ANNOTATION_FQN, scope );
+
+        MapStructVersion mapStructVersion;
+        boolean mapStructJdk8Present;
+        if ( mapperAnnotation == null ) {
+            mapStructVersion = MapStructVersion.V1_2_O;
+            mapStructJdk8Present = false;
+        }
+        else {
+            if ( javaPsiFacade.findClass( MapstructUtil.ENUM_MAPPING_ANNOTATION_FQN, scope ) != null ) {
+                mapStructVersion = MapStructVersion.V1_4_O;
+            }
+            else if ( javaPsiFacade.findClass( MapstructUtil.BUILDER_ANNOTATION_FQN, scope ) != null ) {
+                mapStructVersion = MapStructVersion.V1_3_O;
+            }
+            else {
+                mapStructVersion = MapStructVersion.V1_2_O;
+            }
+
+            PsiClass mappingAnnotation = javaPsiFacade.findClass( MapstructUtil.MAPPING_ANNOTATION_FQN, scope );
+            mapStructJdk8Present = findAnnotation(
+                mappingAnnotation,
+                true,
+                CommonClassNames.JAVA_LANG_ANNOTATION_REPEATABLE
+            ) != null;
+        }
+
+        return new MapStructModuleProfile(
+            mapperAnnotation != null,
+            mapStructVersion,
+            mapStructJdk8Present,
+            javaPsiFacade.findClass( MapstructUtil.IMMUTABLE_FQN, scope ) != null,
+            javaPsiFacade.findClass( MapstructUtil.FREE_BUILDER_FQN, scope ) != null
+        );
+    }
+}
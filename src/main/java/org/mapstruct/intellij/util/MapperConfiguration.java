@@ -0,0 +1,244 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.ReportingPolicy;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
+import static com.intellij.codeInsight.AnnotationUtil.getStringAttributeValue;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findMapperConfigReference;
+import static org.mapstruct.intellij.util.MapstructUtil.BEAN_MAPPING_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN;
+
+/**
+ * The effective configuration of a {@link org.mapstruct.Mapper} class, i.e. the values defined in the
+ * {@link org.mapstruct.Mapper} annotation, falling back to the values of the referenced
+ * {@link org.mapstruct.MapperConfig}.
+ * <p>
+ * The configuration is cached on the class and recomputed only when the PSI changes. The overrides of a
+ * {@link org.mapstruct.BeanMapping} are looked up only when the configuration of a method is requested.
+ */
+public class MapperConfiguration {
+
+    private static final String UNMAPPED_TARGET_POLICY = "unmappedTargetPolicy";
+    private static final String COMPONENT_MODEL = "componentModel";
+
+    private final PsiAnnotation mapperAnnotation;
+    private final PsiAnnotation mapperConfigAnnotation;
+    private final Boolean disableBuilder;
+    private final ReportingPolicy unmappedTargetPolicy;
+    private final String componentModel;
+    private final Map<String, Optional<PsiAnnotationMemberValue>> mapperConfigValues = new ConcurrentHashMap<>();
+
+    private MapperConfiguration(@NotNull PsiClass psiClass) {
+        this.mapperAnnotation = psiClass.getAnnotation( MAPPER_ANNOTATION_FQN );
+        PsiModifierListOwner mapperConfigReference =
+            mapperAnnotation == null ? null : findMapperConfigReference( mapperAnnotation );
+        this.mapperConfigAnnotation = mapperConfigReference == null ? null :
+            mapperConfigReference.getAnnotation( MAPPER_CONFIG_ANNOTATION_FQN );
+
+        this.disableBuilder = findMapperDisableBuilder();
+        this.unmappedTargetPolicy = findMapperUnmappedTargetPolicy();
+        this.componentModel = findMapperComponentModel();
+    }
+
+    /**
+     * Get the configuration of the given {@code psiClass}.
+     *
+     * @param psiClass the mapper class
+     *
+     * @return the effective configuration of the class, a class that is not a {@link org.mapstruct.Mapper} has the
+     * default configuration
+     */
+    @NotNull
+    public static MapperConfiguration getInstance(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getManager( psiClass.getProject() ).getCachedValue( psiClass, () ->
+            CachedValueProvider.Result.create(
+                new MapperConfiguration( psiClass ),
+                PsiModificationTracker.getInstance( psiClass.getProject() )
+            ) );
+    }
+
+    /**
+     * @return the {@link org.mapstruct.Mapper} annotation of the class, or {@code null} if the class is not a mapper
+     */
+    @Nullable
+    public PsiAnnotation getMapperAnnotation() {
+        return mapperAnnotation;
+    }
+
+    /**
+     * @return the {@link org.mapstruct.MapperConfig} annotation of the referenced config, or {@code null} if there
+     * is no config
+     */
+    @Nullable
+    public PsiAnnotation getMapperConfigAnnotation() {
+        return mapperConfigAnnotation;
+    }
+
+    /**
+     * @return whether builders are enabled for the mapper
+     */
+    public boolean isBuilderEnabled() {
+        return !Boolean.TRUE.equals( disableBuilder );
+    }
+
+    /**
+     * @param mappingMethod a method of the mapper
+     *
+     * @return whether builders are enabled for the method, taking its {@link org.mapstruct.BeanMapping} into account
+     */
+    public boolean isBuilderEnabled(@NotNull PsiMethod mappingMethod) {
+        Boolean methodDisableBuilder = findDisableBuilder(
+            findAnnotation( mappingMethod, true, BEAN_MAPPING_FQN )
+        );
+        if ( methodDisableBuilder != null ) {
+            return !methodDisableBuilder;
+        }
+
+        return isBuilderEnabled();
+    }
+
+    /**
+     * @return the unmapped target policy of the mapper
+     */
+    @NotNull
+    public ReportingPolicy getUnmappedTargetPolicy() {
+        return unmappedTargetPolicy;
+    }
+
+    /**
+     * @param mappingMethod a method of the mapper
+     *
+     * @return the unmapped target policy for the method, taking its {@link org.mapstruct.BeanMapping} into account
+     */
+    @NotNull
+    public ReportingPolicy getUnmappedTargetPolicy(@NotNull PsiMethod mappingMethod) {
+        PsiAnnotation beanMapping = mappingMethod.getAnnotation( BEAN_MAPPING_FQN );
+        if ( beanMapping != null ) {
+            PsiAnnotationMemberValue beanAnnotationOverwrite =
+                beanMapping.findDeclaredAttributeValue( UNMAPPED_TARGET_POLICY );
+            if ( beanAnnotationOverwrite != null ) {
+                return toReportingPolicy( beanAnnotationOverwrite );
+            }
+        }
+
+        return unmappedTargetPolicy;
+    }
+
+    /**
+     * @return the component model of the mapper, or {@code null} if neither the mapper nor its config define one
+     */
+    @Nullable
+    public String getComponentModel() {
+        return componentModel;
+    }
+
+    /**
+     * @param name the name of the attribute
+     *
+     * @return the value of the attribute in the referenced {@link org.mapstruct.MapperConfig}, or {@code null} if
+     * there is no config or the attribute is not defined
+     */
+    @Nullable
+    public PsiAnnotationMemberValue findMapperConfigValue(@NotNull String name) {
+        if ( mapperConfigAnnotation == null ) {
+            return null;
+        }
+
+        Optional<PsiAnnotationMemberValue> value = mapperConfigValues.get( name );
+        if ( value == null ) {
+            value = Optional.ofNullable( mapperConfigAnnotation.findDeclaredAttributeValue( name ) );
+            mapperConfigValues.putIfAbsent( name, value );
+        }
+
+        return value.orElse( null );
+    }
+
+    @Nullable
+    private Boolean findMapperDisableBuilder() {
+        Boolean mapperDisableBuilder = findDisableBuilder( mapperAnnotation );
+        if ( mapperDisableBuilder != null || mapperAnnotation == null ) {
+            return mapperDisableBuilder;
+        }
+
+        return findDisableBuilder( mapperConfigAnnotation );
+    }
+
+    @NotNull
+    private ReportingPolicy findMapperUnmappedTargetPolicy() {
+        if ( mapperAnnotation == null ) {
+            return ReportingPolicy.WARN;
+        }
+
+        PsiAnnotationMemberValue classAnnotationOverwrite =
+            mapperAnnotation.findDeclaredAttributeValue( UNMAPPED_TARGET_POLICY );
+        if ( classAnnotationOverwrite != null ) {
+            return toReportingPolicy( classAnnotationOverwrite );
+        }
+
+        PsiAnnotationMemberValue configValue = findMapperConfigValue( UNMAPPED_TARGET_POLICY );
+        return configValue == null ? ReportingPolicy.WARN : toReportingPolicy( configValue );
+    }
+
+    @Nullable
+    private String findMapperComponentModel() {
+        if ( mapperAnnotation == null ) {
+            return null;
+        }
+
+        PsiAnnotationMemberValue memberValue = mapperAnnotation.findDeclaredAttributeValue( COMPONENT_MODEL );
+        if ( memberValue == null ) {
+            memberValue = findMapperConfigValue( COMPONENT_MODEL );
+        }
+
+        return memberValue == null ? null : getStringAttributeValue( memberValue );
+    }
+
+    @Nullable
+    private static Boolean findDisableBuilder(@Nullable PsiAnnotation requestedAnnotation) {
+        if ( requestedAnnotation != null ) {
+            PsiAnnotationMemberValue builderValue = requestedAnnotation.findDeclaredAttributeValue( "builder" );
+            if ( builderValue instanceof PsiAnnotation builderAnnotation ) {
+                return getBooleanAttributeValue( builderAnnotation, "disableBuilder" );
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Converts the configValue to ReportingPolicy enum. If no matching ReportingPolicy found,
+     * returns ReportingPolicy.WARN.
+     *
+     * @param configValue The annotation value to convert to ReportingPolicy enum
+     * @return the mapped ReportingPolicy enum
+     */
+    @NotNull
+    private static ReportingPolicy toReportingPolicy(@NotNull PsiAnnotationMemberValue configValue) {
+        return switch ( configValue.getText() ) {
+            case "IGNORE", "ReportingPolicy.IGNORE" -> ReportingPolicy.IGNORE;
+            case "ERROR", "ReportingPolicy.ERROR" -> ReportingPolicy.ERROR;
+            default -> ReportingPolicy.WARN;
+        };
+    }
+}
@@ -46,6 +46,10 @@
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
 import com.intellij.psi.impl.source.tree.java.PsiAnnotationParamListImpl;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
@@ -65,8 +69,6 @@
  */
 public class MapstructAnnotationUtils {
 
-    private static final String UNMAPPED_TARGET_POLICY = "unmappedTargetPolicy";
-
     private MapstructAnnotationUtils() {
     }
 
@@ -328,7 +330,7 @@ private static Stream<PsiAnnotation> findMappingAnnotations(@NotNull PsiModifier
 
         if ( includeMetaAnnotations ) {
             // do not use MetaAnnotationUtil#findMetaAnnotations since it only finds the first @Mapping annotation
-            return findDirectAndMetaAnnotations( method, new HashSet<>() ).stream();
+            return findDirectAndMetaAnnotations( method ).stream();
         }
 
         return Stream.of( method.getModifierList() )
@@ -337,6 +339,41 @@ private static Stream<PsiAnnotation> findMappingAnnotations(@NotNull PsiModifier
             .filter( MapstructAnnotationUtils::isMappingAnnotation );
     }
 
+    @NotNull
+    private static Set<PsiAnnotation> findDirectAndMetaAnnotations(@NotNull PsiModifierListOwner owner) {
+
+        Set<PsiAnnotation> result = new HashSet<>();
+
+        // to avoid infinite loops, do not include meta annotations at this point
+        findAllDefinedMappingAnnotations( owner, false ).forEach( result::add );
+
+        for ( PsiClass annotationClass : getResolvedClassesInAnnotationsList( owner ) ) {
+            result.addAll( findMetaAnnotations( annotationClass ) );
+        }
+
+        return result;
+    }
+
+    /**
+     * The same annotation classes are usually applied to many methods, therefore the {@link org.mapstruct.Mapping}
+     * annotations they expand to are cached per annotation class.
+     *
+     * @param annotationClass the annotation class that should be expanded
+     *
+     * @return the {@link org.mapstruct.Mapping} annotations defined on the class or on its meta annotations
+     */
+    @NotNull
+    private static Set<PsiAnnotation> findMetaAnnotations(@NotNull PsiClass annotationClass) {
+        return CachedValuesManager.getManager( annotationClass.getProject() ).getCachedValue( annotationClass, () -> {
+            Set<PsiClass> visited = new HashSet<>();
+            visited.add( annotationClass );
+            return CachedValueProvider.Result.create(
+                Collections.unmodifiableSet( findDirectAndMetaAnnotations( annotationClass, visited ) ),
+                PsiModificationTracker.getInstance( annotationClass.getProject() )
+            );
+        } );
+    }
+
     @NotNull
     private static Set<PsiAnnotation> findDirectAndMetaAnnotations(@NotNull PsiModifierListOwner owner,
                                                                    Set<? super PsiClass> visited) {
@@ -539,44 +576,11 @@ private static Stream<PsiClass> findReferencedMappersOfMapperConfig(PsiAnnotatio
 
     @NotNull
     public static ReportingPolicy getUnmappedTargetPolicy(@NotNull PsiMethod method) {
-        PsiAnnotation beanMapping = method.getAnnotation( MapstructUtil.BEAN_MAPPING_FQN );
-        if ( beanMapping != null ) {
-            PsiAnnotationMemberValue beanAnnotationOverwrite =
-                beanMapping.findDeclaredAttributeValue( UNMAPPED_TARGET_POLICY );
-            if ( beanAnnotationOverwrite != null ) {
-                return getUnmappedTargetPolicyPolicyFromAnnotation( beanAnnotationOverwrite );
-            }
-        }
         PsiClass containingClass = method.getContainingClass();
         if ( containingClass == null ) {
             return ReportingPolicy.WARN;
         }
-        return getUnmappedTargetPolicyFromClass( containingClass );
-    }
-
-    @NotNull
-    private static ReportingPolicy getUnmappedTargetPolicyFromClass(@NotNull PsiClass containingClass) {
-        PsiAnnotation mapperAnnotation = containingClass.getAnnotation( MapstructUtil.MAPPER_ANNOTATION_FQN );
-        if ( mapperAnnotation == null ) {
-            return ReportingPolicy.WARN;
-        }
-
-        PsiAnnotationMemberValue classAnnotationOverwrite = mapperAnnotation.findDeclaredAttributeValue(
-            UNMAPPED_TARGET_POLICY );
-        if ( classAnnotationOverwrite != null ) {
-            return getUnmappedTargetPolicyPolicyFromAnnotation( classAnnotationOverwrite );
-        }
-        return getUnmappedTargetPolicyFromMapperConfig( mapperAnnotation );
-    }
-
-    @NotNull
-    private static ReportingPolicy getUnmappedTargetPolicyFromMapperConfig(@NotNull PsiAnnotation mapperAnnotation) {
-        PsiAnnotationMemberValue configValue = findConfigValueFromMapperConfig( mapperAnnotation,
-                UNMAPPED_TARGET_POLICY );
-        if (configValue == null) {
-            return ReportingPolicy.WARN;
-        }
-        return getUnmappedTargetPolicyPolicyFromAnnotation( configValue );
+        return MapperConfiguration.getInstance( containingClass ).getUnmappedTargetPolicy( method );
     }
 
     /**
@@ -588,6 +592,14 @@ private static ReportingPolicy getUnmappedTargetPolicyFromMapperConfig(@NotNull
     @Nullable
     public static PsiAnnotationMemberValue findConfigValueFromMapperConfig(@NotNull PsiAnnotation mapperAnnotation,
                                                                            @NotNull String name) {
+        PsiClass mapperClass = PsiTreeUtil.getParentOfType( mapperAnnotation, PsiClass.class );
+        if ( mapperClass != null ) {
+            MapperConfiguration mapperConfiguration = MapperConfiguration.getInstance( mapperClass );
+            if ( mapperAnnotation.equals( mapperConfiguration.getMapperAnnotation() ) ) {
+                return mapperConfiguration.findMapperConfigValue( name );
+            }
+        }
+
         PsiModifierListOwner mapperConfigReference = findMapperConfigReference( mapperAnnotation );
         if ( mapperConfigReference == null ) {
             return null;
@@ -601,24 +613,6 @@ public static PsiAnnotationMemberValue findConfigValueFromMapperConfig(@NotNull
         return mapperConfigAnnotation.findDeclaredAttributeValue( name );
     }
 
-
-    /**
-     * Converts the configValue to ReportingPolicy enum. If no matching ReportingPolicy found,
-     * returns ReportingPolicy.WARN.
-     *
-     * @param configValue The annotation value to convert to ReportingPolicy enum
-     * @return the mapped ReportingPolicy enum
-     */
-    @NotNull
-    private static ReportingPolicy getUnmappedTargetPolicyPolicyFromAnnotation(
-        @NotNull PsiAnnotationMemberValue configValue) {
-        return switch (configValue.getText()) {
-            case "IGNORE", "ReportingPolicy.IGNORE" -> ReportingPolicy.IGNORE;
-            case "ERROR", "ReportingPolicy.ERROR" -> ReportingPolicy.ERROR;
-            default -> ReportingPolicy.WARN;
-        };
-    }
-
     @Nullable
     public static PsiMethod getAnnotatedMethod(@NotNull PsiAnnotation psiAnnotation) {
         PsiElement psiAnnotationParent = psiAnnotation.getParent();
@@ -18,13 +18,8 @@
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.openapi.module.Module;
-import com.intellij.openapi.module.ModuleUtilCore;
-import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.Pair;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.EmptySubstitutor;
-import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiArrayType;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
@@ -41,8 +36,6 @@
 import com.intellij.psi.PsiType;
 import com.intellij.psi.impl.PsiClassImplUtil;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.util.CachedValueProvider;
-import com.intellij.psi.util.CachedValuesManager;
 import com.intellij.psi.util.PsiUtil;
 import com.intellij.psi.util.TypeConversionUtil;
 import com.intellij.util.PlatformIcons;
@@ -65,7 +58,6 @@
 import org.mapstruct.ValueMappings;
 import org.mapstruct.factory.Mappers;
 
-import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
 import static com.intellij.codeInsight.AnnotationUtil.isAnnotated;
 
 /**
@@ -100,12 +92,12 @@ public class MapstructUtil {
 
     static final String VALUE_MAPPING_ANNOTATION_FQN = ValueMapping.class.getName();
     static final String VALUE_MAPPINGS_ANNOTATION_FQN = ValueMappings.class.getName();
+    static final String BUILDER_ANNOTATION_FQN = Builder.class.getName();
+    static final String ENUM_MAPPING_ANNOTATION_FQN = EnumMapping.class.getName();
+    static final String IMMUTABLE_FQN = "org.immutables.value.Value.Immutable";
+    static final String FREE_BUILDER_FQN = "org.inferred.freebuilder.FreeBuilder";
     private static final String MAPPING_TARGET_ANNOTATION_FQN = MappingTarget.class.getName();
     private static final String CONTEXT_ANNOTATION_FQN = Context.class.getName();
-    private static final String BUILDER_ANNOTATION_FQN = Builder.class.getName();
-    private static final String ENUM_MAPPING_ANNOTATION_FQN = EnumMapping.class.getName();
-    private static final String IMMUTABLE_FQN = "org.immutables.value.Value.Immutable";
-    private static final String FREE_BUILDER_FQN = "org.inferred.freebuilder.FreeBuilder";
 
     /**
      * Hide constructor.
@@ -118,11 +110,12 @@ public static MapstructUtil getInstance(@Nullable PsiFile psiFile) {
             return MapstructUtil.INSTANCE;
         }
 
-        if ( MapstructUtil.immutablesOnClassPath( psiFile ) ) {
+        MapStructModuleProfile profile = MapStructModuleProfile.getInstance( psiFile );
+        if ( profile.immutablesPresent() ) {
             return ImmutablesMapstructUtil.INSTANCE;
         }
 
-        if ( MapstructUtil.freeBuilderOnClassPath( psiFile ) ) {
+        if ( profile.freeBuilderPresent() ) {
             return FreeBuildersMapstructUtil.INSTANCE;
         }
 
@@ -533,26 +526,7 @@ public static String capitalize(String string) {
      * @return {@code true} if MapStruct is in the module of the given {@code psiFile}, {@code false} otherwise
      */
     public static boolean isMapStructPresent(@NotNull PsiFile psiFile) {
-        Module module = ModuleUtilCore.findModuleForFile( psiFile.getVirtualFile(), psiFile.getProject() );
-        return module != null && isMapStructPresent( module );
-    }
-
-    /**
-     * Checks if MapStruct is withing the provided module.
-     *
-     * @param module that needs to be checked
-     *
-     * @return {@code true} if MapStruct is present within the {@code module}, {@code false} otherwise
-     */
-    private static boolean isMapStructPresent(@NotNull Module module) {
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean foundMarkerClass = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( MAPPER_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                foundMarkerClass,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+        return MapStructModuleProfile.getInstance( psiFile ).mapStructPresent();
     }
 
     /**
@@ -561,66 +535,7 @@ private static boolean isMapStructPresent(@NotNull Module module) {
      * @return the MapStruct project version
      */
     public static MapStructVersion resolveMapStructProjectVersion(@NotNull PsiFile psiFile) {
-        Module module = ModuleUtilCore.findModuleForFile( psiFile.getVirtualFile(), psiFile.getProject() );
-        if ( module == null ) {
-            return MapStructVersion.V1_2_O;
-        }
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            MapStructVersion mapStructVersion;
-            if ( JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( ENUM_MAPPING_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null ) {
-                mapStructVersion = MapStructVersion.V1_4_O;
-            }
-            else if ( JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( BUILDER_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null ) {
-                mapStructVersion = MapStructVersion.V1_3_O;
-            }
-            else {
-                mapStructVersion = MapStructVersion.V1_2_O;
-            }
-            return CachedValueProvider.Result.createSingleDependency(
-                mapStructVersion,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
-    }
-
-    private static boolean immutablesOnClassPath(@NotNull PsiFile psiFile) {
-        VirtualFile virtualFile = psiFile.getVirtualFile();
-        if ( virtualFile == null ) {
-            return false;
-        }
-        Module module = ModuleUtilCore.findModuleForFile( virtualFile, psiFile.getProject() );
-        if ( module == null ) {
-            return false;
-        }
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean immutablesOnClassPath = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( IMMUTABLE_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                immutablesOnClassPath,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
-    }
-
-    private static boolean freeBuilderOnClassPath(@NotNull PsiFile psiFile) {
-        VirtualFile virtualFile = psiFile.getVirtualFile();
-        if ( virtualFile == null ) {
-            return false;
-        }
-        Module module = ModuleUtilCore.findModuleForFile( virtualFile, psiFile.getProject() );
-        if ( module == null ) {
-            return false;
-        }
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean freeBuilderOnClassPath = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( FREE_BUILDER_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                freeBuilderOnClassPath,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+        return MapStructModuleProfile.getInstance( psiFile ).mapStructVersion();
     }
 
     /**
@@ -632,19 +547,7 @@ private static boolean freeBuilderOnClassPath(@NotNull PsiFile psiFile) {
      * @return {@code true} if MapStruct jdk8 is present within the {@code module}, {@code false} otherwise
      */
     static boolean isMapStructJdk8Present(@NotNull Module module) {
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            PsiClass mappingAnnotation = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( MAPPING_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) );
-            boolean mapstructJdk8Present = findAnnotation(
-                mappingAnnotation,
-                true,
-                CommonClassNames.JAVA_LANG_ANNOTATION_REPEATABLE
-            ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                mapstructJdk8Present,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+        return MapStructModuleProfile.getInstance( module ).mapStructJdk8Present();
     }
 
     /**
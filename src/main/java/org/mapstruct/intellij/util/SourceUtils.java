@@ -13,13 +13,16 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.CommonClassNames;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiRecordComponent;
@@ -27,9 +30,14 @@
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypes;
 import com.intellij.psi.impl.source.PsiClassReferenceType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.TypeConversionUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.diagnostics.MapStructMetrics;
 
 import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappingAnnotations;
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
@@ -127,7 +135,11 @@ else if ( psiElement instanceof PsiParameter psiParameter ) {
 
     /**
      * Extract all public read accessors (public getters and fields)
-     * with their psi substitutors from the given {@code psiType}
+     * with their psi substitutors from the given {@code psiType}.
+     * <p>
+     * The accessors of a class are computed once per PSI modification and cached on the class. For a parameterized
+     * {@code psiType} a view with the substitutors of the concrete instantiation is cached as well.
+     * The returned map is read-only.
      *
      * @param psiType to use to extract the accessors
      *
@@ -135,11 +147,67 @@ else if ( psiElement instanceof PsiParameter psiParameter ) {
      */
     public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicReadAccessors(
         @Nullable PsiType psiType) {
-        PsiClass psiClass = PsiUtil.resolveClassInType( psiType );
+        long start = MapStructMetrics.start();
+        try {
+            return cachedPublicReadAccessors( psiType );
+        }
+        finally {
+            MapStructMetrics.stop( MapStructMetrics.READ_ACCESSORS, null, start );
+        }
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> cachedPublicReadAccessors(
+        @Nullable PsiType psiType) {
+        PsiClassType.ClassResolveResult resolveResult = PsiUtil.resolveGenericsClassInType( psiType );
+        PsiClass psiClass = resolveResult.getElement();
         if ( psiClass == null ) {
             return Collections.emptyMap();
         }
 
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> classReadAccessors = classReadAccessors( psiClass );
+        if ( !( psiType instanceof PsiClassType classType ) || !classType.hasParameters() ||
+            classReadAccessors.isEmpty() ) {
+            return classReadAccessors;
+        }
+
+        Map<String, Map<String, Pair<? extends PsiElement, PsiSubstitutor>>> instantiations =
+            CachedValuesManager.getManager( psiClass.getProject() ).getCachedValue( psiClass, () ->
+                CachedValueProvider.Result.create(
+                    new ConcurrentHashMap<>(),
+                    PsiModificationTracker.getInstance( psiClass.getProject() )
+                ) );
+
+        String typeText = psiType.getCanonicalText();
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> instantiatedReadAccessors =
+            instantiations.get( typeText );
+        if ( instantiatedReadAccessors == null ) {
+            instantiatedReadAccessors = substitute( psiClass, classReadAccessors, resolveResult.getSubstitutor() );
+            Map<String, Pair<? extends PsiElement, PsiSubstitutor>> existing = instantiations.putIfAbsent(
+                typeText,
+                instantiatedReadAccessors
+            );
+            if ( existing != null ) {
+                instantiatedReadAccessors = existing;
+            }
+        }
+
+        return instantiatedReadAccessors;
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> classReadAccessors(
+        @NotNull PsiClass psiClass) {
+        MapStructMetrics.cacheLookup( MapStructMetrics.READ_ACCESSORS, null );
+        return CachedValuesManager.getManager( psiClass.getProject() ).getCachedValue( psiClass, () -> {
+            MapStructMetrics.cacheMiss( MapStructMetrics.READ_ACCESSORS, null );
+            return CachedValueProvider.Result.create(
+                computeReadAccessors( psiClass ),
+                PsiModificationTracker.getInstance( psiClass.getProject() )
+            );
+        } );
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> computeReadAccessors(
+        @NotNull PsiClass psiClass) {
         Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicReadAccessors = new HashMap<>();
 
         publicReadAccessors.putAll( publicGetters( psiClass ) );
@@ -153,7 +221,43 @@ public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicRead
             }
         }
 
-        return publicReadAccessors;
+        return Collections.unmodifiableMap( publicReadAccessors );
+    }
+
+    /**
+     * Apply the substitutor of a concrete instantiation of {@code psiClass} to the substitutors of its accessors.
+     *
+     * @param psiClass the class of the accessors
+     * @param readAccessors the accessors of the class
+     * @param instanceSubstitutor the substitutor of the instantiation of the class
+     *
+     * @return the accessors with substitutors for the given instantiation
+     */
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> substitute(@NotNull PsiClass psiClass,
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> readAccessors,
+        @NotNull PsiSubstitutor instanceSubstitutor) {
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> substituted = new HashMap<>();
+        for ( Map.Entry<String, Pair<? extends PsiElement, PsiSubstitutor>> entry : readAccessors.entrySet() ) {
+            Pair<? extends PsiElement, PsiSubstitutor> accessor = entry.getValue();
+            PsiElement member = accessor.getFirst();
+            PsiClass memberClass = member instanceof PsiMember psiMember ? psiMember.getContainingClass() : null;
+
+            PsiSubstitutor memberSubstitutor = accessor.getSecond();
+            if ( psiClass.equals( memberClass ) ) {
+                memberSubstitutor = instanceSubstitutor;
+            }
+            else if ( memberClass != null && psiClass.isInheritor( memberClass, true ) ) {
+                memberSubstitutor = TypeConversionUtil.getSuperClassSubstitutor(
+                    memberClass,
+                    psiClass,
+                    instanceSubstitutor
+                );
+            }
+
+            substituted.put( entry.getKey(), Pair.create( member, memberSubstitutor ) );
+        }
+
+        return Collections.unmodifiableMap( substituted );
     }
 
     /**
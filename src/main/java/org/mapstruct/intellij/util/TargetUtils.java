@@ -12,18 +12,19 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.lang.jvm.JvmModifier;
 import com.intellij.openapi.util.Pair;
 import com.intellij.psi.PsiAnnotation;
-import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
@@ -36,16 +37,16 @@
 import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiTypes;
-import com.intellij.psi.impl.source.resolve.reference.ReferenceProvidersRegistry;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.codeinsight.references.MappingPathResolver;
+import org.mapstruct.intellij.diagnostics.MapStructMetrics;
 
-import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
-import static com.intellij.codeInsight.AnnotationUtil.getBooleanAttributeValue;
 import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findAllDefinedMappingAnnotations;
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.findMapperConfigReference;
-import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
 import static org.mapstruct.intellij.util.MapstructUtil.isInheritInverseConfiguration;
 import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
@@ -92,25 +93,82 @@ public static PsiType getRelevantType(@NotNull PsiMethod mappingMethod) {
     /**
      * Extract all public write accessors with their psi substitutors from the given {@code psiType}.
      * These accessors are constructor parameters and, if it is not a record, also public fields and setters.
+     * <p>
+     * The accessors are cached on the resolved target (or builder) class and are recomputed only when the PSI changes.
+     * The returned map is therefore read-only, callers that need to modify it have to create a copy.
      *
      * @param psiType to use to extract the accessors
      * @param mapStructVersion the MapStruct project version
      * @param mappingMethod the mapping method
      *
-     * @return a stream that holds all public write accessors for the given {@code psiType}
+     * @return a cached, read-only map of all public write accessors for the given {@code psiType}, keyed by the
+     * property name; callers that need to modify it have to copy it first
      */
     public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors(@NotNull PsiType psiType,
         MapStructVersion mapStructVersion, MapstructUtil mapstructUtil, PsiMethod mappingMethod) {
+        long start = MapStructMetrics.start();
+        try {
+            return cachedPublicWriteAccessors( psiType, mapStructVersion, mapstructUtil, mappingMethod );
+        }
+        finally {
+            MapStructMetrics.stop( MapStructMetrics.WRITE_ACCESSORS, mappingMethod, start );
+        }
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> cachedPublicWriteAccessors(
+        @NotNull PsiType psiType, MapStructVersion mapStructVersion, MapstructUtil mapstructUtil,
+        PsiMethod mappingMethod) {
         boolean builderPresent = mapStructVersion.isBuilderSupported() && isBuilderEnabled( mappingMethod );
         Pair<PsiClass, TargetType> classAndType = resolveBuilderOrSelfClass( psiType, builderPresent );
         if ( classAndType == null ) {
             return Collections.emptyMap();
         }
 
-        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors = new LinkedHashMap<>();
-
         PsiClass psiClass = classAndType.getFirst();
         TargetType targetType = classAndType.getSecond();
+
+        WriteAccessorsKey key = new WriteAccessorsKey(
+            targetType.type().getCanonicalText(),
+            targetType.builder(),
+            builderPresent,
+            mapStructVersion,
+            mapstructUtil.getClass()
+        );
+        Map<WriteAccessorsKey, Map<String, Pair<? extends PsiElement, PsiSubstitutor>>> cache =
+            CachedValuesManager.getManager( psiClass.getProject() ).getCachedValue( psiClass, () ->
+                CachedValueProvider.Result.create(
+                    new ConcurrentHashMap<>(),
+                    PsiModificationTracker.getInstance( psiClass.getProject() )
+                ) );
+
+        MapStructMetrics.cacheLookup( MapStructMetrics.WRITE_ACCESSORS, mappingMethod );
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors = cache.get( key );
+        if ( publicWriteAccessors == null ) {
+            MapStructMetrics.cacheMiss( MapStructMetrics.WRITE_ACCESSORS, mappingMethod );
+            publicWriteAccessors = computePublicWriteAccessors(
+                psiClass,
+                targetType,
+                mapStructVersion,
+                mapstructUtil,
+                builderPresent
+            );
+            Map<String, Pair<? extends PsiElement, PsiSubstitutor>> existing = cache.putIfAbsent(
+                key,
+                publicWriteAccessors
+            );
+            if ( existing != null ) {
+                publicWriteAccessors = existing;
+            }
+        }
+
+        return publicWriteAccessors;
+    }
+
+    private static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> computePublicWriteAccessors(
+        @NotNull PsiClass psiClass, @NotNull TargetType targetType, MapStructVersion mapStructVersion,
+        MapstructUtil mapstructUtil, boolean builderPresent) {
+        Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWriteAccessors = new LinkedHashMap<>();
+
         PsiType typeToUse = targetType.type();
 
         if ( !psiClass.isRecord() ) {
@@ -122,7 +180,7 @@ public static Map<String, Pair<? extends PsiElement, PsiSubstitutor>> publicWrit
             publicWriteAccessors.putAll( constructorParameters( psiClass ) );
         }
 
-        return publicWriteAccessors;
+        return Collections.unmodifiableMap( publicWriteAccessors );
     }
 
     /**
@@ -150,42 +208,16 @@ public static boolean isBuilderEnabled(MapStructVersion mapStructVersion, PsiMet
      * @return {@code true} if builder can be used for the mapping method
      */
     public static boolean isBuilderEnabled(@Nullable PsiMethod mappingMethod) {
-        Optional<Boolean> disableBuilder = findDisableBuilder( mappingMethod, MapstructUtil.BEAN_MAPPING_FQN );
-
-        if ( disableBuilder.isEmpty() && mappingMethod != null ) {
-            PsiAnnotation mapperAnnotation = findAnnotation(
-                mappingMethod.getContainingClass(),
-                MAPPER_ANNOTATION_FQN
-            );
-            disableBuilder = findDisabledBuilder( mapperAnnotation );
-
-            if ( disableBuilder.isEmpty() && mapperAnnotation != null ) {
-                disableBuilder = findDisableBuilder(
-                    findMapperConfigReference( mapperAnnotation ),
-                    MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN
-                );
-            }
+        if ( mappingMethod == null ) {
+            return true;
         }
 
-        return !disableBuilder.orElse( false );
-    }
-
-    private static Optional<Boolean> findDisableBuilder(@Nullable PsiModifierListOwner listOwner,
-                                                        String annotationName) {
-        PsiAnnotation requestedAnnotation = findAnnotation( listOwner, true, annotationName );
-        return findDisabledBuilder( requestedAnnotation );
-    }
-
-    private static Optional<Boolean> findDisabledBuilder(@Nullable PsiAnnotation requestedAnnotation) {
-        if ( requestedAnnotation != null ) {
-            PsiAnnotationMemberValue builderValue = requestedAnnotation.findDeclaredAttributeValue( "builder" );
-            if ( builderValue instanceof PsiAnnotation builderAnnotation ) {
-                Boolean disableBuilder = getBooleanAttributeValue( builderAnnotation, "disableBuilder" );
-                return Optional.ofNullable( disableBuilder );
-            }
+        PsiClass containingClass = mappingMethod.getContainingClass();
+        if ( containingClass == null ) {
+            return true;
         }
 
-        return Optional.empty();
+        return MapperConfiguration.getInstance( containingClass ).isBuilderEnabled( mappingMethod );
     }
 
     private static Map<String, Pair<PsiParameter, PsiSubstitutor>> constructorParameters(@NotNull PsiClass psiClass) {
@@ -368,12 +400,9 @@ public static Pair<PsiClass, TargetType> resolveBuilderOrSelfClass(@NotNull PsiT
         TargetType targetType = TargetType.defaultType( psiType );
 
         if ( builderEnabled ) {
-            for ( PsiMethod classMethod : psiClass.getMethods() ) {
-                if ( MapstructUtil.isPossibleBuilderCreationMethod( classMethod, targetType.type() ) &&
-                    hasBuildMethod( classMethod.getReturnType(), psiType ) ) {
-                    targetType = TargetType.builder( classMethod.getReturnType() );
-                    break;
-                }
+            BuilderDescriptor builderDescriptor = findBuilderDescriptor( psiType );
+            if ( builderDescriptor != null ) {
+                targetType = TargetType.builder( builderDescriptor.getBuilderType() );
             }
         }
 
@@ -382,23 +411,73 @@ public static Pair<PsiClass, TargetType> resolveBuilderOrSelfClass(@NotNull PsiT
     }
 
     /**
-     * Check if the {@code builderType} has a build method for the {@code type}
+     * Find the builder that MapStruct would use for the {@code psiType}. The builder detection is cached on the
+     * class of the type and is recomputed only when the PSI changes.
+     *
+     * @param psiType the type for which the builder should be found
+     *
+     * @return the descriptor of the builder, or {@code null} if the type has no builder
+     */
+    @Nullable
+    public static BuilderDescriptor findBuilderDescriptor(@NotNull PsiType psiType) {
+        PsiClass psiClass = PsiUtil.resolveClassInType( psiType );
+        if ( psiClass == null ) {
+            return null;
+        }
+
+        Map<String, Optional<BuilderDescriptor>> cache = CachedValuesManager.getManager( psiClass.getProject() )
+            .getCachedValue( psiClass, () -> CachedValueProvider.Result.create(
+                new ConcurrentHashMap<>(),
+                PsiModificationTracker.getInstance( psiClass.getProject() )
+            ) );
+
+        String typeText = psiType.getCanonicalText();
+        Optional<BuilderDescriptor> builderDescriptor = cache.get( typeText );
+        if ( builderDescriptor == null ) {
+            builderDescriptor = Optional.ofNullable( computeBuilderDescriptor( psiClass, psiType ) );
+            Optional<BuilderDescriptor> existing = cache.putIfAbsent( typeText, builderDescriptor );
+            if ( existing != null ) {
+                builderDescriptor = existing;
+            }
+        }
+
+        return builderDescriptor.orElse( null );
+    }
+
+    @Nullable
+    private static BuilderDescriptor computeBuilderDescriptor(@NotNull PsiClass psiClass, @NotNull PsiType psiType) {
+        for ( PsiMethod classMethod : psiClass.getMethods() ) {
+            if ( MapstructUtil.isPossibleBuilderCreationMethod( classMethod, psiType ) ) {
+                PsiType builderType = classMethod.getReturnType();
+                PsiMethod buildMethod = findBuildMethod( builderType, psiType );
+                if ( builderType != null && buildMethod != null ) {
+                    return new BuilderDescriptor( classMethod, builderType, buildMethod );
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Find the build method for the {@code type} in the {@code builderType}
      *
      * @param builderType the type of the builder that should be checked
      * @param type the type for which a build method is searched for
      *
-     * @return {@code true} if the builder type has a build method for the type
+     * @return the build method of the builder type for the type, or {@code null} if there is none
      */
-    private static boolean hasBuildMethod(@Nullable PsiType builderType, @NotNull PsiType type) {
+    @Nullable
+    private static PsiMethod findBuildMethod(@Nullable PsiType builderType, @NotNull PsiType type) {
         if ( builderType == null ||
             builderType.getCanonicalText().startsWith( "java." ) ||
             builderType.getCanonicalText().startsWith( "javax." ) ) {
-            return false;
+            return null;
         }
 
         PsiClass builderClass = PsiUtil.resolveClassInType( builderType );
         if ( builderClass == null ) {
-            return false;
+            return null;
         }
 
         for ( Pair<PsiMethod, PsiSubstitutor> pair : builderClass.getAllMethodsAndTheirSubstitutors() ) {
@@ -406,11 +485,11 @@ private static boolean hasBuildMethod(@Nullable PsiType builderType, @NotNull Ps
             PsiSubstitutor buildMethodSubstitutor = pair.getSecond();
 
             if ( MapstructUtil.isBuildMethod( buildMethod, buildMethodSubstitutor, type ) ) {
-                return true;
+                return buildMethod;
             }
         }
 
-        return false;
+        return null;
     }
 
     /**
@@ -447,9 +526,7 @@ public static Stream<String> findAllSourcePropertiesForCurrentTarget(@NotNull Ps
             ) ) )
             .map( psiAnnotation -> psiAnnotation.findDeclaredAttributeValue(  "source" ) )
             .filter( Objects::nonNull )
-            .map( ReferenceProvidersRegistry::getReferencesFromProviders )
-            .filter( references -> references.length > 0 )
-            .map( references -> references[references.length - 1].resolve() )
+            .map( MappingPathResolver::resolveSource )
             .flatMap( element -> SourceUtils.publicReadAccessors( element ).keySet().stream() );
     }
 
@@ -460,11 +537,22 @@ public static Stream<String> findAllSourcePropertiesForCurrentTarget(@NotNull Ps
      * @param mapStructVersion the MapStruct project version
      * @param mappingMethod that needs to be checked
      *
-     * @return all target properties for the given {@code targetClass}
+     * @return a modifiable copy of all target properties for the given {@code targetClass}
      */
     public static Set<String> findAllTargetProperties(@NotNull PsiType targetType, MapStructVersion mapStructVersion,
                                                       MapstructUtil mapstructUtil, PsiMethod mappingMethod) {
-        return publicWriteAccessors( targetType, mapStructVersion, mapstructUtil, mappingMethod ).keySet();
+        return new LinkedHashSet<>(
+            publicWriteAccessors( targetType, mapStructVersion, mapstructUtil, mappingMethod ).keySet()
+        );
+    }
+
+    /**
+     * Key for the cached write accessors of a target (or builder) class. The accessors depend on the concrete type
+     * (for fluent setters of generic builders), on whether builders are used and on the MapStruct flavour in use.
+     */
+    private record WriteAccessorsKey(String typeText, boolean builder, boolean builderPresent,
+                                     MapStructVersion mapStructVersion,
+                                     Class<? extends MapstructUtil> mapstructUtilClass) {
     }
 
     /**
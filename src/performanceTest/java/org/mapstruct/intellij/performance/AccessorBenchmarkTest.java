@@ -0,0 +1,163 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.performance;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiType;
+import org.mapstruct.intellij.inspection.inheritance.InheritConfigurationUtils;
+import org.mapstruct.intellij.performance.SyntheticProjectGenerator.Shape;
+import org.mapstruct.intellij.performance.SyntheticProjectGenerator.TargetKind;
+import org.mapstruct.intellij.util.MapStructVersion;
+import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.SourceUtils;
+import org.mapstruct.intellij.util.TargetUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.mapperName;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.nestedPath;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.sourceName;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.targetName;
+
+/**
+ * Microbenchmarks of the computations behind the completion, the references and the inspections, for DTOs with 10,
+ * 100 and 1000 properties. Every operation is measured with cold caches (the PSI caches are dropped before every
+ * iteration) and with warm caches.
+ */
+public class AccessorBenchmarkTest extends MapStructPerformanceTestCase {
+
+    private static final String BEAN_PACKAGE = "perf.bean";
+    private static final String BUILDER_PACKAGE = "perf.builder";
+
+    public void test10Properties() {
+        benchmark( 10 );
+    }
+
+    public void test100Properties() {
+        benchmark( 100 );
+    }
+
+    public void test1000Properties() {
+        benchmark( 1000 );
+    }
+
+    private void benchmark(int properties) {
+        Shape shape = new Shape( 1, 1, properties, 2, TargetKind.BEAN );
+        Map<String, PsiFile> beanFiles = addSyntheticProject( shape, BEAN_PACKAGE );
+        addSyntheticProject( shape.withTargetKind( TargetKind.BUILDER ), BUILDER_PACKAGE );
+        myFixture.addFileToProject(
+            SyntheticProjectGenerator.path( BEAN_PACKAGE, "InheritingMapper" ),
+            inheritingMapper( shape )
+        );
+
+        PsiFile beanMapperFile = beanFiles.get( SyntheticProjectGenerator.path( BEAN_PACKAGE, mapperName( 0 ) ) );
+        MapStructVersion version = MapstructUtil.resolveMapStructProjectVersion( beanMapperFile );
+        MapstructUtil mapstructUtil = MapstructUtil.getInstance( beanMapperFile );
+        PsiMethod mappingMethod = findMethod( BEAN_PACKAGE + "." + mapperName( 0 ), "map0" );
+        PsiType targetType = mappingMethod.getReturnType();
+        PsiType sourceType = mappingMethod.getParameterList().getParameters()[0].getType();
+        PsiType builderTargetType = findMethod( BUILDER_PACKAGE + "." + mapperName( 0 ), "map0" ).getReturnType();
+
+        assertThat( TargetUtils.publicWriteAccessors( targetType, version, mapstructUtil, mappingMethod ) )
+            .hasSize( properties + 1 );
+        assertThat( SourceUtils.publicReadAccessors( sourceType ) ).hasSize( properties + 1 );
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put( "properties", properties );
+
+        benchmark(
+            "publicWriteAccessors",
+            parameters,
+            () -> TargetUtils.publicWriteAccessors( targetType, version, mapstructUtil, mappingMethod )
+        );
+        benchmark( "publicReadAccessors", parameters, () -> SourceUtils.publicReadAccessors( sourceType ) );
+        benchmark(
+            "resolveBuilderOrSelfClass",
+            parameters,
+            () -> TargetUtils.resolveBuilderOrSelfClass( builderTargetType, true )
+        );
+
+        PsiMethod inheritingMapping = findMethod( BEAN_PACKAGE + ".InheritingMapper", "map" );
+        PsiReference[] targetReferences = mappingValue( inheritingMapping, "target" ).getReferences();
+        assertThat( targetReferences ).isNotEmpty();
+        assertThat( targetReferences[targetReferences.length - 1].resolve() ).isNotNull();
+        benchmark( "resolve target reference", parameters, () -> {
+            Object resolved = null;
+            for ( PsiReference reference : targetReferences ) {
+                resolved = reference.resolve();
+            }
+            return resolved;
+        } );
+
+        PsiMethod updateMethod = findMethod( BEAN_PACKAGE + ".InheritingMapper", "update" );
+        assertThat( InheritConfigurationUtils.findInheritedTargetProperties( updateMethod, version ) )
+            .isNotEmpty();
+        benchmark(
+            "findInheritedTargetProperties",
+            parameters,
+            () -> InheritConfigurationUtils.findInheritedTargetProperties( updateMethod, version ).count()
+        );
+    }
+
+    private void benchmark(String scenario, Map<String, Object> parameters, Supplier<?> operation) {
+        record( scenario, parameters, "cold", Microbenchmark.run( this::dropCaches, operation ) );
+        record( scenario, parameters, "warm", Microbenchmark.run( () -> { }, operation ) );
+    }
+
+    private void record(String scenario, Map<String, Object> parameters, String caches,
+                        Microbenchmark.Result result) {
+        Map<String, Object> recordedParameters = new LinkedHashMap<>( parameters );
+        recordedParameters.put( "caches", caches );
+        recordedParameters.put( "warmup", Microbenchmark.WARMUP );
+        PerformanceResults.forSuite( getClass().getSimpleName() )
+            .record( scenario, recordedParameters, result.timingsNanos(), result.allocatedBytesPerOperation() );
+    }
+
+    private PsiMethod findMethod(String className, String methodName) {
+        PsiClass psiClass = myFixture.findClass( className );
+        PsiMethod[] methods = psiClass.findMethodsByName( methodName, false );
+        assertThat( methods ).hasSize( 1 );
+        return methods[0];
+    }
+
+    private static PsiAnnotationMemberValue mappingValue(PsiMethod method, String attribute) {
+        PsiAnnotation mapping = method.getModifierList().findAnnotation( "org.mapstruct.Mapping" );
+        assertThat( mapping ).isNotNull();
+        PsiAnnotationMemberValue value = mapping.findDeclaredAttributeValue( attribute );
+        assertThat( value ).isNotNull();
+        return value;
+    }
+
+    private static String inheritingMapper(Shape shape) {
+        String path = nestedPath( shape, shape.properties() - 1 );
+        String source = sourceName( 0, 0 );
+        String target = targetName( 0, 0 );
+        return "package " + BEAN_PACKAGE + ";\n\n" +
+            "import org.mapstruct.InheritConfiguration;\n" +
+            "import org.mapstruct.InheritInverseConfiguration;\n" +
+            "import org.mapstruct.Mapper;\n" +
+            "import org.mapstruct.Mapping;\n" +
+            "import org.mapstruct.MappingTarget;\n\n" +
+            "@Mapper\n" +
+            "public interface InheritingMapper {\n\n" +
+            "    @Mapping(target = \"" + path + "\", source = \"" + path + "\")\n" +
+            "    @Mapping(target = \"property0\", ignore = true)\n" +
+            "    " + target + " map(" + source + " source);\n\n" +
+            "    @InheritInverseConfiguration\n" +
+            "    " + source + " reverse(" + target + " target);\n\n" +
+            "    @InheritConfiguration\n" +
+            "    void update(" + source + " source, @MappingTarget " + target + " target);\n" +
+            "}\n";
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.performance;
+
+import java.util.Map;
+
+import com.intellij.codeInsight.lookup.LookupManager;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import org.mapstruct.intellij.performance.SyntheticProjectGenerator.Shape;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.PACKAGE;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.mapperName;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.path;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.sourceName;
+import static org.mapstruct.intellij.performance.SyntheticProjectGenerator.targetName;
+
+/**
+ * Measures the editor features of the plugin on a synthetic project, with the shape defined by the
+ * {@code mapstruct.performance.*} system properties.
+ */
+public class EditorPerformanceTest extends MapStructPerformanceTestCase {
+
+    private Shape shape;
+    private Map<String, PsiFile> files;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        shape = Shape.fromSystemProperties();
+        files = addSyntheticProject( shape );
+    }
+
+    public void testHighlighting() {
+        enableMapStructInspections();
+        myFixture.configureFromExistingVirtualFile( files.get( path( mapperName( 0 ) ) ).getVirtualFile() );
+
+        measure(
+            "highlighting",
+            shape,
+            this::dropCaches,
+            () -> myFixture.doHighlighting()
+        );
+    }
+
+    public void testTargetCompletion() {
+        configureCompletionMapper( "@Mapping(target = \"" + "nested.".repeat( shape.nestingDepth() ) + "<caret>\")" );
+
+        measure( "completion target", shape, this::resetCompletion, () -> myFixture.completeBasic() );
+
+        assertThat( myFixture.getLookupElementStrings() ).isNotEmpty();
+    }
+
+    public void testSourceCompletion() {
+        configureCompletionMapper( "@Mapping(target = \"property0\", source = \"" +
+            "nested.".repeat( shape.nestingDepth() ) + "<caret>\")" );
+
+        measure( "completion source", shape, this::resetCompletion, () -> myFixture.completeBasic() );
+
+        assertThat( myFixture.getLookupElementStrings() ).isNotEmpty();
+    }
+
+    public void testFindUsages() {
+        PsiMethod getter = findMethod( sourceName( 0, 0 ), "getProperty0" );
+
+        measure( "find usages", shape, this::dropCaches, () -> myFixture.findUsages( getter ) );
+    }
+
+    public void testRename() {
+        String[] names = { "getProperty0", "getRenamedProperty0" };
+        int[] attempt = { 0 };
+
+        measure(
+            "rename",
+            shape,
+            this::dropCaches,
+            () -> {
+                String currentName = names[attempt[0] % 2];
+                String newName = names[( attempt[0] + 1 ) % 2];
+                attempt[0]++;
+                myFixture.renameElement( findMethod( sourceName( 0, 0 ), currentName ), newName );
+            }
+        );
+    }
+
+    private void configureCompletionMapper(String mapping) {
+        myFixture.configureByText(
+            "CompletionMapper.java",
+            "import " + PACKAGE + ".*;\n" +
+                "import org.mapstruct.Mapper;\n" +
+                "import org.mapstruct.Mapping;\n\n" +
+                "@Mapper\n" +
+                "public interface CompletionMapper {\n\n" +
+                "    " + mapping + "\n" +
+                "    " + targetName( 0, 0 ) + " map(" + sourceName( 0, 0 ) + " source);\n" +
+                "}\n"
+        );
+    }
+
+    private void resetCompletion() {
+        LookupManager.getInstance( getProject() ).hideActiveLookup();
+        dropCaches();
+    }
+
+    private PsiMethod findMethod(String className, String methodName) {
+        PsiClass psiClass = myFixture.findClass( PACKAGE + "." + className );
+        PsiMethod[] methods = psiClass.findMethodsByName( methodName, false );
+        assertThat( methods ).hasSize( 1 );
+        return methods[0];
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.performance;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.util.ThrowableRunnable;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.inspection.FromMapMappingMapTypeInspection;
+import org.mapstruct.intellij.inspection.MapStructAnnotatorInspection;
+import org.mapstruct.intellij.inspection.MapstructReferenceInspection;
+import org.mapstruct.intellij.inspection.MissingMapperOrMapperConfigAnnotationInspection;
+import org.mapstruct.intellij.inspection.MoreThanOneDefaultSourcePropertyDefinedInspection;
+import org.mapstruct.intellij.inspection.MoreThanOneSourcePropertyDefinedInspection;
+import org.mapstruct.intellij.inspection.NoSourcePropertyDefinedInspection;
+import org.mapstruct.intellij.inspection.NotNullCheckableSourcePropertyUsedWithDefaultValueInspection;
+import org.mapstruct.intellij.inspection.TargetPropertyMappedMoreThanOnceInspection;
+import org.mapstruct.intellij.inspection.TargetThisMappingNoSourcePropertyInspection;
+import org.mapstruct.intellij.inspection.ThisUsedAsSourcePropertyInspection;
+import org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection;
+import org.mapstruct.intellij.inspection.WrongUsageOfMappersFactoryInspection;
+import org.mapstruct.intellij.performance.SyntheticProjectGenerator.Shape;
+
+/**
+ * Base class for the performance tests. The number of attempts, warmup iterations and the time budget of a scenario
+ * can be configured with the {@code mapstruct.performance.attempts}, {@code mapstruct.performance.warmup} and
+ * {@code mapstruct.performance.budgetMs} system properties.
+ */
+public abstract class MapStructPerformanceTestCase extends MapstructBaseCompletionTestCase {
+
+    protected static final int ATTEMPTS = Integer.getInteger( "mapstruct.performance.attempts", 10 );
+    protected static final int WARMUP = Integer.getInteger( "mapstruct.performance.warmup", 3 );
+    private static final int BUDGET_MS = Integer.getInteger( "mapstruct.performance.budgetMs", 60_000 );
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends LocalInspectionTool>[] INSPECTIONS = new Class[] {
+        MissingMapperOrMapperConfigAnnotationInspection.class,
+        UnmappedTargetPropertiesInspection.class,
+        MapStructAnnotatorInspection.class,
+        WrongUsageOfMappersFactoryInspection.class,
+        MoreThanOneSourcePropertyDefinedInspection.class,
+        MoreThanOneDefaultSourcePropertyDefinedInspection.class,
+        NoSourcePropertyDefinedInspection.class,
+        NotNullCheckableSourcePropertyUsedWithDefaultValueInspection.class,
+        FromMapMappingMapTypeInspection.class,
+        TargetThisMappingNoSourcePropertyInspection.class,
+        TargetPropertyMappedMoreThanOnceInspection.class,
+        ThisUsedAsSourcePropertyInspection.class,
+        MapstructReferenceInspection.class
+    };
+
+    /**
+     * Add the sources of a synthetic project with the given shape to the fixture.
+     *
+     * @param shape the shape of the project
+     *
+     * @return the added files, by their path relative to the source root
+     */
+    @NotNull
+    protected Map<String, PsiFile> addSyntheticProject(@NotNull Shape shape) {
+        return addSyntheticProject( shape, SyntheticProjectGenerator.PACKAGE );
+    }
+
+    /**
+     * Add the sources of a synthetic project with the given shape to the given package of the fixture.
+     *
+     * @param shape the shape of the project
+     * @param packageName the package of the generated classes
+     *
+     * @return the added files, by their path relative to the source root
+     */
+    @NotNull
+    protected Map<String, PsiFile> addSyntheticProject(@NotNull Shape shape, @NotNull String packageName) {
+        Map<String, PsiFile> files = new LinkedHashMap<>();
+        SyntheticProjectGenerator.generate( shape, packageName )
+            .forEach( (path, text) -> files.put( path, myFixture.addFileToProject( path, text ) ) );
+        return files;
+    }
+
+    protected void enableMapStructInspections() {
+        myFixture.enableInspections( INSPECTIONS );
+    }
+
+    /**
+     * Drops the PSI caches, so that a measured attempt does not profit from the values cached by a previous one.
+     */
+    protected void dropCaches() {
+        PsiManager.getInstance( getProject() ).dropPsiCaches();
+    }
+
+    /**
+     * Measure the given {@code test} with the platform performance test utilities and record the timings of the
+     * measured attempts (without the warmup iterations).
+     *
+     * @param scenario the name of the scenario
+     * @param parameters the parameters of the scenario that are recorded with the timings
+     * @param setup executed before every attempt, not measured
+     * @param test the measured code
+     *
+     * @return the timings of the measured attempts in nanoseconds
+     */
+    @NotNull
+    protected long[] measure(@NotNull String scenario, @NotNull Object parameters,
+                             @NotNull ThrowableRunnable<?> setup, @NotNull ThrowableRunnable<?> test) {
+        List<Long> timings = new ArrayList<>();
+        PlatformTestUtil.startPerformanceTest( getClass().getSimpleName() + " " + scenario, BUDGET_MS, () -> {
+                long start = System.nanoTime();
+                test.run();
+                timings.add( System.nanoTime() - start );
+            } )
+            .setup( setup )
+            .warmupIterations( WARMUP )
+            .attempts( ATTEMPTS )
+            .assertTiming();
+
+        List<Long> measured = timings.subList( Math.max( 0, timings.size() - ATTEMPTS ), timings.size() );
+        long[] result = measured.stream().mapToLong( Long::longValue ).toArray();
+        PerformanceResults.forSuite( getClass().getSimpleName() ).record( scenario, parameters, result );
+        return result;
+    }
+}
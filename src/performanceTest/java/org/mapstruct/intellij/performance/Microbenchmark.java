@@ -0,0 +1,96 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.performance;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A minimal harness for measuring single operations of the plugin inside a test fixture. Every operation is executed
+ * for a number of warmup iterations, followed by the measured iterations. The number of iterations can be configured
+ * with the {@code mapstruct.benchmark.warmup} and {@code mapstruct.benchmark.iterations} system properties.
+ * <p>
+ * Next to the duration of every iteration, the bytes allocated by the measured operation are counted, if the JVM
+ * supports it.
+ */
+public final class Microbenchmark {
+
+    public static final int WARMUP = Integer.getInteger( "mapstruct.benchmark.warmup", 20 );
+    public static final int ITERATIONS = Integer.getInteger( "mapstruct.benchmark.iterations", 100 );
+
+    /**
+     * Keeps the results of the operations reachable, so that the JIT cannot eliminate the measured code.
+     */
+    @SuppressWarnings("unused")
+    private static volatile Object blackhole;
+
+    /**
+     * The result of a microbenchmark.
+     *
+     * @param timingsNanos the duration of every measured iteration
+     * @param allocatedBytesPerOperation the average number of bytes allocated by one iteration, {@code -1} if the
+     * JVM does not support measuring the allocations
+     */
+    public record Result(@NotNull long[] timingsNanos, long allocatedBytesPerOperation) {
+    }
+
+    private Microbenchmark() {
+    }
+
+    /**
+     * @param setup executed before every iteration, neither timed nor counted in the allocations
+     * @param operation the measured operation
+     *
+     * @return the timings and allocations of the measured iterations
+     */
+    @NotNull
+    public static Result run(@NotNull Runnable setup, @NotNull Supplier<?> operation) {
+        for ( int i = 0; i < WARMUP; i++ ) {
+            setup.run();
+            blackhole = operation.get();
+        }
+
+        AllocationCounter allocations = AllocationCounter.create();
+        long[] timings = new long[ITERATIONS];
+        long allocatedBytes = 0;
+        for ( int i = 0; i < ITERATIONS; i++ ) {
+            setup.run();
+            long allocatedBefore = allocations.allocatedBytes();
+            long start = System.nanoTime();
+            blackhole = operation.get();
+            timings[i] = System.nanoTime() - start;
+            allocatedBytes += allocations.allocatedBytes() - allocatedBefore;
+        }
+        blackhole = null;
+
+        return new Result( timings, allocations.isSupported() ? allocatedBytes / Math.max( 1, ITERATIONS ) : -1 );
+    }
+
+    /**
+     * Counts the bytes allocated by the current thread, using the HotSpot specific extension of the thread MX bean.
+     */
+    private record AllocationCounter(com.sun.management.ThreadMXBean threadBean, long threadId) {
+
+        private static AllocationCounter create() {
+            if ( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported() ) {
+                threadBean.setThreadAllocatedMemoryEnabled( true );
+                return new AllocationCounter( threadBean, Thread.currentThread().getId() );
+            }
+            return new AllocationCounter( null, -1 );
+        }
+
+        private boolean isSupported() {
+            return threadBean != null;
+        }
+
+        private long allocatedBytes() {
+            return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes( threadId );
+        }
+    }
+}
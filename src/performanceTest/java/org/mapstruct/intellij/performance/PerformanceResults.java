@@ -0,0 +1,142 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects the measurements of the performance tests and writes them as JSON, one file per suite, into the directory
+ * defined by the {@code mapstruct.performance.output} system property ({@code build/reports/performance} by default).
+ */
+public final class PerformanceResults {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Map<String, PerformanceResults> SUITES = new ConcurrentHashMap<>();
+
+    private final String suite;
+    private final List<JsonObject> measurements = new ArrayList<>();
+
+    private PerformanceResults(@NotNull String suite) {
+        this.suite = suite;
+    }
+
+    /**
+     * @param suite the name of the suite
+     *
+     * @return the results of the suite, shared by all tests of the suite
+     */
+    @NotNull
+    public static PerformanceResults forSuite(@NotNull String suite) {
+        return SUITES.computeIfAbsent( suite, PerformanceResults::new );
+    }
+
+    /**
+     * Record the timings of a scenario and write all results of the suite.
+     *
+     * @param scenario the name of the measured scenario
+     * @param parameters the parameters of the scenario, e.g. the shape of the project
+     * @param timingsNanos the duration of every measured attempt
+     *
+     * @return the recorded measurement
+     */
+    @NotNull
+    public synchronized JsonObject record(@NotNull String scenario, @NotNull Object parameters,
+                                          @NotNull long[] timingsNanos) {
+        JsonObject measurement = new JsonObject();
+        measurement.addProperty( "scenario", scenario );
+        measurement.add( "parameters", GSON.toJsonTree( parameters ) );
+        measurement.addProperty( "attempts", timingsNanos.length );
+
+        long[] sorted = timingsNanos.clone();
+        Arrays.sort( sorted );
+        if ( sorted.length > 0 ) {
+            measurement.addProperty( "minMs", toMillis( sorted[0] ) );
+            measurement.addProperty( "medianMs", toMillis( sorted[sorted.length / 2] ) );
+            measurement.addProperty( "meanMs", toMillis( (long) Arrays.stream( sorted ).average().orElse( 0 ) ) );
+            measurement.addProperty( "maxMs", toMillis( sorted[sorted.length - 1] ) );
+        }
+
+        measurements.add( measurement );
+        write();
+        return measurement;
+    }
+
+    /**
+     * Record the timings and the allocations of a microbenchmark and write all results of the suite.
+     *
+     * @param scenario the name of the measured scenario
+     * @param parameters the parameters of the scenario, e.g. the number of properties
+     * @param timingsNanos the duration of every measured iteration
+     * @param allocatedBytesPerOperation the average number of bytes allocated by one iteration, negative if the JVM
+     * does not support measuring the allocations
+     *
+     * @return the recorded measurement
+     */
+    @NotNull
+    public synchronized JsonObject record(@NotNull String scenario, @NotNull Object parameters,
+                                          @NotNull long[] timingsNanos, long allocatedBytesPerOperation) {
+        long[] sorted = timingsNanos.clone();
+        Arrays.sort( sorted );
+        JsonObject measurement = record( scenario, parameters, timingsNanos );
+        if ( sorted.length > 0 ) {
+            measurement.addProperty( "medianUs", toMicros( sorted[sorted.length / 2] ) );
+        }
+        if ( allocatedBytesPerOperation >= 0 ) {
+            measurement.addProperty( "allocatedBytesPerOperation", allocatedBytesPerOperation );
+        }
+        write();
+        return measurement;
+    }
+
+    private void write() {
+        JsonObject root = new JsonObject();
+        root.addProperty( "suite", suite );
+        root.addProperty( "javaVersion", System.getProperty( "java.version" ) );
+        root.addProperty( "availableProcessors", Runtime.getRuntime().availableProcessors() );
+        JsonArray results = new JsonArray();
+        measurements.forEach( results::add );
+        root.add( "results", results );
+
+        Path outputDirectory = Paths.get(
+            System.getProperty( "mapstruct.performance.output", "build/reports/performance" )
+        );
+        try {
+            Files.createDirectories( outputDirectory );
+            Files.writeString(
+                outputDirectory.resolve( suite + ".json" ),
+                GSON.toJson( root ),
+                StandardCharsets.UTF_8
+            );
+        }
+        catch ( IOException e ) {
+            throw new UncheckedIOException( "Could not write the performance results of " + suite, e );
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round( nanos / 10_000.0 ) / 100.0;
+    }
+
+    private static double toMicros(long nanos) {
+        return Math.round( nanos / 10.0 ) / 100.0;
+    }
+}
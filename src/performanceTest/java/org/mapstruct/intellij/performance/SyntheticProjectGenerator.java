@@ -0,0 +1,321 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.performance;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generates the sources of a synthetic MapStruct project. Every mapper maps its own source type to its own target
+ * type, the types have a configurable number of properties and a chain of nested types.
+ */
+public final class SyntheticProjectGenerator {
+
+    static final String PACKAGE = "perf";
+
+    /**
+     * How the target types of the mappers are constructed.
+     */
+    public enum TargetKind {
+        BEAN,
+        BUILDER,
+        RECORD,
+        CONSTRUCTOR
+    }
+
+    /**
+     * The shape of a generated project.
+     *
+     * @param mappers the number of mappers
+     * @param methodsPerMapper the number of mapping methods per mapper
+     * @param properties the number of properties per source and target type
+     * @param nestingDepth the number of nested types below every source and target type
+     * @param targetKind how the target types are constructed
+     */
+    public record Shape(int mappers, int methodsPerMapper, int properties, int nestingDepth,
+                        @NotNull TargetKind targetKind) {
+
+        /**
+         * @return the shape defined by the {@code mapstruct.performance.*} system properties
+         */
+        @NotNull
+        public static Shape fromSystemProperties() {
+            return new Shape(
+                Integer.getInteger( "mapstruct.performance.mappers", 20 ),
+                Integer.getInteger( "mapstruct.performance.methodsPerMapper", 10 ),
+                Integer.getInteger( "mapstruct.performance.properties", 20 ),
+                Integer.getInteger( "mapstruct.performance.nestingDepth", 2 ),
+                TargetKind.valueOf( System.getProperty( "mapstruct.performance.targetKind", TargetKind.BEAN.name() )
+                    .toUpperCase( Locale.ROOT ) )
+            );
+        }
+
+        @NotNull
+        public Shape withTargetKind(@NotNull TargetKind targetKind) {
+            return new Shape( mappers, methodsPerMapper, properties, nestingDepth, targetKind );
+        }
+    }
+
+    private SyntheticProjectGenerator() {
+    }
+
+    /**
+     * @param shape the shape of the project
+     *
+     * @return the sources of the project, by their path relative to the source root
+     */
+    @NotNull
+    public static Map<String, String> generate(@NotNull Shape shape) {
+        return generate( shape, PACKAGE );
+    }
+
+    /**
+     * @param shape the shape of the project
+     * @param packageName the package of the generated classes, allows adding several projects to one fixture
+     *
+     * @return the sources of the project, by their path relative to the source root
+     */
+    @NotNull
+    public static Map<String, String> generate(@NotNull Shape shape, @NotNull String packageName) {
+        Map<String, String> files = new LinkedHashMap<>();
+        for ( int mapper = 0; mapper < shape.mappers(); mapper++ ) {
+            for ( int level = 0; level <= shape.nestingDepth(); level++ ) {
+                files.put(
+                    path( packageName, sourceName( mapper, level ) ),
+                    generateSource( shape, packageName, mapper, level )
+                );
+                files.put(
+                    path( packageName, targetName( mapper, level ) ),
+                    generateTarget( shape, packageName, mapper, level )
+                );
+            }
+            files.put( path( packageName, mapperName( mapper ) ), generateMapper( shape, packageName, mapper ) );
+        }
+        return files;
+    }
+
+    @NotNull
+    public static String path(@NotNull String className) {
+        return path( PACKAGE, className );
+    }
+
+    @NotNull
+    public static String path(@NotNull String packageName, @NotNull String className) {
+        return packageName.replace( '.', '/' ) + "/" + className + ".java";
+    }
+
+    @NotNull
+    public static String mapperName(int mapper) {
+        return "Mapper" + mapper;
+    }
+
+    @NotNull
+    public static String sourceName(int mapper, int level) {
+        return level == 0 ? "Source" + mapper : "Source" + mapper + "Level" + level;
+    }
+
+    @NotNull
+    public static String targetName(int mapper, int level) {
+        return level == 0 ? "Target" + mapper : "Target" + mapper + "Level" + level;
+    }
+
+    @NotNull
+    public static String property(int property) {
+        return "property" + property;
+    }
+
+    /**
+     * @param shape the shape of the project
+     * @param property the index of the property
+     *
+     * @return the path to the property in the deepest nested type, e.g. {@code nested.nested.property0}
+     */
+    @NotNull
+    public static String nestedPath(@NotNull Shape shape, int property) {
+        return "nested.".repeat( shape.nestingDepth() ) + property( property );
+    }
+
+    private static String generateSource(Shape shape, String packageName, int mapper, int level) {
+        String name = sourceName( mapper, level );
+        StringBuilder sb = header( packageName );
+        sb.append( "public class " ).append( name ).append( " {\n\n" );
+        for ( int property = 0; property < shape.properties(); property++ ) {
+            appendBeanProperty( sb, "String", property( property ) );
+        }
+        if ( level < shape.nestingDepth() ) {
+            appendBeanProperty( sb, sourceName( mapper, level + 1 ), "nested" );
+        }
+        return sb.append( "}\n" ).toString();
+    }
+
+    private static String generateTarget(Shape shape, String packageName, int mapper, int level) {
+        String name = targetName( mapper, level );
+        String nestedType = level < shape.nestingDepth() ? targetName( mapper, level + 1 ) : null;
+        return switch ( shape.targetKind() ) {
+            case BEAN -> generateBeanTarget( shape, packageName, name, nestedType );
+            case BUILDER -> generateBuilderTarget( shape, packageName, name, nestedType );
+            case RECORD -> generateRecordTarget( shape, packageName, name, nestedType );
+            case CONSTRUCTOR -> generateConstructorTarget( shape, packageName, name, nestedType );
+        };
+    }
+
+    private static String generateBeanTarget(Shape shape, String packageName, String name, String nestedType) {
+        StringBuilder sb = header( packageName );
+        sb.append( "public class " ).append( name ).append( " {\n\n" );
+        for ( int property = 0; property < shape.properties(); property++ ) {
+            appendBeanProperty( sb, "String", property( property ) );
+        }
+        if ( nestedType != null ) {
+            appendBeanProperty( sb, nestedType, "nested" );
+        }
+        return sb.append( "}\n" ).toString();
+    }
+
+    private static String generateBuilderTarget(Shape shape, String packageName, String name, String nestedType) {
+        StringBuilder fields = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        StringBuilder getters = new StringBuilder();
+        StringBuilder builderFields = new StringBuilder();
+        StringBuilder builderSetters = new StringBuilder();
+        for ( int property = 0; property <= shape.properties(); property++ ) {
+            boolean nested = property == shape.properties();
+            if ( nested && nestedType == null ) {
+                break;
+            }
+            String type = nested ? nestedType : "String";
+            String propertyName = nested ? "nested" : property( property );
+            fields.append( "    private final " ).append( type ).append( ' ' ).append( propertyName ).append( ";\n" );
+            assignments.append( "        this." ).append( propertyName ).append( " = builder." )
+                .append( propertyName ).append( ";\n" );
+            appendGetter( getters, type, propertyName );
+            builderFields.append( "        private " ).append( type ).append( ' ' ).append( propertyName )
+                .append( ";\n" );
+            builderSetters.append( "        public Builder " ).append( propertyName ).append( '(' ).append( type )
+                .append( ' ' ).append( propertyName ).append( ") {\n" )
+                .append( "            this." ).append( propertyName ).append( " = " ).append( propertyName )
+                .append( ";\n" )
+                .append( "            return this;\n" )
+                .append( "        }\n\n" );
+        }
+
+        StringBuilder sb = header( packageName );
+        sb.append( "public class " ).append( name ).append( " {\n\n" )
+            .append( fields ).append( '\n' )
+            .append( "    private " ).append( name ).append( "(Builder builder) {\n" )
+            .append( assignments )
+            .append( "    }\n\n" )
+            .append( getters )
+            .append( "    public static Builder builder() {\n" )
+            .append( "        return new Builder();\n" )
+            .append( "    }\n\n" )
+            .append( "    public static class Builder {\n\n" )
+            .append( builderFields ).append( '\n' )
+            .append( builderSetters )
+            .append( "        public " ).append( name ).append( " build() {\n" )
+            .append( "            return new " ).append( name ).append( "( this );\n" )
+            .append( "        }\n" )
+            .append( "    }\n" );
+        return sb.append( "}\n" ).toString();
+    }
+
+    private static String generateRecordTarget(Shape shape, String packageName, String name, String nestedType) {
+        StringBuilder sb = header( packageName );
+        sb.append( "public record " ).append( name ).append( '(' );
+        for ( int property = 0; property < shape.properties(); property++ ) {
+            if ( property > 0 ) {
+                sb.append( ", " );
+            }
+            sb.append( "String " ).append( property( property ) );
+        }
+        if ( nestedType != null ) {
+            sb.append( shape.properties() > 0 ? ", " : "" ).append( nestedType ).append( " nested" );
+        }
+        return sb.append( ") {\n}\n" ).toString();
+    }
+
+    private static String generateConstructorTarget(Shape shape, String packageName, String name, String nestedType) {
+        StringBuilder fields = new StringBuilder();
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        StringBuilder getters = new StringBuilder();
+        for ( int property = 0; property <= shape.properties(); property++ ) {
+            boolean nested = property == shape.properties();
+            if ( nested && nestedType == null ) {
+                break;
+            }
+            String type = nested ? nestedType : "String";
+            String propertyName = nested ? "nested" : property( property );
+            fields.append( "    private final " ).append( type ).append( ' ' ).append( propertyName ).append( ";\n" );
+            if ( parameters.length() > 0 ) {
+                parameters.append( ", " );
+            }
+            parameters.append( type ).append( ' ' ).append( propertyName );
+            assignments.append( "        this." ).append( propertyName ).append( " = " ).append( propertyName )
+                .append( ";\n" );
+            appendGetter( getters, type, propertyName );
+        }
+
+        StringBuilder sb = header( packageName );
+        sb.append( "public class " ).append( name ).append( " {\n\n" )
+            .append( fields ).append( '\n' )
+            .append( "    public " ).append( name ).append( '(' ).append( parameters ).append( ") {\n" )
+            .append( assignments )
+            .append( "    }\n\n" )
+            .append( getters );
+        return sb.append( "}\n" ).toString();
+    }
+
+    private static String generateMapper(Shape shape, String packageName, int mapper) {
+        StringBuilder sb = header( packageName );
+        sb.append( "import org.mapstruct.Mapper;\n" )
+            .append( "import org.mapstruct.Mapping;\n\n" )
+            .append( "@Mapper\n" )
+            .append( "public interface " ).append( mapperName( mapper ) ).append( " {\n\n" );
+        for ( int method = 0; method < shape.methodsPerMapper(); method++ ) {
+            int property = shape.properties() == 0 ? 0 : method % shape.properties();
+            if ( shape.properties() > 0 ) {
+                appendMapping( sb, property( property ), property( property ) );
+                if ( shape.nestingDepth() > 0 ) {
+                    appendMapping( sb, nestedPath( shape, property ), nestedPath( shape, property ) );
+                }
+            }
+            sb.append( "    " ).append( targetName( mapper, 0 ) ).append( " map" ).append( method )
+                .append( '(' ).append( sourceName( mapper, 0 ) ).append( " source);\n\n" );
+        }
+        return sb.append( "}\n" ).toString();
+    }
+
+    private static void appendMapping(StringBuilder sb, String target, String source) {
+        sb.append( "    @Mapping(target = \"" ).append( target ).append( "\", source = \"" ).append( source )
+            .append( "\")\n" );
+    }
+
+    private static void appendBeanProperty(StringBuilder sb, String type, String name) {
+        String capitalized = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+        sb.append( "    private " ).append( type ).append( ' ' ).append( name ).append( ";\n\n" )
+            .append( "    public " ).append( type ).append( " get" ).append( capitalized ).append( "() {\n" )
+            .append( "        return " ).append( name ).append( ";\n" )
+            .append( "    }\n\n" )
+            .append( "    public void set" ).append( capitalized ).append( '(' ).append( type ).append( ' ' )
+            .append( name ).append( ") {\n" )
+            .append( "        this." ).append( name ).append( " = " ).append( name ).append( ";\n" )
+            .append( "    }\n\n" );
+    }
+
+    private static void appendGetter(StringBuilder sb, String type, String name) {
+        String capitalized = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+        sb.append( "    public " ).append( type ).append( " get" ).append( capitalized ).append( "() {\n" )
+            .append( "        return " ).append( name ).append( ";\n" )
+            .append( "    }\n\n" );
+    }
+
+    private static StringBuilder header(String packageName) {
+        return new StringBuilder( "package " ).append( packageName ).append( ";\n\n" );
+    }
+}
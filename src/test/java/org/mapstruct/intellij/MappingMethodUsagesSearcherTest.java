@@ -0,0 +1,64 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij;
+
+import java.util.Collection;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.usageView.UsageInfo;
+import org.mapstruct.intellij.index.MappingPropertyIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the usages search of the {@link org.mapstruct.intellij.search.MappingMethodUsagesSearcher} is restricted
+ * to the files that mention the property in their mapping annotations.
+ */
+public class MappingMethodUsagesSearcherTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/usages";
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        // CarLabels mentions "name" and "color" in string literals, but it is not a mapping file
+        myFixture.copyDirectoryToProject( "MappingFiles", "" );
+    }
+
+    public void testUsagesInMappingFilesAreFound() {
+        Collection<UsageInfo> usages = myFixture.findUsages( findCarMethod( "getName" ) );
+
+        assertThat( usages ).hasSize( 1 );
+        UsageInfo usageInfo = usages.iterator().next();
+        assertThat( usageInfo.getVirtualFile() ).isNotNull();
+        assertThat( usageInfo.getVirtualFile().getName() ).isEqualTo( "CarMapper.java" );
+        assertThat( usageInfo.getElement() )
+            .isInstanceOfSatisfying( PsiLiteralExpression.class, expression ->
+                assertThat( expression.getValue() ).isEqualTo( "name" ) );
+    }
+
+    public void testNoUsagesWithoutMappingFileMentioningTheProperty() {
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+        assertThat( MappingPropertyIndex.getFilesWithProperty( "color", scope ) ).isEmpty();
+
+        Collection<UsageInfo> usages = myFixture.findUsages( findCarMethod( "getColor" ) );
+
+        assertThat( usages ).isEmpty();
+    }
+
+    private PsiMethod findCarMethod(String name) {
+        PsiClass carClass = myFixture.findClass( "org.example.Car" );
+        PsiMethod[] methods = carClass.findMethodsByName( name, false );
+        assertThat( methods ).hasSize( 1 );
+        return methods[0];
+    }
+}
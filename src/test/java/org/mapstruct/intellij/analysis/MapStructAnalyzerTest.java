@@ -0,0 +1,141 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.analysis;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.inspection.BaseInspectionTest;
+import org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection;
+import org.mapstruct.intellij.inspection.WrongUsageOfMappersFactoryInspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class MapStructAnalyzerTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<UnmappedTargetPropertiesInspection> getInspection() {
+        return UnmappedTargetPropertiesInspection.class;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections( getInspection(), WrongUsageOfMappersFactoryInspection.class );
+    }
+
+    public void testMappersAndMappersFactoryCallsAreAnalyzed() {
+        myFixture.copyDirectoryToProject( "MapStructAnalyzer", "" );
+
+        assertThat( MapStructAnalyzer.isMapStructOnClasspath( getProject() ) ).isTrue();
+        AnalysisResult result = MapStructAnalyzer.analyze( getProject(), 2, new EmptyProgressIndicator() );
+
+        assertThat( result.analyzedFiles() ).isEqualTo( 2 );
+        assertThat( result.hasErrors() ).isTrue();
+        List<AnalysisProblem> problems = result.problems();
+        assertThat( problems )
+            .extracting( AnalysisProblem::ruleId, AnalysisProblem::level, AnalysisProblem::message,
+                AnalysisProblem::line )
+            .containsExactly(
+                tuple( "UnmappedTargetProperties", AnalysisProblem.Level.ERROR, "Unmapped target property: seats", 14 ),
+                tuple( "WrongUsageOfMappersFactory", AnalysisProblem.Level.WARNING,
+                    "Using mappers factory for non mapstruct @Mapper", 12 )
+            );
+        assertThat( problems.get( 0 ).path() ).endsWith( "org/example/CarMapper.java" );
+        assertThat( problems.get( 1 ).path() ).endsWith( "org/example/CarService.java" );
+        assertThat( problems.get( 1 ).column() ).isEqualTo( 44 );
+    }
+
+    public void testProjectWithoutMappersAnalyzesNothing() {
+        myFixture.copyDirectoryToProject( "MapStructAnalyzerWithoutMappers", "" );
+
+        AnalysisResult result = MapStructAnalyzer.analyze( getProject(), 2, new EmptyProgressIndicator() );
+
+        assertThat( result.analyzedFiles() ).isZero();
+        assertThat( result.problems() ).isEmpty();
+        assertThat( result.hasErrors() ).isFalse();
+    }
+
+    public void testSarifReport() {
+        List<AnalysisProblem> problems = List.of( new AnalysisProblem(
+            "UnmappedTargetProperties",
+            "Unmapped target properties",
+            AnalysisProblem.Level.ERROR,
+            "Unmapped target property: seats",
+            "src/org/example/CarMapper.java",
+            6,
+            12
+        ) );
+        AnalysisResult analysisResult = new AnalysisResult( 1, "file:///work/project/", problems );
+
+        JsonObject sarif = JsonParser.parseString( AnalysisReportFormat.SARIF.write( analysisResult ) )
+            .getAsJsonObject();
+
+        assertThat( sarif.get( "version" ).getAsString() ).isEqualTo( "2.1.0" );
+        JsonObject run = sarif.getAsJsonArray( "runs" ).get( 0 ).getAsJsonObject();
+        JsonObject rule = run.getAsJsonObject( "tool" ).getAsJsonObject( "driver" ).getAsJsonArray( "rules" )
+            .get( 0 ).getAsJsonObject();
+        assertThat( rule.get( "id" ).getAsString() ).isEqualTo( "UnmappedTargetProperties" );
+        JsonObject result = run.getAsJsonArray( "results" ).get( 0 ).getAsJsonObject();
+        assertThat( result.get( "level" ).getAsString() ).isEqualTo( "error" );
+        JsonObject physicalLocation = result.getAsJsonArray( "locations" ).get( 0 ).getAsJsonObject()
+            .getAsJsonObject( "physicalLocation" );
+        JsonObject artifactLocation = physicalLocation.getAsJsonObject( "artifactLocation" );
+        assertThat( artifactLocation.get( "uri" ).getAsString() ).isEqualTo( "src/org/example/CarMapper.java" );
+        assertThat( artifactLocation.get( "uriBaseId" ).getAsString() ).isEqualTo( "%SRCROOT%" );
+        assertThat( run.getAsJsonObject( "originalUriBaseIds" ).getAsJsonObject( "%SRCROOT%" ).get( "uri" )
+            .getAsString() ).isEqualTo( "file:///work/project/" );
+        assertThat( physicalLocation.getAsJsonObject( "region" ).get( "startLine" ).getAsInt() ).isEqualTo( 6 );
+    }
+
+    public void testSarifReportOfFileOutsideOfProject() {
+        List<AnalysisProblem> problems = List.of( new AnalysisProblem(
+            "UnmappedTargetProperties",
+            "Unmapped target properties",
+            AnalysisProblem.Level.WARNING,
+            "Unmapped target property: seats",
+            "/work/shared/CarMapper.java",
+            6,
+            12
+        ) );
+        AnalysisResult analysisResult = new AnalysisResult( 1, null, problems );
+
+        JsonObject sarif = JsonParser.parseString( AnalysisReportFormat.SARIF.write( analysisResult ) )
+            .getAsJsonObject();
+
+        JsonObject run = sarif.getAsJsonArray( "runs" ).get( 0 ).getAsJsonObject();
+        assertThat( run.has( "originalUriBaseIds" ) ).isFalse();
+        JsonObject artifactLocation = run.getAsJsonArray( "results" ).get( 0 ).getAsJsonObject()
+            .getAsJsonArray( "locations" ).get( 0 ).getAsJsonObject()
+            .getAsJsonObject( "physicalLocation" ).getAsJsonObject( "artifactLocation" );
+        assertThat( artifactLocation.get( "uri" ).getAsString() ).isEqualTo( "file:///work/shared/CarMapper.java" );
+        assertThat( artifactLocation.has( "uriBaseId" ) ).isFalse();
+    }
+
+    public void testOptions() {
+        MapStructAnalyzeStarter.Options options = MapStructAnalyzeStarter.Options.parse(
+            List.of( "mapstruct-analyze", "project", "--threads=3", "--format=json", "--output=report.json" )
+        );
+
+        assertThat( options ).isNotNull();
+        assertThat( options.projectDirectory() ).isEqualTo( Paths.get( "project" ).toAbsolutePath() );
+        assertThat( options.threads() ).isEqualTo( 3 );
+        assertThat( options.format() ).isEqualTo( AnalysisReportFormat.JSON );
+        assertThat( options.output() ).isEqualTo( Paths.get( "report.json" ).toAbsolutePath() );
+
+        assertThat( MapStructAnalyzeStarter.Options.parse( List.of( "mapstruct-analyze" ) ) ).isNull();
+        assertThat( MapStructAnalyzeStarter.Options.parse( List.of( "mapstruct-analyze", "project", "--threads=0" ) ) )
+            .isNull();
+        assertThat( MapStructAnalyzeStarter.Options.parse( List.of( "mapstruct-analyze", "project", "--format=xml" ) ) )
+            .isNull();
+    }
+}
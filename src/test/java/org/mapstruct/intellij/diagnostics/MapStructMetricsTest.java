@@ -0,0 +1,57 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.diagnostics;
+
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapStructMetricsTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/diagnostics";
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            MapStructMetrics.setEnabled( false );
+            MapStructMetrics.reset();
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+
+    public void testMetricsArePerOperationAndMapper() {
+        myFixture.enableInspections( UnmappedTargetPropertiesInspection.class );
+        myFixture.copyDirectoryToProject( "MetricsPerOperationAndMapper", "" );
+        myFixture.configureFromTempProjectFile( "org/example/CarMapper.java" );
+
+        MapStructMetrics.setEnabled( true );
+        myFixture.doHighlighting();
+
+        String dump = MapStructMetrics.dump();
+        assertThat( dump )
+            .contains( "inspection.UnmappedTargetProperties" )
+            .contains( MapStructMetrics.WRITE_ACCESSORS )
+            .contains( MapStructMetrics.REFERENCE_RESOLVE )
+            .contains( "org.example.CarMapper" );
+    }
+
+    public void testNothingIsRecordedWhenDisabled() {
+        myFixture.enableInspections( UnmappedTargetPropertiesInspection.class );
+        configureByFile( "MetricsDisabled.java" );
+
+        myFixture.doHighlighting();
+
+        assertThat( MapStructMetrics.dump() )
+            .doesNotContain( "inspection.UnmappedTargetProperties" )
+            .doesNotContain( "org.example.CarMapper" );
+    }
+}
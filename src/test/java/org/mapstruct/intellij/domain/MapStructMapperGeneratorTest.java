@@ -0,0 +1,92 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.domain;
+
+import java.io.IOException;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.testutil.TestModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapStructMapperGeneratorTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/domain";
+    }
+
+    public void testExistingMappingMethodIsReused() throws IOException {
+        myFixture.copyDirectoryToProject( "ExistingMappingMethod", "" );
+        PsiClass carMapper = myFixture.findClass( "org.example.mapping.CarMapper" );
+        assertThat( carMapper.findFieldByName( "INSTANCE", false ) ).isNull();
+
+        PsiMethod method = generateMapperMethod( "org.example.Car", "org.example.CarDto" );
+
+        assertThat( method ).isNotNull();
+        assertThat( method.getName() ).isEqualTo( "toDto" );
+        assertThat( method.getContainingClass() ).isEqualTo( carMapper );
+        assertThat( carMapper.findFieldByName( "INSTANCE", false ) ).isNotNull();
+        assertThat( myFixture.getJavaFacade().findClass(
+            "org.example.assemblers.CarDtoAssembler",
+            GlobalSearchScope.allScope( getProject() )
+        ) ).isNull();
+    }
+
+    public void testMapperWithOtherComponentModelIsNotReused() throws IOException {
+        myFixture.copyDirectoryToProject( "MapperWithOtherComponentModel", "" );
+
+        PsiMethod method = generateMapperMethod( "org.example.Car", "org.example.CarDto" );
+
+        assertThat( method ).isNotNull();
+        assertThat( method.getContainingClass() ).isNotNull();
+        assertThat( method.getContainingClass().getQualifiedName() )
+            .isEqualTo( "org.example.assemblers.CarDtoAssembler" );
+        assertThat( myFixture.findClass( "org.example.mapping.CarMapper" ).findFieldByName( "INSTANCE", false ) )
+            .isNull();
+    }
+
+    public void testMapperOfModuleThatIsNotVisibleIsNotReused() throws IOException {
+        // the other module maps classes with the same names, but the main module does not depend on it
+        Module other =
+            TestModules.addModule( myFixture, getTestDataPath(), "other", "MapperInOtherModule/other" );
+        myFixture.copyDirectoryToProject( "MapperInOtherModule/main", "" );
+
+        PsiMethod method = generateMapperMethod( "org.example.Car", "org.example.CarDto" );
+
+        assertThat( method ).isNotNull();
+        assertThat( method.getContainingClass() ).isNotNull();
+        assertThat( method.getContainingClass().getQualifiedName() )
+            .isEqualTo( "org.example.assemblers.CarDtoAssembler" );
+        PsiClass otherMapper = myFixture.getJavaFacade()
+            .findClass( "org.example.mapping.CarMapper", other.getModuleScope() );
+        assertThat( otherMapper ).isNotNull();
+        assertThat( otherMapper.findFieldByName( "INSTANCE", false ) ).isNull();
+    }
+
+    private PsiMethod generateMapperMethod(String sourceType, String targetType) throws IOException {
+        GlobalSearchScope scope = GlobalSearchScope.moduleWithDependenciesAndLibrariesScope( myFixture.getModule() );
+        PsiElementFactory factory = JavaPsiFacade.getElementFactory( getProject() );
+        PsiClassType source = factory.createTypeByFQClassName( sourceType, scope );
+        PsiClassType target = factory.createTypeByFQClassName( targetType, scope );
+        PsiDirectory directory = myFixture.getPsiManager()
+            .findDirectory( myFixture.getTempDirFixture().findOrCreateDir( "org/example/assemblers" ) );
+        assertThat( directory ).isNotNull();
+
+        return WriteCommandAction.writeCommandAction( getProject() ).compute(
+            () -> new MapStructMapperGenerator( getProject(), directory ).generateMapperMethod( source, target )
+        );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.List;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.index.MapperIndexEntry.MappingMethodSignature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapperIndexTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/index";
+    }
+
+    public void testIndexMapperAndMapperConfig() {
+        // org.example.Mapper is an annotation with the same simple name as the MapStruct one
+        myFixture.copyDirectoryToProject( "MapperIndex", "" );
+
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+        assertThat( MapperIndex.getAllMapperNames( getProject() ) )
+            .contains( "org.example.CarMapper", "org.example.CentralConfig" )
+            .doesNotContain( "org.example.NotAMapStructMapper" );
+
+        List<MapperIndexEntry> configEntries = MapperIndex.getEntries( "org.example.CentralConfig", scope );
+        assertThat( configEntries ).hasSize( 1 );
+        assertThat( configEntries.get( 0 ).kind() ).isEqualTo( MapperIndexEntry.Kind.MAPPER_CONFIG );
+        assertThat( configEntries.get( 0 ).componentModel() ).isEqualTo( "spring" );
+
+        List<MapperIndexEntry> mapperEntries = MapperIndex.getEntries( "org.example.CarMapper", scope );
+        assertThat( mapperEntries ).hasSize( 1 );
+        MapperIndexEntry mapperEntry = mapperEntries.get( 0 );
+        assertThat( mapperEntry.kind() ).isEqualTo( MapperIndexEntry.Kind.MAPPER );
+        assertThat( mapperEntry.componentModel() ).isNull();
+        assertThat( mapperEntry.config() ).isEqualTo( "CentralConfig" );
+        assertThat( mapperEntry.uses() ).containsExactly( "Other", "java.util.UUID" );
+        assertThat( mapperEntry.imports() )
+            .containsExactly( "java.util.List", "org.mapstruct.Mapper", "org.mapstruct.MappingTarget" );
+        assertThat( mapperEntry.mappingMethods() ).containsExactly(
+            new MappingMethodSignature( "map", "CarDto", List.of( "Car" ), -1 ),
+            new MappingMethodSignature( "update", "void", List.of( "Car", "CarDto" ), 1 ),
+            new MappingMethodSignature( "mapAll", "List<CarDto>", List.of( "List<Car>" ), -1 )
+        );
+
+        assertThat( MapperIndex.findMapperClasses( getProject(), scope ) )
+            .extracting( PsiClass::getQualifiedName )
+            .containsExactly( "org.example.CarMapper" );
+        assertThat( MapperIndex.findMapperConfigClasses( getProject(), scope ) )
+            .extracting( PsiClass::getQualifiedName )
+            .containsExactly( "org.example.CentralConfig" );
+    }
+
+    public void testFindMappingMethodsByTypePair() {
+        myFixture.copyDirectoryToProject( "MapperIndexTypePair", "" );
+
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+        PsiElementFactory factory = JavaPsiFacade.getElementFactory( getProject() );
+        PsiClassType car = factory.createTypeByFQClassName( "org.example.Car", scope );
+        PsiClassType carDto = factory.createTypeByFQClassName( "org.example.CarDto", scope );
+
+        assertThat( MapperIndex.findMappingMethods( getProject(), car, carDto, scope ) )
+            .extracting( PsiMethod::getName )
+            .containsExactly( "map" );
+        assertThat( MapperIndex.findMappingMethods( getProject(), carDto, car, scope ) ).isEmpty();
+
+        PsiClassType cars = (PsiClassType) factory.createTypeFromText( "java.util.List<org.example.Car>", null );
+        PsiClassType carDtos = (PsiClassType) factory.createTypeFromText( "java.util.List<org.example.CarDto>", null );
+        assertThat( MapperIndex.findMappingMethods( getProject(), cars, carDtos, scope ) )
+            .extracting( PsiMethod::getName )
+            .containsExactly( "mapAll" );
+    }
+}
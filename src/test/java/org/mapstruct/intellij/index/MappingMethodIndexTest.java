@@ -0,0 +1,108 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.testutil.TestModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class MappingMethodIndexTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/index";
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.copyDirectoryToProject( "MappingMethodIndex", "" );
+    }
+
+    public void testEntriesAreKeyedByErasedTypes() {
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+
+        assertThat( MappingMethodIndex.getEntries( "Order", "OrderDto", scope ) )
+            .extracting( MappingMethodIndexEntry::name, MappingMethodIndexEntry::updateMethod )
+            .containsExactlyInAnyOrder(
+                tuple( "map", false ),
+                tuple( "map", false ),
+                tuple( "mapOther", false ),
+                tuple( "update", true )
+            );
+        assertThat( MappingMethodIndex.getEntries( "Customer", null, scope ) )
+            .extracting( MappingMethodIndexEntry::sourceTypes )
+            .containsExactly( List.of( "Order", "Customer" ) );
+        assertThat( MappingMethodIndex.getEntries( "String", null, scope ) ).isEmpty();
+        assertThat( MappingMethodIndex.getEntries( "List", "List", scope ) )
+            .extracting( MappingMethodIndexEntry::mapper, MappingMethodIndexEntry::iterable )
+            .containsExactly( tuple( "org.example.OrderMapper", true ) );
+        assertThat( MappingMethodIndex.getEntries( "Order[]", "OrderDto[]", scope ) )
+            .extracting( MappingMethodIndexEntry::name )
+            .containsExactly( "mapArray" );
+    }
+
+    public void testFindMappingMethods() {
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+        PsiElementFactory factory = JavaPsiFacade.getElementFactory( getProject() );
+        PsiClassType order = factory.createTypeByFQClassName( "org.example.Order", scope );
+        PsiClassType orderDto = factory.createTypeByFQClassName( "org.example.OrderDto", scope );
+        PsiClassType customer = factory.createTypeByFQClassName( "org.example.Customer", scope );
+
+        assertThat( MappingMethodIndex.findMappingMethods( getProject(), order, orderDto, scope ) )
+            .extracting( MappingMethodIndexTest::signature )
+            .containsExactlyInAnyOrder( "map(Order)", "map(Order,Customer,String)", "update(Order,OrderDto)" );
+        assertThat( MappingMethodIndex.findMappingMethods( getProject(), customer, null, scope ) )
+            .extracting( MappingMethodIndexTest::signature )
+            .containsExactly( "map(Order,Customer,String)" );
+        assertThat( MappingMethodIndex.findMappingMethods( getProject(), null, orderDto, scope ) )
+            .extracting( MappingMethodIndexTest::signature )
+            .containsExactlyInAnyOrder( "map(Order)", "map(Order,Customer,String)", "update(Order,OrderDto)" );
+        assertThat( MappingMethodIndex.findMappingMethods( getProject(), orderDto, order, scope ) ).isEmpty();
+    }
+
+    public void testMappingMethodsOfClassesWithTheSameNameInOtherModulesAreNotFound() throws IOException {
+        // the other module declares an org.example.OrderMapper that maps its own org.example.Order
+        TestModules.addModule( myFixture, getTestDataPath(), "other", "MappingMethodIndexOtherModule" );
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+        PsiElementFactory factory = JavaPsiFacade.getElementFactory( getProject() );
+        GlobalSearchScope moduleScope =
+            GlobalSearchScope.moduleWithDependenciesAndLibrariesScope( myFixture.getModule() );
+        PsiClassType order = factory.createTypeByFQClassName( "org.example.Order", moduleScope );
+        PsiClassType orderDto = factory.createTypeByFQClassName( "org.example.OrderDto", moduleScope );
+
+        assertThat( MappingMethodIndex.getEntries( "Order", "OrderDto", scope ) )
+            .extracting( MappingMethodIndexEntry::name )
+            .contains( "mapInOtherModule" );
+        assertThat( MappingMethodIndex.findMappingMethods( getProject(), order, orderDto, scope ) )
+            .extracting( MappingMethodIndexTest::signature )
+            .containsExactlyInAnyOrder( "map(Order)", "map(Order,Customer,String)", "update(Order,OrderDto)" );
+        assertThat( MappingMethodIndex.findMappingMethods( getProject(), order, orderDto, moduleScope ) )
+            .extracting( MappingMethodIndexTest::signature )
+            .containsExactlyInAnyOrder( "map(Order)", "map(Order,Customer,String)", "update(Order,OrderDto)" );
+    }
+
+    private static String signature(PsiMethod method) {
+        StringBuilder signature = new StringBuilder( method.getName() ).append( '(' );
+        for ( int i = 0; i < method.getParameterList().getParametersCount(); i++ ) {
+            if ( i > 0 ) {
+                signature.append( ',' );
+            }
+            signature.append( method.getParameterList().getParameters()[i].getType().getPresentableText() );
+        }
+        return signature.append( ')' ).toString();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.index;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappingPropertyIndexTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/index";
+    }
+
+    public void testOnlyFilesWithMappingAnnotationsAreCandidates() {
+        // Car mentions "name" in a string literal as well, but it has no mapping annotation
+        myFixture.copyDirectoryToProject( "MappingPropertyIndex", "" );
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+
+        assertThat( MappingPropertyIndex.getFilesWithProperty( "name", scope ) )
+            .extracting( VirtualFile::getName )
+            .containsExactly( "CarMapper.java" );
+        assertThat( MappingPropertyIndex.getFilesWithProperty( "owner", scope ) )
+            .extracting( VirtualFile::getName )
+            .containsExactly( "CarMapper.java" );
+        assertThat( MappingPropertyIndex.getFilesWithProperty( "toDto", scope ) ).isEmpty();
+    }
+}
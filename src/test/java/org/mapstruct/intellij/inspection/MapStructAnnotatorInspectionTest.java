@@ -0,0 +1,113 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.settings.ProjectSettings;
+import org.mapstruct.intellij.testutil.TestModules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MapStructAnnotatorInspectionTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<? extends LocalInspectionTool> getInspection() {
+        return MapStructAnnotatorInspection.class;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections( getInspection() );
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            ProjectSettings.setConverterSourcePackages( getProject(), "" );
+            ProjectSettings.setConverterTargetPackages( getProject(), "" );
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+
+    public void testConversionsAreDetected() {
+        configureByFile( "MapStructAnnotatorConversions.java" );
+
+        assertThat( conversionProblems() ).hasSize( 2 );
+    }
+
+    public void testVerdictIsUpdatedWhenTheHierarchyChanges() {
+        configureByFile( "MapStructAnnotatorHierarchyChange.java" );
+
+        assertThat( conversionProblems() ).hasSize( 2 );
+
+        PsiClass car = myFixture.findClass( "Car" );
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            PsiElementFactory factory = PsiElementFactory.getInstance( getProject() );
+            PsiJavaCodeReferenceElement reference = factory.createClassReferenceElement(
+                myFixture.findClass( "CarDto" )
+            );
+            car.getExtendsList().add( reference );
+        } );
+
+        assertThat( conversionProblems() ).isEmpty();
+    }
+
+    public void testOnlyConfiguredPackagesAreConsidered() {
+        myFixture.copyDirectoryToProject( "MapStructAnnotatorPackages", "" );
+        myFixture.configureFromTempProjectFile( "org/example/CarService.java" );
+
+        assertThat( conversionProblems() ).hasSize( 3 );
+
+        ProjectSettings.setConverterSourcePackages( getProject(), "..dto.." );
+        ProjectSettings.setConverterTargetPackages( getProject(), "org.example..entity" );
+
+        assertThat( conversionProblems() ).hasSize( 2 );
+    }
+
+    public void testVerdictIsNotSharedBetweenClassesWithTheSameNameInOtherModules() throws IOException {
+        // in the main module Car extends CarDto, in the other module the classes with the same names are unrelated
+        Module other =
+            TestModules.addModule( myFixture, getTestDataPath(), "other", "MapStructAnnotatorCrossModule/other" );
+        myFixture.copyDirectoryToProject( "MapStructAnnotatorCrossModule/main", "" );
+        myFixture.configureFromTempProjectFile( "org/example/CarService.java" );
+
+        assertThat( conversionProblems() ).isEmpty();
+
+        VirtualFile otherService = ModuleRootManager.getInstance( other ).getSourceRoots()[0]
+            .findFileByRelativePath( "org/example/CarService.java" );
+        assertThat( otherService ).isNotNull();
+        myFixture.configureFromExistingVirtualFile( otherService );
+
+        assertThat( conversionProblems() ).hasSize( 1 );
+    }
+
+    private List<HighlightInfo> conversionProblems() {
+        String description = MapStructBundle.message(
+            "inspection.generate_mapstruct_class_and_use_it.problem.descriptor"
+        );
+        return myFixture.doHighlighting()
+            .stream()
+            .filter( info -> description.equals( info.getDescription() ) )
+            .toList();
+    }
+}
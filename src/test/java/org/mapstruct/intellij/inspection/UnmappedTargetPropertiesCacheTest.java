@@ -0,0 +1,98 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.List;
+import java.util.Set;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import org.jetbrains.annotations.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UnmappedTargetPropertiesCacheTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<UnmappedTargetPropertiesInspection> getInspection() {
+        return UnmappedTargetPropertiesInspection.class;
+    }
+
+    public void testEditOfOneMethodKeepsTheResultOfTheOtherMethods() {
+        myFixture.copyDirectoryToProject( "UnmappedTargetPropertiesCache", "" );
+        PsiClass mapper = myFixture.findClass( "org.example.VehicleMapper" );
+        PsiMethod toCarDto = mapper.findMethodsByName( "toCarDto", false )[0];
+        PsiMethod toTruckDto = mapper.findMethodsByName( "toTruckDto", false )[0];
+
+        Set<String> carUnmapped = unmappedTargetProperties( toCarDto );
+        Set<String> truckUnmapped = unmappedTargetProperties( toTruckDto );
+        assertThat( carUnmapped ).containsExactly( "seats" );
+        assertThat( truckUnmapped ).containsExactly( "wheels" );
+
+        replace(
+            mapper.getContainingFile(),
+            "    TruckDto toTruckDto",
+            "    @org.mapstruct.Mapping(target = \"wheels\", ignore = true)\n    TruckDto toTruckDto"
+        );
+
+        assertThat( toCarDto.isValid() ).isTrue();
+        assertThat( unmappedTargetProperties( toCarDto ) ).isSameAs( carUnmapped );
+        PsiMethod editedTruckMethod = mapper.findMethodsByName( "toTruckDto", false )[0];
+        assertThat( unmappedTargetProperties( editedTruckMethod ) ).isEmpty();
+
+        PsiClass carDto = myFixture.findClass( "org.example.CarDto" );
+        replace( carDto.getContainingFile(), "    public void setSeats(int seats) {\n    }\n", "" );
+
+        assertThat( unmappedTargetProperties( toCarDto ) ).isEmpty();
+    }
+
+    public void testEditOfNestedComposedAnnotationUpdatesTheWarning() {
+        // CarMapper#toDto is annotated with @CarMappings, which is meta annotated with @IgnoreProperty
+        myFixture.copyDirectoryToProject( "UnmappedTargetPropertiesCacheMetaAnnotation", "" );
+        myFixture.configureFromTempProjectFile( "org/example/CarMapper.java" );
+        myFixture.enableInspections( getInspection() );
+
+        assertThat( unmappedTargetPropertyWarnings() ).containsExactly( "Unmapped target property: color" );
+
+        PsiClass ignoreProperty = myFixture.findClass( "org.example.IgnoreProperty" );
+        replace( ignoreProperty.getContainingFile(), "target = \"seats\"", "target = \"color\"" );
+
+        assertThat( unmappedTargetPropertyWarnings() ).containsExactly( "Unmapped target property: seats" );
+    }
+
+    private List<String> unmappedTargetPropertyWarnings() {
+        return myFixture.doHighlighting( HighlightSeverity.WARNING )
+            .stream()
+            .map( HighlightInfo::getDescription )
+            .filter( description -> description != null && description.startsWith( "Unmapped target propert" ) )
+            .toList();
+    }
+
+    private static Set<String> unmappedTargetProperties(PsiMethod method) {
+        MappingMethodModel mappingMethod = MapperModel.findMappingMethod( method );
+        assertThat( mappingMethod ).isNotNull();
+        return mappingMethod.getUnmappedTargetProperties();
+    }
+
+    private void replace(PsiFile file, String text, String replacement) {
+        PsiDocumentManager documentManager = PsiDocumentManager.getInstance( getProject() );
+        Document document = documentManager.getDocument( file );
+        assertThat( document ).isNotNull();
+        int offset = document.getText().indexOf( text );
+        assertThat( offset ).isNotNegative();
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> {
+            document.replaceString( offset, offset + text.length(), replacement );
+            documentManager.commitDocument( document );
+        } );
+    }
+}
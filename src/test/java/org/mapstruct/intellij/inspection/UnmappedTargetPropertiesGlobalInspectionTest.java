@@ -0,0 +1,49 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.inspection;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.ex.GlobalInspectionToolWrapper;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.testFramework.InspectionTestUtil;
+import com.intellij.testFramework.InspectionsKt;
+import com.intellij.testFramework.fixtures.impl.GlobalInspectionContextForTests;
+import org.jetbrains.annotations.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UnmappedTargetPropertiesGlobalInspectionTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<UnmappedTargetPropertiesInspection> getInspection() {
+        return UnmappedTargetPropertiesInspection.class;
+    }
+
+    public void testMappersOfTheScopeAreFoundThroughTheIndex() {
+        // the scope is the cars package, the truck mapper has an unmapped target property as well
+        myFixture.copyDirectoryToProject( "UnmappedTargetPropertiesGlobal", "" );
+        PsiDirectory cars = myFixture.findClass( "org.example.cars.CarService" ).getContainingFile()
+            .getContainingDirectory();
+
+        GlobalInspectionToolWrapper toolWrapper =
+            new GlobalInspectionToolWrapper( new UnmappedTargetPropertiesGlobalInspection() );
+        AnalysisScope scope = new AnalysisScope( cars );
+        GlobalInspectionContextForTests globalContext =
+            InspectionsKt.createGlobalContextForTool( scope, getProject(), List.of( toolWrapper ) );
+        InspectionTestUtil.runTool( toolWrapper, scope, globalContext );
+
+        Collection<CommonProblemDescriptor> problems =
+            globalContext.getPresentation( toolWrapper ).getProblemDescriptors();
+        assertThat( problems )
+            .extracting( CommonProblemDescriptor::getDescriptionTemplate )
+            .containsExactly( "Unmapped target property: seats" );
+    }
+}
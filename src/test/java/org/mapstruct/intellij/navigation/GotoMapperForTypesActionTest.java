@@ -0,0 +1,34 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.navigation;
+
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMethod;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GotoMapperForTypesActionTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/navigation";
+    }
+
+    public void testMappingMethodsForTypesAtCaret() {
+        myFixture.copyDirectoryToProject( "GotoMapperForTypes", "" );
+        PsiFile service = myFixture.findClass( "org.example.OrderService" ).getContainingFile();
+        String text = service.getText();
+
+        assertThat( GotoMapperForTypesAction.findMappingMethods( service, text.indexOf( "order;" ) ) )
+            .extracting( PsiMethod::getName )
+            .containsExactly( "toDto" );
+        assertThat( GotoMapperForTypesAction.findMappingMethods( service, text.indexOf( "Order order" ) ) )
+            .extracting( PsiMethod::getName )
+            .containsExactlyInAnyOrder( "toDto", "toInvoice" );
+        assertThat( GotoMapperForTypesAction.findMappingMethods( service, text.indexOf( "\"order\"" ) ) ).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.quickfix;
+
+import java.util.Map;
+
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiFile;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.inspection.MapStructAnnotatorInspection;
+import org.mapstruct.intellij.settings.ProjectSettings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConverterPackageResolverTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/quickfix";
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            ProjectSettings.setConverterPackage( getProject(), ProjectSettings.DEFAULT_CONVERTER_PACKAGE );
+            ProjectSettings.setModuleConverterPackages( getProject(), Map.of() );
+        }
+        finally {
+            super.tearDown();
+        }
+    }
+
+    public void testRootPackageIsTheShallowestPackageWithJavaFiles() {
+        myFixture.copyDirectoryToProject( "ConverterRootPackage", "" );
+        PsiFile file = myFixture.findClass( "org.example.app.service.CarService" ).getContainingFile();
+
+        PsiDirectory rootPackage = ConverterPackageResolver.findRootPackageDirectory( file );
+
+        assertThat( rootPackage ).isNotNull();
+        assertThat( rootPackage.getVirtualFile().getPath() ).endsWith( "org/example/app" );
+        assertThat( ConverterPackageResolver.getConverterPackage( file ) ).isEqualTo( "assemblers" );
+    }
+
+    public void testGeneratedMapperIsCreatedInTheModulePackage() {
+        myFixture.copyDirectoryToProject( "ConverterPackage", "" );
+        ProjectSettings.setConverterPackage( getProject(), "mappers" );
+        ProjectSettings.setModuleConverterPackages(
+            getProject(),
+            Map.of( myFixture.getModule().getName(), "mapping.generated" )
+        );
+
+        generateConverter();
+
+        assertThat( myFixture.findClass( "org.example.mapping.generated.CarDtoAssembler" ) ).isNotNull();
+    }
+
+    public void testGeneratedMapperIsCreatedInTheProjectPackageWithoutModulePackage() {
+        // only another module has its own package, the module of the fixture falls back to the project package
+        myFixture.copyDirectoryToProject( "ConverterPackage", "" );
+        ProjectSettings.setConverterPackage( getProject(), "mappers" );
+        ProjectSettings.setModuleConverterPackages( getProject(), Map.of( "other", "mapping.generated" ) );
+        PsiFile service = myFixture.findClass( "org.example.CarService" ).getContainingFile();
+
+        assertThat( ConverterPackageResolver.getConverterPackage( service ) ).isEqualTo( "mappers" );
+
+        generateConverter();
+
+        assertThat( myFixture.findClass( "org.example.mappers.CarDtoAssembler" ) ).isNotNull();
+    }
+
+    private void generateConverter() {
+        myFixture.enableInspections( MapStructAnnotatorInspection.class );
+        myFixture.configureFromTempProjectFile( "org/example/CarService.java" );
+        myFixture.getEditor().getCaretModel().moveToOffset( myFixture.getFile().getText().indexOf( "car;" ) );
+
+        myFixture.launchAction( myFixture.getAvailableIntention( MapStructBundle.message(
+            "inspection.generate_mapstruct_class_and_use_it.problem.quickfix"
+        ) ) );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.quickfix;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiFile;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GenerateMapStructConvertersActionTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/quickfix";
+    }
+
+    public void testAllConversionsOfTheFileAreGeneratedAtOnce() {
+        myFixture.copyDirectoryToProject( "GenerateConvertersFile", "" );
+        PsiFile service = myFixture.findClass( "org.example.CarService" ).getContainingFile();
+
+        new GenerateMapStructConvertersAction().analyze( getProject(), new AnalysisScope( service ) );
+
+        assertThat( service.getText() )
+            .contains( "return CarDtoAssembler.INSTANCE.convert(car);" )
+            .contains( "last = CarDtoAssembler.INSTANCE.convert(car);" )
+            .contains( "import org.example.assemblers.CarDtoAssembler;" )
+            .contains( "return \"car\";" );
+
+        PsiClass assembler = myFixture.findClass( "org.example.assemblers.CarDtoAssembler" );
+        assertThat( assembler.findMethodsByName( "convert", false ) ).hasSize( 1 );
+    }
+
+    public void testAllFilesOfThePackageShareTheGeneratedMappers() {
+        // the service package is converted, the other package is not part of the scope
+        myFixture.copyDirectoryToProject( "GenerateConvertersPackage", "" );
+        PsiFile carService = myFixture.findClass( "org.example.service.CarService" ).getContainingFile();
+        PsiFile fleetService = myFixture.findClass( "org.example.service.FleetService" ).getContainingFile();
+        PsiFile otherService = myFixture.findClass( "org.example.other.OtherService" ).getContainingFile();
+        PsiDirectory servicePackage = carService.getContainingDirectory();
+
+        new GenerateMapStructConvertersAction().analyze( getProject(), new AnalysisScope( servicePackage ) );
+
+        assertThat( carService.getText() )
+            .contains( "return CarDtoAssembler.INSTANCE.convert(car);" )
+            .contains( "import org.example.assemblers.CarDtoAssembler;" );
+        assertThat( fleetService.getText() )
+            .contains( "return CarDtoAssembler.INSTANCE.convert(car);" )
+            .contains( "return TruckDtoAssembler.INSTANCE.convert(truck);" )
+            .contains( "import org.example.assemblers.CarDtoAssembler;" )
+            .contains( "import org.example.assemblers.TruckDtoAssembler;" );
+        assertThat( otherService.getText() )
+            .contains( "return car;" )
+            .doesNotContain( "CarDtoAssembler" );
+
+        PsiClass carAssembler = myFixture.findClass( "org.example.assemblers.CarDtoAssembler" );
+        assertThat( carAssembler.findMethodsByName( "convert", false ) ).hasSize( 1 );
+        PsiClass truckAssembler = myFixture.findClass( "org.example.assemblers.TruckDtoAssembler" );
+        assertThat( truckAssembler.findMethodsByName( "convert", false ) ).hasSize( 1 );
+    }
+}
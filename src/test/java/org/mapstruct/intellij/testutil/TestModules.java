@@ -0,0 +1,92 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.intellij.testutil;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.intellij.openapi.application.WriteAction;
+import com.intellij.openapi.module.JavaModuleType;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.ModuleRootModificationUtil;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.testFramework.fixtures.CodeInsightTestFixture;
+import com.intellij.util.PathUtil;
+import org.jetbrains.annotations.NotNull;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Adds modules to the light project of a test, for the tests that need classes with the same fully qualified name in
+ * modules that do not depend on each other.
+ */
+public final class TestModules {
+
+    private static final String BUILD_LIBS_DIRECTORY = "build/libs";
+
+    private TestModules() {
+    }
+
+    /**
+     * Add a module next to the module of the fixture, with the MapStruct library and a copy of the test data
+     * {@code directory} as its source root. The module is removed together with the project disposable of the
+     * fixture, so that it does not leak into the next tests that reuse the light project, even if the test fails.
+     *
+     * @param fixture the fixture of the test
+     * @param testDataPath the test data path of the test
+     * @param name the name of the module
+     * @param directory the directory, relative to the test data path, with the sources of the module
+     *
+     * @return the added module
+     */
+    @NotNull
+    public static Module addModule(@NotNull CodeInsightTestFixture fixture, @NotNull String testDataPath,
+                                   @NotNull String name, @NotNull String directory) throws IOException {
+        VirtualFile sources = LocalFileSystem.getInstance().refreshAndFindFileByPath(
+            PathUtil.toSystemIndependentName( new File( testDataPath, directory ).getAbsolutePath() )
+        );
+        assertThat( sources ).as( "Test data directory " + directory ).isNotNull();
+        VirtualFile tempRoot = VirtualFileManager.getInstance().findFileByUrl( "temp:///" );
+        assertThat( tempRoot ).isNotNull();
+        VirtualFile root = WriteAction.computeAndWait( () -> {
+            VirtualFile moduleRoot = tempRoot.createChildDirectory( TestModules.class, name );
+            VfsUtil.copyDirectory( TestModules.class, sources, moduleRoot, null );
+            return moduleRoot;
+        } );
+
+        Module module = PsiTestUtil.addModule( fixture.getProject(), JavaModuleType.getModuleType(), name, root );
+        Disposer.register( fixture.getProjectDisposable(), () -> WriteAction.runAndWait( () -> {
+            if ( !module.isDisposed() ) {
+                ModuleManager.getInstance( fixture.getProject() ).disposeModule( module );
+            }
+            if ( root.isValid() ) {
+                root.delete( TestModules.class );
+            }
+        } ) );
+
+        ModuleRootModificationUtil.setModuleSdk(
+            module,
+            ModuleRootManager.getInstance( fixture.getModule() ).getSdk()
+        );
+        String mapstructLibPath = PathUtil.toSystemIndependentName( new File( BUILD_LIBS_DIRECTORY )
+            .getAbsolutePath() );
+        PsiTestUtil.addLibrary(
+            fixture.getProjectDisposable(),
+            module,
+            "Mapstruct",
+            mapstructLibPath,
+            "mapstruct.jar"
+        );
+        return module;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example.mapping;
+
+import org.example.Car;
+import org.example.CarDto;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface CarMapper {
+
+    CarDto toDto(Car car);
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = CentralConfig.class, uses = { Other.class, java.util.UUID.class })
+public interface CarMapper {
+
+    CarDto map(Car car);
+
+    void update(Car car, @MappingTarget CarDto carDto);
+
+    List< CarDto > mapAll(List<Car> cars);
+
+    default String text(Car car) {
+        return car.getMake();
+    }
+}
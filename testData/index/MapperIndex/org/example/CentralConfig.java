@@ -0,0 +1,12 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+import org.mapstruct.MapperConfig;
+
+@MapperConfig(componentModel = "spring")
+public interface CentralConfig {
+}
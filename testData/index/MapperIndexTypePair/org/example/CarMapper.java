@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface CarMapper {
+
+    CarDto map(Car car);
+
+    org.example.other.CarDto mapOther(Car car);
+
+    void update(Car car, @MappingTarget CarDto carDto);
+
+    List<CarDto> mapAll(List<Car> cars);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+import java.util.List;
+
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper
+public interface OrderMapper {
+
+    OrderDto map(Order order);
+
+    OrderDto map(Order order, Customer customer, @Context String locale);
+
+    org.example.other.OrderDto mapOther(Order order);
+
+    void update(Order order, @MappingTarget OrderDto orderDto);
+
+    List<OrderDto> mapAll(List<Order> orders);
+
+    OrderDto[] mapArray(Order... orders);
+
+    default OrderDto manual(Order order) {
+        return null;
+    }
+}
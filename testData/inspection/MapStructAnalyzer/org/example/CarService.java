@@ -0,0 +1,13 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+import org.mapstruct.factory.Mappers;
+
+public class CarService {
+
+    private final CarAssembler assembler = Mappers.getMapper( CarAssembler.class );
+}
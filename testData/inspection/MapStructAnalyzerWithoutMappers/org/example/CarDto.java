@@ -0,0 +1,15 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+public class CarDto {
+
+    public void setMake(String make) {
+    }
+
+    public void setSeats(int seats) {
+    }
+}
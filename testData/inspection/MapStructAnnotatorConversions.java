@@ -0,0 +1,36 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+
+import java.util.List;
+
+class Car {
+}
+
+class CarDto {
+}
+
+class CarService {
+
+    CarDto single(Car car) {
+        return car;
+    }
+
+    List<CarDto> list(List<Car> cars) {
+        return cars;
+    }
+
+    String text(Car car) {
+        return car;
+    }
+
+    Car same(Car car) {
+        return car;
+    }
+
+    List<CarDto> mixed(Car car) {
+        return car;
+    }
+}
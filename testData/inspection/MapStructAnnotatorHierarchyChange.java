@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+
+class Car {
+}
+
+class CarDto {
+}
+
+class CarService {
+
+    CarDto single(Car car) {
+        return car;
+    }
+
+    CarDto other(Car car) {
+        CarDto dto = car;
+        return dto;
+    }
+}
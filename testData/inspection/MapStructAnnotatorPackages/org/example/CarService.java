@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+import org.example.dto.CarDto;
+import org.example.entity.Car;
+import org.example.other.Truck;
+
+public class CarService {
+
+    CarDto toDto(Car car) {
+        return car;
+    }
+
+    Car toEntity(CarDto dto) {
+        return dto;
+    }
+
+    Truck toTruck(CarDto dto) {
+        return dto;
+    }
+}
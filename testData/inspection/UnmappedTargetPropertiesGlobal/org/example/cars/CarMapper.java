@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example.cars;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper
+public interface CarMapper {
+
+    CarDto toDto(Car car);
+
+    @Mapping(target = "seats", ignore = true)
+    CarDto toDtoWithoutSeats(Car car);
+
+    @SuppressWarnings("UnmappedTargetProperties")
+    CarDto toSuppressedDto(Car car);
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example.trucks;
+
+public class TruckDto {
+
+    public void setWheels(int wheels) {
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example.trucks;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface TruckMapper {
+
+    TruckDto toDto(Truck truck);
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+public class OrderService {
+
+    OrderDto find(Order order) {
+        return order;
+    }
+
+    String name(Order order) {
+        return "order";
+    }
+}
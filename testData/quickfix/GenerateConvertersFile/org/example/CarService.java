@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example;
+
+public class CarService {
+
+    private CarDto last;
+
+    CarDto map(Car car) {
+        return car;
+    }
+
+    void remember(Car car) {
+        last = car;
+    }
+
+    String name(Car car) {
+        return "car";
+    }
+}
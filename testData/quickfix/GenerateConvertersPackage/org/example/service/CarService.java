@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example.service;
+
+import org.example.Car;
+import org.example.CarDto;
+
+public class CarService {
+
+    CarDto map(Car car) {
+        return car;
+    }
+}
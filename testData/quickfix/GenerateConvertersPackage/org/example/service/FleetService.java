@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at https://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.example.service;
+
+import org.example.Car;
+import org.example.CarDto;
+import org.example.Truck;
+import org.example.TruckDto;
+
+public class FleetService {
+
+    CarDto mapCar(Car car) {
+        return car;
+    }
+
+    TruckDto mapTruck(Truck truck) {
+        return truck;
+    }
+}